@@ -0,0 +1,107 @@
+package com.univ.market.security;
+
+import com.univ.market.domain.User;
+import com.univ.market.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * 요청당 토큰 검증 비용을 비교하는 벤치마크
+ * 이전 방식(요청마다 파서를 두 번 만들어 검증과 인증 정보 추출에서 각각 파싱)과
+ * 공유 파서로 한 번 파싱하는 방식(캐시에 없는 토큰), 검증된 토큰 캐시를 사용하는 방식을 비교합니다.
+ * ./gradlew jmh 로 실행합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+    
+    private static final String SECRET = "benchmark-secret-key-for-jwt-token-provider-0123456789";
+    
+    private Key key;
+    
+    private JwtParser sharedParser;
+    
+    private JwtTokenProvider jwtTokenProvider;
+    
+    private String token;
+    
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        sharedParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        
+        jwtTokenProvider = new JwtTokenProvider(new TokenVersionRegistry(mock(UserRepository.class), 3600));
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "tokenValidityInSeconds", 3600L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "authenticationCacheMaximumSize", 100L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "authenticationCacheMaxTtlSeconds", 600L);
+        jwtTokenProvider.init();
+        token = jwtTokenProvider.createToken(User.builder().id(42L).build());
+    }
+    
+    /**
+     * 이전 방식: validateToken과 getAuthentication이 각각 새 파서를 만들어 토큰을 파싱
+     * (이전 방식의 요청당 사용자 조회는 DB 비용이므로 포함하지 않음)
+     */
+    @Benchmark
+    public Long doubleParse() {
+        Jws<Claims> claims = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token);
+        if (claims.getBody().getExpiration().before(new Date())) {
+            return null;
+        }
+        
+        String userIdStr = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+        return Long.parseLong(userIdStr);
+    }
+    
+    /**
+     * 캐시에 없는 토큰의 처리 방식: 공유 파서로 한 번 파싱하여 서명, 만료, 사용자 ID를 함께 확인
+     */
+    @Benchmark
+    public Long singleParse() {
+        return Long.parseLong(sharedParser.parseClaimsJws(token).getBody().getSubject());
+    }
+    
+    /**
+     * 현재 방식: 검증된 토큰 캐시에서 인증 정보 조회
+     */
+    @Benchmark
+    public Object cached() {
+        return jwtTokenProvider.authenticate(token).getPrincipal();
+    }
+}
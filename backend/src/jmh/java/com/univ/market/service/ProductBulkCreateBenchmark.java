@@ -0,0 +1,113 @@
+package com.univ.market.service;
+
+import com.univ.market.UnivMarketApplication;
+import com.univ.market.domain.User;
+import com.univ.market.dto.request.ProductRequest;
+import com.univ.market.repository.CategoryRepository;
+import com.univ.market.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 일괄 등록(JDBC 배치)과 건별 등록의 소요 시간을 비교하는 벤치마크
+ * 건별 등록은 실제 API와 같이 상품마다 createProduct 트랜잭션 하나씩 커밋합니다.
+ * H2 인메모리 DB로 애플리케이션을 띄워 실행하며, ./gradlew jmh 로 실행합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductBulkCreateBenchmark {
+    
+    private static final int PRODUCT_COUNT = 100;
+    
+    private static final int IMAGES_PER_PRODUCT = 3;
+    
+    private ConfigurableApplicationContext context;
+    
+    private ProductService productService;
+    
+    private Long sellerId;
+    
+    private List<ProductRequest> requests;
+    
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(UnivMarketApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:bulk-create-benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "chat.broker.mode=simple")
+                .run();
+        productService = context.getBean(ProductService.class);
+        sellerId = context.getBean(UserRepository.class).save(User.builder()
+                .email("club@snu.ac.kr")
+                .nickname("club")
+                .universityName("서울대학교")
+                .build()).getId();
+        Long categoryId = context.getBean(CategoryRepository.class).findAll().get(0).getId();
+        
+        requests = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            ProductRequest request = new ProductRequest();
+            request.setTitle("전공 서적 " + i);
+            request.setDescription("졸업 정리 도서입니다");
+            request.setPrice(5000 + i);
+            request.setCategoryId(categoryId);
+            List<String> imageUrls = new ArrayList<>();
+            for (int j = 0; j < IMAGES_PER_PRODUCT; j++) {
+                imageUrls.add("https://img/" + i + "/" + j + ".jpg");
+            }
+            request.setImageUrls(imageUrls);
+            requests.add(request);
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    /**
+     * 상품마다 등록 요청 하나 (상품마다 트랜잭션 하나)
+     */
+    @Benchmark
+    public int perItemCreate() {
+        int created = 0;
+        for (ProductRequest request : requests) {
+            productService.createProduct(request, sellerId);
+            created++;
+        }
+        return created;
+    }
+    
+    /**
+     * 일괄 등록 요청 하나 (트랜잭션 하나, JDBC 배치 두 번)
+     */
+    @Benchmark
+    public List<Long> bulkCreate() {
+        return productService.createProducts(requests, sellerId);
+    }
+}
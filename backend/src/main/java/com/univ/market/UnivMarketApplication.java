@@ -3,6 +3,7 @@ package com.univ.market;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * 대학마켓 애플리케이션의 메인 클래스
@@ -13,9 +14,11 @@ import org.springframework.scheduling.annotation.EnableAsync;
  *   - @ComponentScan: 애플리케이션 컴포넌트를 스캔하는 위치를 지정합니다.
  * 
  * @EnableAsync: 비동기 메서드 실행을 활성화합니다. 이메일 전송과 같은 작업에 사용됩니다.
+ * @EnableScheduling: @Scheduled 주기 작업을 활성화합니다. 인증 코드 만료, 토큰 버전 갱신과 같은 작업에 사용됩니다.
  */
 @SpringBootApplication
 @EnableAsync
+@EnableScheduling
 public class UnivMarketApplication {
 
 	/**
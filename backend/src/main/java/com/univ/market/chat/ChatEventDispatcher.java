@@ -0,0 +1,129 @@
+package com.univ.market.chat;
+
+import com.univ.market.dto.response.ChatEventResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입력 중 표시 등 저장하지 않는 채팅방 이벤트를 구독자에게 전달하는 컴포넌트
+ * DB를 거치지 않고 메모리에서만 처리합니다.
+ * 
+ * 사용자별로 채팅방마다 minInterval에 한 번만 전달하며, 그 사이에 들어온 이벤트는 마지막 것 하나로 합쳐
+ * 구간이 끝날 때 전달합니다. (예: 입력 중 → 입력 중단이 연달아 오면 입력 중단만 전달)
+ * 채팅방 참여자는 두 명이므로 채팅방 하나의 이벤트는 구간마다 최대 두 건입니다.
+ */
+@Component
+public class ChatEventDispatcher {
+    
+    private final SimpMessageSendingOperations messagingTemplate;
+    
+    private final long minIntervalMillis;
+    
+    /**
+     * 전달 구간이 진행 중인 (채팅방, 사용자)별 상태 (키: "채팅방ID:사용자ID")
+     */
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    
+    /**
+     * 구간 종료 예약용 스케줄러 ((채팅방, 사용자)마다 구간이 끝나는 시각에 한 번씩 실행)
+     */
+    private ScheduledExecutorService scheduler;
+    
+    public ChatEventDispatcher(SimpMessageSendingOperations messagingTemplate,
+                               @Value("${chat.events.min-interval-ms}") long minIntervalMillis) {
+        this.messagingTemplate = messagingTemplate;
+        this.minIntervalMillis = minIntervalMillis;
+    }
+    
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * 이벤트를 전달하는 메서드
+     * 전달 구간 밖이면 바로 전달하고, 구간 안이면 마지막 이벤트로 보관했다가 구간이 끝날 때 전달합니다.
+     * 
+     * @param membership 이벤트를 보낸 사용자의 채팅방 참여 정보
+     * @param type 이벤트 종류
+     */
+    public void publish(ChatRoomMembership membership, ChatEventType type) {
+        if (type == null) {
+            throw new IllegalArgumentException("이벤트 종류를 입력해주세요.");
+        }
+        
+        ChatEventResponse event = ChatEventResponse.builder()
+                .chatRoomId(membership.getChatRoomId())
+                .userId(membership.getUserId())
+                .type(type)
+                .occurredAt(LocalDateTime.now())
+                .build();
+        String key = membership.getChatRoomId() + ":" + membership.getUserId();
+        
+        boolean[] opened = new boolean[1];
+        windows.compute(key, (k, window) -> {
+            if (window == null) {
+                opened[0] = true;
+                return new Window();
+            }
+            window.latest = event;
+            return window;
+        });
+        
+        if (opened[0]) {
+            send(event);
+            scheduler.schedule(() -> closeWindow(key), minIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+    
+    /**
+     * 전달 구간이 끝났을 때 호출되는 메서드
+     * 구간 동안 들어온 이벤트가 있으면 마지막 것을 전달하고 새 구간을 시작하며, 없으면 상태를 제거합니다.
+     */
+    private void closeWindow(String key) {
+        ChatEventResponse[] pending = new ChatEventResponse[1];
+        windows.computeIfPresent(key, (k, window) -> {
+            if (window.latest == null) {
+                return null;
+            }
+            pending[0] = window.latest;
+            window.latest = null;
+            return window;
+        });
+        
+        if (pending[0] != null) {
+            send(pending[0]);
+            scheduler.schedule(() -> closeWindow(key), minIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    private void send(ChatEventResponse event) {
+        messagingTemplate.convertAndSend("/topic/chat/" + event.getChatRoomId() + "/events", event);
+    }
+    
+    private static final class Window {
+        /**
+         * 구간 동안 들어온 마지막 이벤트 (없으면 null)
+         */
+        private ChatEventResponse latest;
+    }
+}
@@ -0,0 +1,21 @@
+package com.univ.market.chat;
+
+/**
+ * 저장하지 않고 전달만 하는 채팅방 이벤트 종류
+ */
+public enum ChatEventType {
+    /**
+     * 메시지 입력 중
+     */
+    TYPING,
+    
+    /**
+     * 메시지 입력 중단
+     */
+    TYPING_STOPPED,
+    
+    /**
+     * 채팅방을 보고 있음 (접속 확인용)
+     */
+    SEEN
+}
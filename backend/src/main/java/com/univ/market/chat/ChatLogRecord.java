@@ -0,0 +1,69 @@
+package com.univ.market.chat;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쓰기 지연(write-behind) 모드에서 수락된 채팅 메시지 한 건
+ * 로컬 로그에 기록되고, 백그라운드 작성기가 DB에 저장할 때까지 메모리 대기열에 보관됩니다.
+ */
+@Getter
+@Builder
+public final class ChatLogRecord {
+    /**
+     * 메시지 ID (서버 메모리에서 미리 할당)
+     */
+    private final long id;
+    
+    /**
+     * 채팅방 ID
+     */
+    private final long chatRoomId;
+    
+    /**
+     * 채팅방 내 메시지 순번
+     */
+    private final long roomSequence;
+    
+    /**
+     * 발신자 ID
+     */
+    private final long senderId;
+    
+    /**
+     * 수신자 ID (채팅방의 상대방)
+     */
+    private final long recipientId;
+    
+    /**
+     * 수신자가 구매자인지 여부 (안 읽은 메시지 수를 올릴 컬럼 결정)
+     */
+    private final boolean recipientBuyer;
+    
+    /**
+     * 메시지 내용
+     */
+    private final String content;
+    
+    /**
+     * 메시지 생성 일시
+     */
+    private final LocalDateTime createdAt;
+    
+    /**
+     * 로그에서 이 레코드가 끝나는 위치 (DB 저장 후 체크포인트로 사용)
+     */
+    private final int endOffset;
+    
+    /**
+     * 로그 위치를 지정한 사본을 만드는 메서드
+     * 
+     * @param endOffset 로그에서 이 레코드가 끝나는 위치
+     * @return 위치가 지정된 레코드
+     */
+    ChatLogRecord withEndOffset(int endOffset) {
+        return new ChatLogRecord(id, chatRoomId, roomSequence, senderId, recipientId, recipientBuyer, content, createdAt, endOffset);
+    }
+}
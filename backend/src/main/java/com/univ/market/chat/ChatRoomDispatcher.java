@@ -0,0 +1,79 @@
+package com.univ.market.chat;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅방별 메시지 처리를 한 스레드에서 순서대로 실행하는 컴포넌트
+ * 채팅방 ID로 고른 구간(stripe)마다 전용 스레드가 하나씩 있어, 같은 채팅방의 메시지는 수신 순서대로 저장되고
+ * 저장된 순번 순서대로 전송됩니다. 서로 다른 구간의 채팅방은 별도 스레드에서 동시에 처리됩니다.
+ * 
+ * 구간 수는 chat.dispatch.stripes (0이면 CPU 코어 수), 구간별 대기열 크기는 chat.dispatch.queue-capacity 로 설정합니다.
+ */
+@Slf4j
+@Component
+public class ChatRoomDispatcher {
+    
+    private final ThreadPoolExecutor[] stripes;
+    
+    public ChatRoomDispatcher(@Value("${chat.dispatch.stripes}") int stripeCount,
+                              @Value("${chat.dispatch.queue-capacity}") int queueCapacity) {
+        int count = stripeCount > 0 ? stripeCount : Runtime.getRuntime().availableProcessors();
+        this.stripes = new ThreadPoolExecutor[count];
+        for (int i = 0; i < count; i++) {
+            String threadName = "chat-room-" + i;
+            stripes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                        Thread thread = new Thread(runnable, threadName);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+    }
+    
+    /**
+     * 채팅방의 작업을 해당 구간의 대기열에 넣는 메서드
+     * 같은 채팅방에 넣은 작업은 넣은 순서대로 하나씩 실행되며, 실패한 작업은 로그만 남기고 다음 작업을 계속 실행합니다.
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @param task 실행할 작업
+     * @throws IllegalStateException 해당 구간의 대기열이 가득 찬 경우
+     */
+    public void execute(Long chatRoomId, Runnable task) {
+        try {
+            stripeOf(chatRoomId).execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("채팅방 메시지 처리 실패 (채팅방 ID: {})", chatRoomId, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("메시지 처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+    
+    /**
+     * 종료 시 대기 중인 작업을 처리한 뒤 스레드를 멈추는 메서드
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        for (ThreadPoolExecutor stripe : stripes) {
+            stripe.shutdown();
+        }
+        for (ThreadPoolExecutor stripe : stripes) {
+            stripe.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+    
+    private ThreadPoolExecutor stripeOf(Long chatRoomId) {
+        return stripes[(int) Math.floorMod(chatRoomId, (long) stripes.length)];
+    }
+}
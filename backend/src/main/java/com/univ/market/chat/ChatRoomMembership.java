@@ -0,0 +1,37 @@
+package com.univ.market.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * WebSocket 세션 사용자의 채팅방 참여 정보
+ * 구독 또는 첫 메시지 전송 시 한 번 확인한 뒤 세션에 보관하여, 이후 프레임에서는 DB를 조회하지 않습니다.
+ */
+@Getter
+@AllArgsConstructor
+public final class ChatRoomMembership {
+    /**
+     * 채팅방 ID
+     */
+    private final Long chatRoomId;
+    
+    /**
+     * 세션 사용자 ID
+     */
+    private final Long userId;
+    
+    /**
+     * 세션 사용자 닉네임 (메시지 응답의 발신자 닉네임)
+     */
+    private final String nickname;
+    
+    /**
+     * 세션 사용자가 구매자인지 여부
+     */
+    private final boolean buyer;
+    
+    /**
+     * 상대방 ID (메시지 수신자)
+     */
+    private final Long counterpartId;
+}
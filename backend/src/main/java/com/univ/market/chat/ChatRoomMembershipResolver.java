@@ -0,0 +1,93 @@
+package com.univ.market.chat;
+
+import com.univ.market.repository.ChatRoomRepository;
+import com.univ.market.repository.projection.ChatRoomMembersView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * WebSocket 세션 단위로 채팅방 참여 여부를 확인하고 캐시하는 컴포넌트
+ * 참여가 확인된 채팅방은 세션 속성에 보관되며, 세션이 끊기면 함께 사라집니다.
+ * 채팅방 참여자는 생성 후 바뀌지 않으므로 세션 동안 다시 확인하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomMembershipResolver {
+    
+    private static final String SESSION_ATTRIBUTE = ChatRoomMembershipResolver.class.getName() + ".memberships";
+    
+    private static final String CHAT_TOPIC_PREFIX = "/topic/chat/";
+    
+    /**
+     * 채팅방 주제 경로 (/topic/chat/{roomId} 및 그 하위 주제)
+     */
+    private static final Pattern CHAT_TOPIC = Pattern.compile("^/topic/chat/(\\d+)(/.*)?$");
+    
+    private final ChatRoomRepository chatRoomRepository;
+    
+    /**
+     * 세션 사용자의 채팅방 참여 정보를 반환하는 메서드
+     * 세션에 없으면 DB에서 한 번 확인한 뒤 세션에 보관합니다.
+     * 
+     * @param sessionAttributes WebSocket 세션 속성 (null이면 캐시하지 않음)
+     * @param chatRoomId 채팅방 ID
+     * @param userId 세션 사용자 ID
+     * @return 채팅방 참여 정보
+     * @throws IllegalArgumentException 존재하지 않는 채팅방인 경우
+     * @throws IllegalStateException 해당 채팅방 참여자가 아닌 경우
+     */
+    @SuppressWarnings("unchecked")
+    public ChatRoomMembership resolve(Map<String, Object> sessionAttributes, Long chatRoomId, Long userId) {
+        if (sessionAttributes == null) {
+            return load(chatRoomId, userId);
+        }
+        
+        Map<Long, ChatRoomMembership> memberships = (Map<Long, ChatRoomMembership>)
+                sessionAttributes.computeIfAbsent(SESSION_ATTRIBUTE, key -> new ConcurrentHashMap<Long, ChatRoomMembership>());
+        
+        ChatRoomMembership membership = memberships.get(chatRoomId);
+        if (membership == null) {
+            // 거절된 요청은 캐시하지 않음
+            membership = load(chatRoomId, userId);
+            memberships.put(chatRoomId, membership);
+        }
+        return membership;
+    }
+    
+    /**
+     * 구독 경로에서 채팅방 ID를 추출하는 메서드
+     * 
+     * @param destination 구독 경로
+     * @return 채팅방 ID, 채팅방 주제가 아니면 null
+     * @throws IllegalArgumentException 채팅방 주제이지만 형식이 잘못된 경우
+     */
+    public static Long parseChatRoomId(String destination) {
+        if (destination == null || !destination.startsWith(CHAT_TOPIC_PREFIX)) {
+            return null;
+        }
+        
+        Matcher matcher = CHAT_TOPIC.matcher(destination);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("잘못된 채팅방 구독 경로입니다.");
+        }
+        return Long.valueOf(matcher.group(1));
+    }
+    
+    private ChatRoomMembership load(Long chatRoomId, Long userId) {
+        ChatRoomMembersView members = chatRoomRepository.findMembersById(chatRoomId)
+                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다."));
+        
+        if (userId.equals(members.getBuyerId())) {
+            return new ChatRoomMembership(chatRoomId, userId, members.getBuyerNickname(), true, members.getSellerId());
+        }
+        if (userId.equals(members.getSellerId())) {
+            return new ChatRoomMembership(chatRoomId, userId, members.getSellerNickname(), false, members.getBuyerId());
+        }
+        throw new IllegalStateException("해당 채팅방에 참여할 권한이 없습니다.");
+    }
+}
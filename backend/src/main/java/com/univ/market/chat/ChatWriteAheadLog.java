@@ -0,0 +1,270 @@
+package com.univ.market.chat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 채팅 메시지 로컬 로그 (메모리 매핑 파일)
+ * 수락한 메시지를 DB 저장 전에 파일에 순서대로 덧붙이고, DB에 저장된 위치를 체크포인트로 기록합니다.
+ * 프로세스가 비정상 종료되어도 체크포인트 이후의 레코드를 다시 읽어 DB에 저장할 수 있습니다.
+ * 
+ * 파일 구조
+ * - 헤더 16바이트: 매직 넘버(4) + 형식 버전(4) + 체크포인트 위치(8)
+ * - 레코드: 길이(4) + CRC32(4) + 본문, 마지막 레코드 뒤에는 길이 0이 기록되어 끝을 표시합니다.
+ * 
+ * 모든 메서드는 이 객체를 잠금으로 사용하므로 여러 스레드에서 호출할 수 있습니다.
+ */
+final class ChatWriteAheadLog implements Closeable {
+    
+    private static final int MAGIC = 0x43484154; // "CHAT"
+    
+    /**
+     * 레코드 형식 버전 (형식이 다른 기존 로그는 읽지 않고 새로 만듦)
+     */
+    private static final int FORMAT_VERSION = 2;
+    
+    private static final int VERSION_POSITION = 4;
+    
+    private static final int HEADER_SIZE = 16;
+    
+    private static final int CHECKPOINT_POSITION = 8;
+    
+    private static final int RECORD_HEADER_SIZE = 8;
+    
+    /**
+     * 본문 중 고정 길이 필드 크기: id, chatRoomId, roomSequence, senderId, recipientId(각 8) + recipientBuyer(1) + createdAt 초(8), 나노초(4)
+     */
+    private static final int FIXED_PAYLOAD_SIZE = 8 * 5 + 1 + 8 + 4;
+    
+    private final FileChannel channel;
+    
+    private final MappedByteBuffer buffer;
+    
+    private final int capacity;
+    
+    private int writePosition;
+    
+    private ChatWriteAheadLog(FileChannel channel, MappedByteBuffer buffer, int capacity) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+    
+    /**
+     * 로그 파일을 열거나 새로 만드는 메서드
+     * 기존 파일이면 체크포인트 이후의 유효한 레코드 끝을 찾아 쓰기 위치로 사용합니다.
+     * 형식 버전이 다른 파일은 레코드를 읽을 수 없으므로 새로 만듭니다. (형식 변경 전 모든 메시지를 저장한 뒤 배포)
+     * 
+     * @param path 로그 파일 경로
+     * @param capacity 로그 파일 크기 (바이트)
+     * @return 열린 로그
+     * @throws IOException 파일을 열거나 매핑할 수 없는 경우
+     */
+    static ChatWriteAheadLog open(Path path, int capacity) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        boolean fresh = channel.size() < HEADER_SIZE;
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        
+        ChatWriteAheadLog log = new ChatWriteAheadLog(channel, buffer, capacity);
+        if (fresh || buffer.getInt(0) != MAGIC || buffer.getInt(VERSION_POSITION) != FORMAT_VERSION) {
+            log.format();
+        } else {
+            log.writePosition = log.scanEnd(log.checkpoint());
+        }
+        return log;
+    }
+    
+    /**
+     * 레코드를 로그 끝에 덧붙이는 메서드
+     * 
+     * @param record 기록할 메시지
+     * @return 로그 위치가 지정된 레코드, 남은 공간이 부족하면 null
+     */
+    synchronized ChatLogRecord append(ChatLogRecord record) {
+        byte[] content = record.getContent().getBytes(StandardCharsets.UTF_8);
+        int payloadSize = FIXED_PAYLOAD_SIZE + content.length;
+        int end = writePosition + RECORD_HEADER_SIZE + payloadSize;
+        // 끝 표시(길이 0)를 쓸 공간까지 확보
+        if (end + Integer.BYTES > capacity) {
+            return null;
+        }
+        
+        ByteBuffer payload = ByteBuffer.allocate(payloadSize);
+        payload.putLong(record.getId())
+                .putLong(record.getChatRoomId())
+                .putLong(record.getRoomSequence())
+                .putLong(record.getSenderId())
+                .putLong(record.getRecipientId())
+                .put((byte) (record.isRecipientBuyer() ? 1 : 0))
+                .putLong(record.getCreatedAt().toEpochSecond(ZoneOffset.UTC))
+                .putInt(record.getCreatedAt().getNano())
+                .put(content);
+        
+        CRC32 crc = new CRC32();
+        crc.update(payload.array());
+        
+        // 끝 표시를 먼저 쓴 뒤 길이를 기록해, 쓰는 도중 종료되어도 끝이 항상 표시되도록 함
+        buffer.putInt(end, 0);
+        buffer.put(writePosition + RECORD_HEADER_SIZE, payload.array());
+        buffer.putInt(writePosition + Integer.BYTES, (int) crc.getValue());
+        buffer.putInt(writePosition, payloadSize);
+        
+        writePosition = end;
+        return record.withEndOffset(end);
+    }
+    
+    /**
+     * 체크포인트 이후의 유효한 레코드를 모두 읽는 메서드 (재시작 시 복구용)
+     * 
+     * @return DB에 저장되지 않았을 수 있는 레코드 목록 (기록 순서)
+     */
+    synchronized List<ChatLogRecord> readPending() {
+        List<ChatLogRecord> records = new ArrayList<>();
+        int position = checkpoint();
+        ChatLogRecord record;
+        while ((record = readAt(position)) != null) {
+            records.add(record);
+            position = record.getEndOffset();
+        }
+        return records;
+    }
+    
+    /**
+     * DB에 저장된 위치를 기록하는 메서드
+     * 
+     * @param position 저장이 끝난 마지막 레코드의 끝 위치
+     */
+    synchronized void checkpoint(int position) {
+        if (position > checkpoint()) {
+            buffer.putLong(CHECKPOINT_POSITION, position);
+        }
+    }
+    
+    /**
+     * 모든 레코드가 DB에 저장되었으면 로그를 처음부터 다시 쓰도록 비우는 메서드
+     * 
+     * @return 비웠으면 true, 저장되지 않은 레코드가 남아 있으면 false
+     */
+    synchronized boolean resetIfDrained() {
+        if (checkpoint() != writePosition) {
+            return false;
+        }
+        if (writePosition > HEADER_SIZE) {
+            // 끝 표시를 먼저 옮긴 뒤 체크포인트를 되돌려, 중간에 종료되어도 이전 레코드를 다시 읽지 않도록 함
+            buffer.putInt(HEADER_SIZE, 0);
+            buffer.putLong(CHECKPOINT_POSITION, HEADER_SIZE);
+            writePosition = HEADER_SIZE;
+        }
+        return true;
+    }
+    
+    /**
+     * 페이지 캐시에 있는 로그 내용을 디스크에 기록하는 메서드
+     * 프로세스 종료에는 force 없이도 안전하며, OS 장애에 대비해 주기적으로 호출합니다.
+     */
+    synchronized void force() {
+        buffer.force();
+    }
+    
+    /**
+     * 현재 쓰기 위치 (테스트 및 모니터링용)
+     */
+    synchronized int writePosition() {
+        return writePosition;
+    }
+    
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+    
+    private void format() {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(VERSION_POSITION, FORMAT_VERSION);
+        buffer.putLong(CHECKPOINT_POSITION, HEADER_SIZE);
+        buffer.putInt(HEADER_SIZE, 0);
+        writePosition = HEADER_SIZE;
+    }
+    
+    private int checkpoint() {
+        long checkpoint = buffer.getLong(CHECKPOINT_POSITION);
+        if (checkpoint < HEADER_SIZE || checkpoint > capacity) {
+            return HEADER_SIZE;
+        }
+        return (int) checkpoint;
+    }
+    
+    private int scanEnd(int from) {
+        int position = from;
+        ChatLogRecord record;
+        while ((record = readAt(position)) != null) {
+            position = record.getEndOffset();
+        }
+        return position;
+    }
+    
+    /**
+     * 지정한 위치의 레코드를 읽는 메서드
+     * 
+     * @param position 레코드 시작 위치
+     * @return 레코드, 끝 표시이거나 손상된 레코드면 null
+     */
+    private ChatLogRecord readAt(int position) {
+        if (position + RECORD_HEADER_SIZE > capacity) {
+            return null;
+        }
+        int payloadSize = buffer.getInt(position);
+        int end = position + RECORD_HEADER_SIZE + payloadSize;
+        if (payloadSize < FIXED_PAYLOAD_SIZE || end > capacity) {
+            return null;
+        }
+        
+        byte[] payload = new byte[payloadSize];
+        buffer.get(position + RECORD_HEADER_SIZE, payload);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+            return null;
+        }
+        
+        ByteBuffer in = ByteBuffer.wrap(payload);
+        long id = in.getLong();
+        long chatRoomId = in.getLong();
+        long roomSequence = in.getLong();
+        long senderId = in.getLong();
+        long recipientId = in.getLong();
+        boolean recipientBuyer = in.get() == 1;
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC);
+        String content = new String(payload, FIXED_PAYLOAD_SIZE, payloadSize - FIXED_PAYLOAD_SIZE, StandardCharsets.UTF_8);
+        
+        return ChatLogRecord.builder()
+                .id(id)
+                .chatRoomId(chatRoomId)
+                .roomSequence(roomSequence)
+                .senderId(senderId)
+                .recipientId(recipientId)
+                .recipientBuyer(recipientBuyer)
+                .content(content)
+                .createdAt(createdAt)
+                .endOffset(end)
+                .build();
+    }
+}
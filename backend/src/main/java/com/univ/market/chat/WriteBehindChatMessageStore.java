@@ -0,0 +1,389 @@
+package com.univ.market.chat;
+
+import com.univ.market.dto.response.ChatMessageResponse;
+import com.univ.market.repository.ChatMessageBatchRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 쓰기 지연(write-behind) 방식의 채팅 메시지 저장소
+ * 메시지를 로컬 로그에 기록한 즉시 응답을 만들어 전송하고, DB에는 백그라운드 작성기가 주기적으로 배치 저장합니다.
+ * 메시지 ID와 채팅방 내 순번은 서버 메모리에서 할당하므로 애플리케이션 서버가 하나일 때만 사용할 수 있습니다.
+ * 
+ * chat.persistence.mode=write-behind 일 때만 등록되며, 기본값(direct)에서는 ChatService가 메시지마다 바로 저장합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.persistence.mode", havingValue = "write-behind")
+public class WriteBehindChatMessageStore {
+    
+    /**
+     * 메시지 내용 최대 길이 (chat_messages.content 컬럼 길이)
+     */
+    private static final int MAX_CONTENT_LENGTH = 255;
+    
+    /**
+     * 로그 내용을 디스크에 강제로 기록하는 최소 간격
+     */
+    private static final long FORCE_INTERVAL_MILLIS = 1000;
+    
+    /**
+     * 같은 배치의 저장을 시도하는 최대 횟수
+     * 이 횟수만큼 연속으로 실패하면 메시지를 하나씩 저장하여, 저장할 수 없는 메시지(예: 그 사이 삭제된 채팅방)를 격리합니다.
+     */
+    private static final int MAX_BATCH_ATTEMPTS = 3;
+    
+    private final ChatMessageBatchRepository chatMessageBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    private final Path logPath;
+    private final int logCapacity;
+    private final long flushIntervalMillis;
+    private final int batchSize;
+    private final long fullWaitMillis;
+    
+    /**
+     * 로그에 기록되었지만 아직 DB에 저장되지 않은 메시지 (ID 오름차순)
+     */
+    private final Queue<ChatLogRecord> pending = new ConcurrentLinkedQueue<>();
+    
+    /**
+     * ID 할당, 로그 기록, 대기열 추가를 하나의 순서로 묶는 잠금
+     * 로그가 가득 차면 수락하는 스레드가 이 잠금으로 대기하고, 작성기가 로그를 비운 뒤 깨웁니다.
+     */
+    private final Object appendLock = new Object();
+    
+    /**
+     * DB 저장을 한 번에 하나만 수행하도록 하는 잠금
+     */
+    private final ReentrantLock flushLock = new ReentrantLock();
+    
+    private final AtomicLong lastMessageId = new AtomicLong();
+    
+    /**
+     * 채팅방별 마지막 메시지 순번 (채팅방의 메시지를 수락할 때 없으면 DB 값으로 초기화)
+     * 저장 대기 중인 메시지가 없는 채팅방은 DB 저장 후 제거하므로, 크기는 최근 메시지가 있었던 채팅방 수로 제한됩니다.
+     * 제거된 채팅방의 메시지는 모두 DB에 저장되어 있으므로, 다시 읽는 DB 값이 그 채팅방의 최신 순번입니다.
+     */
+    private final Map<Long, AtomicLong> lastSequences = new ConcurrentHashMap<>();
+    
+    private ChatWriteAheadLog writeAheadLog;
+    
+    private ScheduledExecutorService writer;
+    
+    private long lastForcedAt;
+    
+    /**
+     * 대기열 맨 앞 배치의 연속 저장 실패 횟수, flushLock으로 보호
+     */
+    private int failedAttempts;
+    
+    public WriteBehindChatMessageStore(
+            ChatMessageBatchRepository chatMessageBatchRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${chat.wal.path}") String logPath,
+            @Value("${chat.wal.size-mb}") int logSizeMb,
+            @Value("${chat.wal.flush-interval-ms}") long flushIntervalMillis,
+            @Value("${chat.wal.batch-size}") int batchSize,
+            @Value("${chat.wal.full-wait-ms}") long fullWaitMillis) {
+        this.chatMessageBatchRepository = chatMessageBatchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.logPath = Path.of(logPath);
+        this.logCapacity = logSizeMb * 1024 * 1024;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.batchSize = batchSize;
+        this.fullWaitMillis = fullWaitMillis;
+    }
+    
+    /**
+     * 로그를 열고, 이전 실행에서 DB에 저장하지 못한 메시지를 복구한 뒤 작성기를 시작하는 메서드
+     * 로그는 ID 순서로 기록되고 같은 순서로 저장되므로, DB의 최대 ID 이하인 레코드는 이미 저장된 것으로 봅니다.
+     * 
+     * @throws IOException 로그 파일을 열 수 없는 경우
+     */
+    @PostConstruct
+    void start() throws IOException {
+        writeAheadLog = ChatWriteAheadLog.open(logPath, logCapacity);
+        
+        long maxStoredId = chatMessageBatchRepository.findMaxMessageId();
+        long maxLoggedId = maxStoredId;
+        int storedEnd = 0;
+        for (ChatLogRecord record : writeAheadLog.readPending()) {
+            maxLoggedId = Math.max(maxLoggedId, record.getId());
+            if (record.getId() > maxStoredId) {
+                pending.add(record);
+            } else {
+                storedEnd = record.getEndOffset();
+            }
+        }
+        lastMessageId.set(maxLoggedId);
+        writeAheadLog.checkpoint(storedEnd);
+        
+        if (!pending.isEmpty()) {
+            log.info("채팅 메시지 로그 복구: {}건을 DB에 저장합니다.", pending.size());
+            flush();
+        }
+        
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * 종료 시 작성기를 멈추고 남은 메시지를 모두 저장한 뒤 로그를 닫는 메서드
+     */
+    @PreDestroy
+    void stop() throws IOException, InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(5, TimeUnit.SECONDS);
+        flushQuietly();
+        writeAheadLog.close();
+    }
+    
+    /**
+     * 메시지를 수락하는 메서드
+     * 로그에 기록한 뒤 바로 응답을 반환하며, DB 저장은 다음 배치에서 이루어집니다.
+     * 로그가 가득 차면 직접 저장하지 않고 작성기에 저장을 요청한 뒤, 로그가 비워질 때까지 최대 full-wait-ms 동안 기다립니다.
+     * 
+     * @param membership 발신자의 채팅방 참여 정보
+     * @param content 메시지 내용
+     * @return 전송할 메시지 정보 (ID, 채팅방 내 순번 할당됨)
+     * @throws IllegalArgumentException 메시지 내용이 비어 있거나 너무 긴 경우, 채팅방이 없는 경우
+     * @throws IllegalStateException 기다린 뒤에도 로그 공간이 부족한 경우
+     */
+    public ChatMessageResponse accept(ChatRoomMembership membership, String content) {
+        if (content == null || content.isBlank()) {
+            throw new IllegalArgumentException("메시지 내용을 입력해주세요.");
+        }
+        if (content.length() > MAX_CONTENT_LENGTH) {
+            throw new IllegalArgumentException("메시지는 " + MAX_CONTENT_LENGTH + "자 이하로 입력해주세요.");
+        }
+        
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(fullWaitMillis);
+        ChatLogRecord record = null;
+        while (record == null) {
+            // DB 조회는 다른 채팅방의 수락을 막지 않도록 잠금 밖에서 수행
+            AtomicLong lastSequence = lastSequences.computeIfAbsent(membership.getChatRoomId(),
+                    chatRoomId -> new AtomicLong(chatMessageBatchRepository.findLastMessageSequence(chatRoomId)));
+            
+            synchronized (appendLock) {
+                // 조회한 뒤 저장이 끝나 채팅방이 제거되었으면 DB에서 다시 읽음
+                if (lastSequences.get(membership.getChatRoomId()) != lastSequence) {
+                    continue;
+                }
+                
+                ChatLogRecord candidate = ChatLogRecord.builder()
+                        .id(lastMessageId.get() + 1)
+                        .chatRoomId(membership.getChatRoomId())
+                        .roomSequence(lastSequence.get() + 1)
+                        .senderId(membership.getUserId())
+                        .recipientId(membership.getCounterpartId())
+                        .recipientBuyer(!membership.isBuyer())
+                        .content(content)
+                        .createdAt(LocalDateTime.now())
+                        .build();
+                
+                record = writeAheadLog.append(candidate);
+                if (record == null) {
+                    // 로그가 가득 찼으면 작성기에 저장을 요청하고 로그가 비워질 때까지 대기 (대기 중에는 잠금을 놓음)
+                    awaitDrain(deadline);
+                    continue;
+                }
+                lastMessageId.set(record.getId());
+                lastSequence.set(record.getRoomSequence());
+                pending.add(record);
+            }
+        }
+        
+        return ChatMessageResponse.builder()
+                .id(record.getId())
+                .content(record.getContent())
+                .senderId(membership.getUserId())
+                .senderNickname(membership.getNickname())
+                .chatRoomId(membership.getChatRoomId())
+                .roomSequence(record.getRoomSequence())
+                .createdAt(record.getCreatedAt())
+                .build();
+    }
+    
+    /**
+     * 아직 DB에 저장되지 않은 메시지 중 채팅방별로 기준 순번 이후의 메시지를 반환하는 메서드 (재연결 동기화용)
+     * 저장이 끝난 메시지는 대기열에서 빠지므로, 호출하는 쪽은 이 메서드를 DB 조회보다 먼저 호출해야
+     * 그 사이 저장된 메시지를 놓치지 않습니다.
+     * 
+     * @param afterSequences 채팅방 ID별 기준 순번
+     * @return 채팅방 ID별 메시지 목록 (순번 오름차순), 해당 메시지가 없는 채팅방은 포함하지 않음
+     */
+    public Map<Long, List<ChatLogRecord>> findPendingAfter(Map<Long, Long> afterSequences) {
+        Map<Long, List<ChatLogRecord>> result = new HashMap<>();
+        for (ChatLogRecord record : pending) {
+            Long afterSequence = afterSequences.get(record.getChatRoomId());
+            if (afterSequence != null && record.getRoomSequence() > afterSequence) {
+                result.computeIfAbsent(record.getChatRoomId(), chatRoomId -> new ArrayList<>()).add(record);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * 채팅방에서 아직 DB에 저장되지 않은 마지막 메시지 ID를 반환하는 메서드 (읽음 위치 제한용)
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @return 마지막 메시지 ID, 저장 대기 중인 메시지가 없으면 0
+     */
+    public long findLastPendingMessageId(Long chatRoomId) {
+        long lastId = 0;
+        for (ChatLogRecord record : pending) {
+            if (record.getChatRoomId() == chatRoomId) {
+                lastId = record.getId();
+            }
+        }
+        return lastId;
+    }
+    
+    /**
+     * 로그가 비워질 때까지 기다리는 메서드 (appendLock을 가진 상태에서 호출)
+     * 
+     * @param deadline 대기 마감 시각 (System.nanoTime 기준)
+     * @throws IllegalStateException 마감 시각까지 로그가 비워지지 않았거나 대기 중 인터럽트된 경우
+     */
+    private void awaitDrain(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new IllegalStateException("메시지 로그 공간이 부족합니다.");
+        }
+        try {
+            writer.execute(this::flushQuietly);
+            TimeUnit.NANOSECONDS.timedWait(appendLock, remaining);
+        } catch (RejectedExecutionException e) {
+            // 종료 중이라 작성기가 멈춘 경우
+            throw new IllegalStateException("메시지 로그 공간이 부족합니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("메시지 로그 공간이 부족합니다.", e);
+        }
+    }
+    
+    /**
+     * 아직 DB에 저장되지 않은 메시지 수 (모니터링용)
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+    
+    /**
+     * 대기 중인 메시지를 batchSize개씩 트랜잭션으로 저장하고, 저장이 끝난 위치를 로그에 체크포인트로 기록하는 메서드
+     * 저장에 실패한 배치는 대기열에 그대로 남아 다음 주기에 다시 시도되며, MAX_BATCH_ATTEMPTS번 연속 실패하면
+     * 하나씩 저장하여 제약 조건 위반으로 저장할 수 없는 메시지만 건너뜁니다. (writeIndividually)
+     * 저장이 끝나면 대기 중인 메시지가 없는 채팅방의 순번을 제거하고, 로그가 비워지기를 기다리는 수락 스레드를 깨웁니다.
+     */
+    void flush() {
+        flushLock.lock();
+        try {
+            while (!pending.isEmpty()) {
+                List<ChatLogRecord> batch = new ArrayList<>(batchSize);
+                Iterator<ChatLogRecord> iterator = pending.iterator();
+                while (batch.size() < batchSize && iterator.hasNext()) {
+                    batch.add(iterator.next());
+                }
+                
+                try {
+                    transactionTemplate.executeWithoutResult(status -> chatMessageBatchRepository.writeBatch(batch));
+                } catch (RuntimeException e) {
+                    if (++failedAttempts < MAX_BATCH_ATTEMPTS) {
+                        throw e;
+                    }
+                    failedAttempts = 0;
+                    writeIndividually(batch);
+                    continue;
+                }
+                failedAttempts = 0;
+                
+                // 대기열에서 꺼내는 것은 이 잠금을 가진 작성기뿐이므로 앞에서부터 batch 크기만큼 제거
+                for (int i = 0; i < batch.size(); i++) {
+                    pending.poll();
+                }
+                writeAheadLog.checkpoint(batch.get(batch.size() - 1).getEndOffset());
+            }
+            
+            synchronized (appendLock) {
+                // 수락과 같은 잠금 안에서 확인하므로, 제거하는 채팅방에 저장되지 않은 메시지가 새로 생기지 않음
+                Set<Long> pendingRooms = new HashSet<>();
+                pending.forEach(record -> pendingRooms.add(record.getChatRoomId()));
+                lastSequences.keySet().removeIf(chatRoomId -> !pendingRooms.contains(chatRoomId));
+                
+                if (writeAheadLog.resetIfDrained()) {
+                    appendLock.notifyAll();
+                }
+            }
+            
+            long now = System.currentTimeMillis();
+            if (now - lastForcedAt >= FORCE_INTERVAL_MILLIS) {
+                writeAheadLog.force();
+                lastForcedAt = now;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+    
+    /**
+     * 반복해서 저장에 실패한 배치를 메시지 하나씩 저장하는 메서드 (flushLock을 가진 상태에서 호출)
+     * 제약 조건 위반으로 저장할 수 없는 메시지는 내용을 오류 로그로 남기고 건너뛰며, 메시지마다 체크포인트를 앞으로 옮깁니다.
+     * 그 밖의 오류(DB 연결 실패 등)는 그대로 던지므로, 남은 메시지는 대기열에 남아 다음 주기에 다시 시도됩니다.
+     * 
+     * @param batch 대기열 맨 앞의 배치
+     */
+    private void writeIndividually(List<ChatLogRecord> batch) {
+        for (ChatLogRecord record : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(
+                        status -> chatMessageBatchRepository.writeBatch(List.of(record)));
+            } catch (DataIntegrityViolationException e) {
+                log.error("저장할 수 없는 채팅 메시지를 건너뜁니다. (id={}, chatRoomId={}, roomSequence={}, senderId={}, " +
+                                "createdAt={}, content={})", record.getId(), record.getChatRoomId(),
+                        record.getRoomSequence(), record.getSenderId(), record.getCreatedAt(), record.getContent(), e);
+            }
+            pending.poll();
+            writeAheadLog.checkpoint(record.getEndOffset());
+        }
+    }
+    
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("채팅 메시지 배치 저장 실패, 다음 주기에 다시 시도합니다. (대기 {}건)", pending.size(), e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.univ.market.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 캐시 설정 클래스
+ * 크기와 TTL로 제한되는 Caffeine 캐시를 등록하고, 통계를 액추에이터 메트릭(cache.gets, cache.evictions 등)으로 노출합니다.
+ * 
+ * 캐시는 서버마다 메모리에 따로 있고 무효화는 변경을 처리한 서버에만 적용됩니다. 여러 서버로 실행하면(chat.broker.mode=relay)
+ * 다른 서버의 수정, 예약, 삭제가 TTL 동안 반영되지 않고 상품 상세 ETag도 그동안 이전 값으로 304를 응답하므로,
+ * 그 모드에서는 TTL을 multi-node-expire-after-write-seconds 이하로 줄입니다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    
+    /**
+     * 상품 상세 응답 캐시 이름 (키: 상품 ID)
+     */
+    public static final String PRODUCT_DETAIL_CACHE = "productDetail";
+    
+    @Value("${cache.product-detail.maximum-size}")
+    private long productDetailMaximumSize;
+    
+    @Value("${cache.product-detail.expire-after-write-seconds}")
+    private long productDetailExpireAfterWriteSeconds;
+    
+    @Value("${cache.product-detail.multi-node-expire-after-write-seconds}")
+    private long productDetailMultiNodeExpireAfterWriteSeconds;
+    
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+    
+    /**
+     * 캐시 매니저 설정
+     * 트랜잭션 안에서의 캐시 무효화는 커밋 이후에 적용되도록 트랜잭션 인식 프록시로 감쌉니다.
+     * (커밋 전에 무효화하면 동시 조회가 이전 상태를 다시 캐시할 수 있음)
+     * 
+     * @return 구성된 CacheManager
+     */
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(PRODUCT_DETAIL_CACHE, Caffeine.newBuilder()
+                .maximumSize(productDetailMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(productDetailExpireAfterWriteSeconds()))
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+    
+    /**
+     * 상품 상세 캐시 TTL을 계산하는 메서드
+     * 여러 서버 모드에서는 다른 서버의 변경이 무효화되지 않으므로 짧은 TTL을 상한으로 적용합니다. (0이면 캐시하지 않음)
+     * 
+     * @return TTL (초)
+     */
+    long productDetailExpireAfterWriteSeconds() {
+        if ("relay".equals(brokerMode)) {
+            return Math.min(productDetailExpireAfterWriteSeconds, productDetailMultiNodeExpireAfterWriteSeconds);
+        }
+        return productDetailExpireAfterWriteSeconds;
+    }
+}
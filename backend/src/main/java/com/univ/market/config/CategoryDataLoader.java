@@ -2,6 +2,7 @@ package com.univ.market.config;
 
 import com.univ.market.domain.Category;
 import com.univ.market.repository.CategoryRepository;
+import com.univ.market.service.CategoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
@@ -14,6 +15,7 @@ import java.util.List;
 public class CategoryDataLoader implements CommandLineRunner {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
 
     @Override
     @Transactional
@@ -28,6 +30,7 @@ public class CategoryDataLoader implements CommandLineRunner {
             ));
 
         }
+        categoryService.reloadSnapshot();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.univ.market.config;
+
+import com.univ.market.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 애플리케이션 시작 시 기존 채팅방의 비정규화 컬럼(판매자, 마지막 메시지, 대표 이미지)을 채우는 컴포넌트
+ * 값이 비어 있는 행만 갱신하므로, 한 번 채워진 뒤에는 아무 행도 변경하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomBackfillLoader implements CommandLineRunner {
+
+    private final ChatRoomRepository chatRoomRepository;
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        int sellers = chatRoomRepository.backfillSeller();
+        int lastMessages = chatRoomRepository.backfillLastMessageId();
+        chatRoomRepository.backfillLastMessageDetails();
+        chatRoomRepository.backfillLastMessageAt();
+        int thumbnails = chatRoomRepository.backfillProductThumbnailUrl();
+        
+        if (sellers > 0 || lastMessages > 0 || thumbnails > 0) {
+            log.info("채팅방 비정규화 컬럼 보정 완료: 판매자 {}건, 마지막 메시지 {}건, 대표 이미지 {}건",
+                    sellers, lastMessages, thumbnails);
+        }
+    }
+}
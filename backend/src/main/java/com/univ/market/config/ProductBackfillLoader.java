@@ -0,0 +1,31 @@
+package com.univ.market.config;
+
+import com.univ.market.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 애플리케이션 시작 시 기존 상품의 비정규화 컬럼(판매자의 대학교)을 채우는 컴포넌트
+ * 대학교별 피드는 상품의 university 컬럼만 조회하므로, 컬럼이 추가되기 전에 등록된 상품도 피드에 나오도록 합니다.
+ * 값이 비어 있는 행만 갱신하므로, 한 번 채워진 뒤에는 아무 행도 변경하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductBackfillLoader implements CommandLineRunner {
+    
+    private final ProductRepository productRepository;
+    
+    @Override
+    @Transactional
+    public void run(String... args) {
+        int universities = productRepository.backfillUniversity();
+        
+        if (universities > 0) {
+            log.info("상품 비정규화 컬럼 보정 완료: 대학교 {}건", universities);
+        }
+    }
+}
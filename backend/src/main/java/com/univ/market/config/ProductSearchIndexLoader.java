@@ -0,0 +1,66 @@
+package com.univ.market.config;
+
+import com.univ.market.repository.ProductRepository;
+import com.univ.market.search.ProductSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 애플리케이션 시작 시 상품 검색 색인을 DB에서 다시 구축하는 컴포넌트
+ * 상품 전체를 엔티티로 올리지 않고 색인 대상 컬럼만 스트리밍으로 읽습니다.
+ * 
+ * 색인은 서버마다 따로 있으므로, 여러 서버로 실행할 때는 search.index.rebuild-cron 일정에 따라 다시 구축하여
+ * 다른 서버에서 등록·삭제된 상품을 반영합니다. ("-"이면 시작 시에만 구축)
+ */
+@Slf4j
+@Component
+public class ProductSearchIndexLoader implements CommandLineRunner {
+    
+    private final ProductRepository productRepository;
+    
+    private final ProductSearchIndex productSearchIndex;
+    
+    private final TransactionTemplate transactionTemplate;
+    
+    public ProductSearchIndexLoader(ProductRepository productRepository,
+                                    ProductSearchIndex productSearchIndex,
+                                    PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.productSearchIndex = productSearchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+    
+    @Override
+    public void run(String... args) {
+        log.info("상품 검색 색인 구축 완료: {}건", rebuild());
+    }
+    
+    /**
+     * 색인 대상 컬럼을 스트리밍으로 읽어 색인을 다시 구축하는 메서드
+     * 스트림은 트랜잭션 안에서만 읽을 수 있으므로 읽기 전용 트랜잭션에서 실행합니다.
+     * 
+     * @return 색인된 상품 수
+     */
+    int rebuild() {
+        Integer indexed = transactionTemplate.execute(
+                status -> productSearchIndex.rebuild(productRepository::streamAllForSearchIndex));
+        return indexed != null ? indexed : 0;
+    }
+    
+    /**
+     * search.index.rebuild-cron 일정에 따라 색인을 다시 구축하는 메서드 (실패하면 다음 일정에 다시 시도)
+     */
+    @Scheduled(cron = "${search.index.rebuild-cron}")
+    void rebuildQuietly() {
+        try {
+            log.debug("상품 검색 색인 재구축 완료: {}건", rebuild());
+        } catch (RuntimeException e) {
+            log.error("상품 검색 색인 재구축 실패, 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.univ.market.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WebSocket 메시지 채널 실행기와 세션 상태를 액추에이터 메트릭으로 노출하는 컴포넌트
+ * 
+ * - chat.websocket.executor.queued / active / pool.size: 채널별(channel 태그) 대기 메시지 수, 실행 중 스레드 수, 스레드 수
+ * - chat.websocket.executor.rejected: 대기열이 가득 차 거절된 메시지 수
+ * - chat.websocket.sessions.open: 열린 WebSocket 세션 수
+ * - chat.websocket.sessions.slow: 전송 시간 또는 버퍼 제한을 넘어 강제 종료된 세션 수 (이후 메시지는 버려짐)
+ */
+@Component
+public class WebSocketChannelMetrics implements MeterBinder {
+    
+    public static final String INBOUND = "inbound";
+    
+    public static final String OUTBOUND = "outbound";
+    
+    private static final List<String> CHANNELS = List.of(INBOUND, OUTBOUND);
+    
+    private final Map<String, ThreadPoolTaskExecutor> executors = new ConcurrentHashMap<>();
+    
+    private final Map<String, AtomicLong> rejected = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger openSessions = new AtomicInteger();
+    
+    private final AtomicLong slowSessions = new AtomicLong();
+    
+    public WebSocketChannelMetrics() {
+        CHANNELS.forEach(channel -> rejected.put(channel, new AtomicLong()));
+    }
+    
+    /**
+     * 채널 실행기를 만드는 메서드
+     * 대기열이 가득 차면 메시지를 거절(수신 채널은 해당 프레임 처리 실패)하고 거절 수를 기록합니다.
+     * 
+     * @param channel 채널 이름 (inbound, outbound)
+     * @return 지표가 연결된 실행기 (풀 크기는 채널 등록 시 설정)
+     */
+    public ThreadPoolTaskExecutor newExecutor(String channel) {
+        AtomicLong rejectedCount = rejected.get(channel);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("ws-" + channel + "-");
+        executor.setRejectedExecutionHandler(rejectAndCount(channel, rejectedCount));
+        executors.put(channel, executor);
+        return executor;
+    }
+    
+    /**
+     * 세션 수와 느린 세션 종료를 기록하는 WebSocket 핸들러 데코레이터
+     * 
+     * @param handler 원래 핸들러
+     * @return 지표를 기록하는 핸들러
+     */
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                openSessions.incrementAndGet();
+                super.afterConnectionEstablished(session);
+            }
+            
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                openSessions.decrementAndGet();
+                // 전송 시간·버퍼 제한 초과 시 SESSION_NOT_RELIABLE로 종료됨
+                if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+                    slowSessions.incrementAndGet();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String channel : CHANNELS) {
+            Gauge.builder("chat.websocket.executor.queued", executors,
+                            map -> map.containsKey(channel) ? map.get(channel).getQueueSize() : Double.NaN)
+                    .tag("channel", channel)
+                    .description("채널 실행기 대기열의 메시지 수")
+                    .register(registry);
+            Gauge.builder("chat.websocket.executor.active", executors,
+                            map -> map.containsKey(channel) ? map.get(channel).getActiveCount() : Double.NaN)
+                    .tag("channel", channel)
+                    .register(registry);
+            Gauge.builder("chat.websocket.executor.pool.size", executors,
+                            map -> map.containsKey(channel) ? map.get(channel).getPoolSize() : Double.NaN)
+                    .tag("channel", channel)
+                    .register(registry);
+            FunctionCounter.builder("chat.websocket.executor.rejected", rejected.get(channel), AtomicLong::get)
+                    .tag("channel", channel)
+                    .description("대기열이 가득 차 거절된 메시지 수")
+                    .register(registry);
+        }
+        Gauge.builder("chat.websocket.sessions.open", openSessions, AtomicInteger::get)
+                .register(registry);
+        FunctionCounter.builder("chat.websocket.sessions.slow", slowSessions, AtomicLong::get)
+                .description("전송 시간 또는 버퍼 제한을 넘어 종료된 세션 수")
+                .register(registry);
+    }
+    
+    private static RejectedExecutionHandler rejectAndCount(String channel, AtomicLong rejectedCount) {
+        return (task, executor) -> {
+            rejectedCount.incrementAndGet();
+            throw new RejectedExecutionException("WebSocket " + channel + " 채널 대기열이 가득 찼습니다.");
+        };
+    }
+}
@@ -2,23 +2,85 @@ package com.univ.market.config;
 
 import com.univ.market.security.WebSocketAuthenticationInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * WebSocket 설정 클래스
  * 실시간 채팅을 위한 STOMP 기반 WebSocket 설정을 정의합니다.
+ * 
+ * 브로커 모드 (chat.broker.mode)
+ * - simple: 서버 메모리의 단순 브로커 사용 (서버 한 대일 때)
+ * - relay: /topic 메시지를 외부 STOMP 브로커로 중계하여, 어느 서버에 연결된 구독자에게든 전달 (relay 프로필)
+ * 
+ * 수신, 송신 채널은 크기가 제한된 스레드 풀에서 처리하며(chat.websocket.*),
+ * 세션별 전송 시간·버퍼 한도를 넘는 느린 클라이언트는 연결을 종료하여 서버 메모리가 쌓이지 않도록 합니다.
+ * 
+ * 같은 채팅방의 메시지는 순번 순서대로 구독자에게 도착해야 하므로 순서가 바뀔 수 있는 구간을 모두 순서대로 처리합니다.
+ * - 수신: 세션별로 받은 순서대로 처리 (setPreserveReceiveOrder)
+ * - 저장, 발행: 채팅방별 단일 스레드 (ChatRoomDispatcher)
+ * - 브로커 채널: 스레드 풀 없이 발행한 스레드에서 바로 처리
+ * - 송신: 세션별로 발행된 순서대로 전송 (setPreservePublishOrder)
  */
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     
+    private static final String BROKER_MODE_SIMPLE = "simple";
+    
+    private static final String BROKER_MODE_RELAY = "relay";
+    
     private final WebSocketAuthenticationInterceptor authInterceptor;
+    private final WebSocketChannelMetrics channelMetrics;
+    
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+    
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+    
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+    
+    @Value("${chat.broker.relay.login:guest}")
+    private String relayLogin;
+    
+    @Value("${chat.broker.relay.passcode:guest}")
+    private String relayPasscode;
+    
+    @Value("${chat.websocket.inbound.core-pool-size}")
+    private int inboundCorePoolSize;
+    
+    @Value("${chat.websocket.inbound.max-pool-size}")
+    private int inboundMaxPoolSize;
+    
+    @Value("${chat.websocket.inbound.queue-capacity}")
+    private int inboundQueueCapacity;
+    
+    @Value("${chat.websocket.outbound.core-pool-size}")
+    private int outboundCorePoolSize;
+    
+    @Value("${chat.websocket.outbound.max-pool-size}")
+    private int outboundMaxPoolSize;
+    
+    @Value("${chat.websocket.outbound.queue-capacity}")
+    private int outboundQueueCapacity;
+    
+    @Value("${chat.websocket.send-time-limit-ms}")
+    private int sendTimeLimitMillis;
+    
+    @Value("${chat.websocket.send-buffer-size-kb}")
+    private int sendBufferSizeKb;
+    
+    @Value("${chat.websocket.message-size-limit-kb}")
+    private int messageSizeLimitKb;
     
     /**
      * 메시지 브로커 설정
@@ -28,9 +90,23 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // 메시지 구독 주제 접두사 설정
-        registry.enableSimpleBroker("/topic");
+        switch (brokerMode) {
+            case BROKER_MODE_SIMPLE -> registry.enableSimpleBroker("/topic");
+            // 외부 브로커와의 TCP 연결은 서버당 시스템 연결 1개 + 클라이언트 세션별 연결 1개
+            case BROKER_MODE_RELAY -> registry.enableStompBrokerRelay("/topic")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+            default -> throw new IllegalStateException("지원하지 않는 채팅 브로커 모드입니다: " + brokerMode);
+        }
         // 클라이언트가 서버로 메시지를 보낼 때 사용할 접두사 설정
         registry.setApplicationDestinationPrefixes("/app");
+        // 서버 내부 발행(SimpMessagingTemplate)은 브로커 채널 스레드 풀 없이 발행한 스레드(채팅방별 단일 스레드)에서 처리하고,
+        // 세션별 송신도 발행 순서대로 전송하여 같은 채팅방의 메시지 순서가 바뀌지 않도록 함
+        registry.setPreservePublishOrder(true);
     }
     
     /**
@@ -44,6 +120,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws")
                 .setAllowedOrigins("http://localhost:3000")
                 .withSockJS(); // SockJS 지원 활성화
+        // 한 세션이 보낸 메시지는 수신 채널의 여러 스레드에서도 보낸 순서대로 처리
+        registry.setPreserveReceiveOrder(true);
     }
     
     /**
@@ -56,5 +134,38 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureClientInboundChannel(ChannelRegistration registration) {
         // WebSocket 인증 처리를 위한 인터셉터 등록
         registration.interceptors(authInterceptor);
+        registration.taskExecutor(channelMetrics.newExecutor(WebSocketChannelMetrics.INBOUND))
+                .corePoolSize(inboundCorePoolSize)
+                .maxPoolSize(inboundMaxPoolSize)
+                .queueCapacity(inboundQueueCapacity);
+    }
+    
+    /**
+     * 클라이언트 아웃바운드 채널 설정
+     * 구독자에게 보내는 메시지를 처리하는 스레드 풀을 제한합니다.
+     * 
+     * @param registration ChannelRegistration 객체
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelMetrics.newExecutor(WebSocketChannelMetrics.OUTBOUND))
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+    
+    /**
+     * WebSocket 전송 설정
+     * 세션별로 한 메시지 전송에 걸리는 시간과 아직 보내지 못한 메시지 버퍼 크기를 제한합니다.
+     * 한도를 넘으면 해당 세션을 종료하여, 느린 클라이언트 때문에 메시지가 메모리에 쌓이지 않도록 합니다.
+     * 
+     * @param registration WebSocketTransportRegistration 객체
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeKb * 1024)
+                .setMessageSizeLimit(messageSizeLimitKb * 1024)
+                .addDecoratorFactory(channelMetrics::decorate);
     }
 }
@@ -3,7 +3,9 @@ package com.univ.market.controller;
 import com.univ.market.dto.request.CategoryRequest;
 import com.univ.market.dto.response.CategoryResponse;
 import com.univ.market.service.CategoryService;
+import com.univ.market.service.CategorySnapshot;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -23,13 +25,18 @@ public class CategoryController {
     
     /**
      * 전체 카테고리 목록 조회 API
+     * 메모리 스냅샷을 ETag와 함께 반환합니다.
+     * 요청의 If-None-Match가 현재 ETag와 같으면 Spring MVC가 본문 없이 304 Not Modified로 응답합니다.
      * 
      * @return 카테고리 목록
      */
     @GetMapping
     public ResponseEntity<List<CategoryResponse>> getAllCategories() {
-        List<CategoryResponse> categories = categoryService.getAllCategories();
-        return ResponseEntity.ok(categories);
+        CategorySnapshot snapshot = categoryService.getSnapshot();
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.getCategories());
     }
     
     /**
@@ -1,20 +1,37 @@
 package com.univ.market.controller;
 
+import com.univ.market.chat.ChatEventDispatcher;
+import com.univ.market.chat.ChatRoomDispatcher;
+import com.univ.market.chat.ChatRoomMembership;
+import com.univ.market.chat.ChatRoomMembershipResolver;
+import com.univ.market.chat.WriteBehindChatMessageStore;
+import com.univ.market.dto.request.ChatEventRequest;
 import com.univ.market.dto.request.ChatMessageRequest;
+import com.univ.market.dto.request.ChatReadRequest;
+import com.univ.market.dto.request.ChatSyncRequest;
 import com.univ.market.dto.response.ChatMessageResponse;
+import com.univ.market.dto.response.ChatReadResponse;
 import com.univ.market.dto.response.ChatRoomResponse;
+import com.univ.market.dto.response.ChatSyncResponse;
+import com.univ.market.dto.response.CursorSliceResponse;
+import com.univ.market.dto.response.UnreadCountResponse;
 import com.univ.market.service.ChatService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.security.Principal;
+import java.util.Optional;
 
 /**
  * 채팅 관련 API 엔드포인트를 제공하는 컨트롤러
@@ -26,20 +43,76 @@ public class ChatController {
     
     private final ChatService chatService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRoomMembershipResolver membershipResolver;
+    private final ChatEventDispatcher chatEventDispatcher;
+    private final ChatRoomDispatcher chatRoomDispatcher;
+    
+    /**
+     * 쓰기 지연 저장소 (chat.persistence.mode=write-behind 일 때만 존재)
+     */
+    private final Optional<WriteBehindChatMessageStore> writeBehindStore;
     
     /**
      * WebSocket을 통한 메시지 처리 메서드
      * 클라이언트가 보낸 메시지를 처리하고 해당 채팅방의 구독자들에게 브로드캐스팅합니다.
+     * 발신자는 연결 시 인증된 사용자이며, 채팅방 참여 여부는 세션에 캐시된 값을 사용합니다.
+     * 쓰기 지연 모드에서는 로컬 로그에 기록한 즉시 전송하고, DB 저장은 배치로 이루어집니다.
+     * 저장과 전송은 채팅방별 단일 스레드(ChatRoomDispatcher)에서 실행되므로, 같은 채팅방의 메시지는 순번 순서대로 전송됩니다.
      * 
      * @param roomId 채팅방 ID
      * @param message 클라이언트가 보낸 메시지
+     * @param principal 인증된 사용자 (CONNECT 시 설정, 이름은 사용자 ID)
+     * @param headerAccessor 메시지 헤더 (세션 속성 접근용)
      */
     @MessageMapping("/chat/{roomId}")
-    public void sendMessage(@DestinationVariable Long roomId, @Payload ChatMessageRequest message) {
-        // 메시지 저장 및 DTO 변환
-        ChatMessageResponse response = chatService.sendMessage(message, message.getSenderId());
-        // 해당 채팅방 구독자들에게 메시지 전송
-        messagingTemplate.convertAndSend("/topic/chat/" + roomId, response);
+    public void sendMessage(@DestinationVariable Long roomId, @Payload ChatMessageRequest message,
+                            Principal principal, SimpMessageHeaderAccessor headerAccessor) {
+        ChatRoomMembership membership = membershipResolver.resolve(
+                headerAccessor.getSessionAttributes(), roomId, currentUserId(principal));
+        
+        String content = message.getContent();
+        
+        chatRoomDispatcher.execute(roomId, () -> {
+            // 메시지 저장(순번 할당) 및 DTO 변환
+            ChatMessageResponse response = writeBehindStore
+                    .map(store -> store.accept(membership, content))
+                    .orElseGet(() -> chatService.sendMessage(membership, content));
+            // 해당 채팅방 구독자들에게 메시지 전송
+            messagingTemplate.convertAndSend("/topic/chat/" + roomId, response);
+        });
+    }
+    
+    /**
+     * WebSocket을 통한 읽음 처리 메서드
+     * 요청자의 읽음 위치를 저장하고, 채팅방의 읽음 주제 구독자(상대방)에게 읽음 위치를 전달합니다.
+     * 
+     * @param roomId 채팅방 ID
+     * @param request 읽음 처리 요청 (읽은 마지막 메시지 ID)
+     * @param principal 인증된 사용자 (CONNECT 시 설정, 이름은 사용자 ID)
+     */
+    @MessageMapping("/chat/{roomId}/read")
+    public void markAsRead(@DestinationVariable Long roomId, @Payload ChatReadRequest request, Principal principal) {
+        ChatReadResponse response = chatService.markAsRead(
+                roomId, currentUserId(principal), request.getLastReadMessageId());
+        messagingTemplate.convertAndSend("/topic/chat/" + roomId + "/read", response);
+    }
+    
+    /**
+     * WebSocket을 통한 채팅방 이벤트 처리 메서드
+     * 입력 중 표시 등 저장하지 않는 이벤트를 채팅방 이벤트 주제 구독자에게 전달합니다.
+     * DB를 조회하거나 저장하지 않으며, 사용자별 전달 빈도는 ChatEventDispatcher가 제한합니다.
+     * 
+     * @param roomId 채팅방 ID
+     * @param request 이벤트 요청
+     * @param principal 인증된 사용자 (CONNECT 시 설정, 이름은 사용자 ID)
+     * @param headerAccessor 메시지 헤더 (세션 속성 접근용)
+     */
+    @MessageMapping("/chat/{roomId}/events")
+    public void publishEvent(@DestinationVariable Long roomId, @Payload ChatEventRequest request,
+                             Principal principal, SimpMessageHeaderAccessor headerAccessor) {
+        ChatRoomMembership membership = membershipResolver.resolve(
+                headerAccessor.getSessionAttributes(), roomId, currentUserId(principal));
+        chatEventDispatcher.publish(membership, request.getType());
     }
     
     /**
@@ -59,29 +132,75 @@ public class ChatController {
     
     /**
      * 내 채팅방 목록 조회 API
-     * 판매자 또는 구매자로 참여한 모든 채팅방을 반환합니다.
+     * 판매자 또는 구매자로 참여한 채팅방을 최근 메시지순으로 반환합니다.
      * 
      * @param userId 현재 인증된 사용자 ID
-     * @return 채팅방 목록
+     * @param pageable 페이징 정보 (기본값: 페이지당 20개)
+     * @return 채팅방 목록 구간
      */
     @GetMapping("/api/chat/rooms")
-    public ResponseEntity<List<ChatRoomResponse>> getMyChatRooms(@AuthenticationPrincipal Long userId) {
-        List<ChatRoomResponse> chatRooms = chatService.getMyChatRooms(userId);
+    public ResponseEntity<Slice<ChatRoomResponse>> getMyChatRooms(
+            @AuthenticationPrincipal Long userId,
+            @PageableDefault(size = 20) Pageable pageable) {
+        Slice<ChatRoomResponse> chatRooms = chatService.getMyChatRooms(userId, pageable);
         return ResponseEntity.ok(chatRooms);
     }
     
+    /**
+     * 전체 안 읽은 메시지 수 조회 API (배지 표시용)
+     * 
+     * @param userId 현재 인증된 사용자 ID
+     * @return 전체 안 읽은 메시지 수
+     */
+    @GetMapping("/api/chat/unread")
+    public ResponseEntity<UnreadCountResponse> getTotalUnreadCount(@AuthenticationPrincipal Long userId) {
+        UnreadCountResponse response = chatService.getTotalUnreadCount(userId);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 재연결 동기화 API
+     * 요청한 채팅방별로 마지막으로 받은 메시지 순번 이후의 메시지를 반환합니다.
+     * resyncRoomIds에 포함된 채팅방은 밀린 메시지가 너무 많으므로 메시지를 다시 조회해야 합니다.
+     * 
+     * @param request 채팅방 ID별 마지막으로 받은 메시지 순번
+     * @param size 채팅방별 최대 메시지 수 (기본값: 200, 최대 500)
+     * @param userId 현재 인증된 사용자 ID
+     * @return 새 메시지 목록과 채팅방별 다음 동기화 기준 순번
+     */
+    @PostMapping("/api/chat/sync")
+    public ResponseEntity<ChatSyncResponse> syncMessages(
+            @RequestBody ChatSyncRequest request,
+            @RequestParam(defaultValue = "200") int size,
+            @AuthenticationPrincipal Long userId) {
+        ChatSyncResponse response = chatService.syncMessages(userId, request.getRooms(), size);
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * 채팅방 메시지 목록 조회 API
+     * 최신 메시지부터 size개를 오래된 순으로 반환하며, 응답의 nextCursor를 before로 넘기면 그 이전 메시지를 조회합니다.
      * 
      * @param roomId 채팅방 ID
+     * @param before 기준 메시지 ID (없으면 최신 메시지부터)
+     * @param size 조회할 메시지 수 (기본값: 30, 최대 100)
      * @param userId 현재 인증된 사용자 ID
-     * @return 메시지 목록
+     * @return 메시지 목록 및 이전 메시지 커서
      */
     @GetMapping("/api/chat/rooms/{roomId}/messages")
-    public ResponseEntity<List<ChatMessageResponse>> getChatMessages(
+    public ResponseEntity<CursorSliceResponse<ChatMessageResponse>> getChatMessages(
             @PathVariable Long roomId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "30") int size,
             @AuthenticationPrincipal Long userId) {
-        List<ChatMessageResponse> messages = chatService.getChatMessages(roomId, userId);
+        CursorSliceResponse<ChatMessageResponse> messages = chatService.getChatMessages(roomId, userId, before, size);
         return ResponseEntity.ok(messages);
     }
+    
+    private Long currentUserId(Principal principal) {
+        if (principal == null) {
+            throw new IllegalStateException("인증되지 않은 연결입니다.");
+        }
+        return Long.valueOf(principal.getName());
+    }
 }
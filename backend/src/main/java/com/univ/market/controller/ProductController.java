@@ -1,16 +1,26 @@
 package com.univ.market.controller;
 
+import com.univ.market.domain.Product;
+import com.univ.market.dto.request.ProductFilterRequest;
 import com.univ.market.dto.request.ProductRequest;
+import com.univ.market.dto.response.CursorSliceResponse;
 import com.univ.market.dto.response.ProductResponse;
 import com.univ.market.service.ProductService;
+import com.univ.market.service.ProductVersion;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 /**
  * 상품 관련 API 엔드포인트를 제공하는 컨트롤러
@@ -38,16 +48,96 @@ public class ProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    /**
+     * 상품 일괄 등록 API
+     * 동아리, 졸업생 등이 여러 상품을 한 번에 등록할 때 사용합니다.
+     * 
+     * @param requests 상품 등록 요청 목록 (최대 100개)
+     * @param userId 현재 인증된 사용자 ID (판매자)
+     * @return 등록된 상품 ID 목록 (요청 순서와 동일)
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<Long>> createProducts(
+            @RequestBody List<ProductRequest> requests,
+            @AuthenticationPrincipal Long userId) {
+        List<Long> response = productService.createProducts(requests, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+    
     /**
      * 전체 상품 목록 조회 API
+     * 첫 페이지는 ETag와 Last-Modified를 함께 반환하며, 목록이 바뀌지 않았으면 본문 없이 304 Not Modified로 응답합니다.
      * 
      * @param pageable 페이징 정보 (기본값: 페이지당 20개)
+     * @param webRequest 조건부 요청 헤더 확인용 요청 정보
      * @return 상품 목록 페이지
      */
     @GetMapping
     public ResponseEntity<Page<ProductResponse>> getAllProducts(
-            @PageableDefault(size = 20) Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable,
+            WebRequest webRequest) {
+        if (pageable.getPageNumber() == 0) {
+            ProductVersion version = productService.getProductListVersion(pageable);
+            if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+                return null;
+            }
+        }
+        
         Page<ProductResponse> response = productService.getAllProducts(pageable);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(response);
+    }
+    
+    /**
+     * 전체 상품 커서 기반 목록 조회 API
+     * 무한 스크롤용으로, 전체 개수 없이 다음 커서만 반환합니다.
+     * 
+     * @param cursor 이전 응답의 다음 커서 (첫 구간이면 생략)
+     * @param size 조회할 상품 수 (기본값: 20, 최대 50)
+     * @return 상품 목록과 다음 커서
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorSliceResponse<ProductResponse>> getProductSlice(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorSliceResponse<ProductResponse> response = productService.getProductSlice(cursor, size);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 상품 필터 조회 API
+     * 상태, 가격 범위, 카테고리를 자유롭게 조합하여 조회합니다.
+     * 
+     * @param filter 필터 조건 (status, minPrice, maxPrice, categoryId 쿼리 파라미터)
+     * @param pageable 페이징 정보 (기본값: 페이지당 20개, 최신순)
+     * @return 조건에 맞는 상품 목록 페이지
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<Page<ProductResponse>> filterProducts(
+            @ModelAttribute ProductFilterRequest filter,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        Page<ProductResponse> response = productService.filterProducts(filter, pageable);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 대학교별 상품 피드 조회 API
+     * 대학교를 지정하지 않으면 현재 사용자가 인증한 대학교의 피드를 반환합니다.
+     * 
+     * @param university 대학교 이름 (생략 시 현재 사용자의 대학교)
+     * @param status 상품 상태 (기본값: WAITING)
+     * @param userId 현재 인증된 사용자 ID
+     * @param pageable 페이징 정보 (기본값: 페이지당 20개)
+     * @return 대학교별 상품 목록 (전체 개수 없이 다음 페이지 존재 여부만 포함)
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<Slice<ProductResponse>> getUniversityFeed(
+            @RequestParam(required = false) String university,
+            @RequestParam(defaultValue = "WAITING") Product.ProductStatus status,
+            @AuthenticationPrincipal Long userId,
+            @PageableDefault(size = 20) Pageable pageable) {
+        Slice<ProductResponse> response = productService.getUniversityFeed(university, userId, status, pageable);
         return ResponseEntity.ok(response);
     }
     
@@ -66,16 +156,44 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * 상품 검색 커서 기반 목록 조회 API
+     * 페이지 검색과 같은 검색 색인으로 일치하는 상품을 찾으며, 관련도 대신 최신순으로 반환합니다.
+     * 
+     * @param keyword 검색 키워드
+     * @param cursor 이전 응답의 다음 커서 (첫 구간이면 생략)
+     * @param size 조회할 상품 수 (기본값: 20, 최대 50)
+     * @return 검색 결과 목록과 다음 커서
+     */
+    @GetMapping("/search/cursor")
+    public ResponseEntity<CursorSliceResponse<ProductResponse>> searchProductSlice(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorSliceResponse<ProductResponse> response = productService.searchProductSlice(keyword, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * 상품 상세 조회 API
+     * 캐시된 응답의 상품 ID와 수정 일시로 만든 ETag, Last-Modified를 함께 반환합니다.
+     * If-None-Match 또는 If-Modified-Since가 현재 버전과 일치하면 본문 없이 304 Not Modified로 응답합니다.
      * 
      * @param id 상품 ID
+     * @param webRequest 조건부 요청 헤더 확인용 요청 정보
      * @return 상품 상세 정보
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponse> getProductById(@PathVariable Long id) {
+    public ResponseEntity<ProductResponse> getProductById(@PathVariable Long id, WebRequest webRequest) {
         ProductResponse response = productService.getProductById(id);
-        return ResponseEntity.ok(response);
+        ProductVersion version = ProductVersion.ofProduct(response);
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
+        
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(response);
     }
     
     /**
@@ -137,4 +255,21 @@ public class ProductController {
         Page<ProductResponse> response = productService.getProductsByCategory(categoryId, pageable);
         return ResponseEntity.ok(response);
     }
+    
+    /**
+     * 카테고리별 상품 커서 기반 목록 조회 API
+     * 
+     * @param categoryId 카테고리 ID
+     * @param cursor 이전 응답의 다음 커서 (첫 구간이면 생략)
+     * @param size 조회할 상품 수 (기본값: 20, 최대 50)
+     * @return 카테고리별 상품 목록과 다음 커서
+     */
+    @GetMapping("/category/{categoryId}/cursor")
+    public ResponseEntity<CursorSliceResponse<ProductResponse>> getProductSliceByCategory(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorSliceResponse<ProductResponse> response = productService.getProductSliceByCategory(categoryId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.univ.market.controller;
 
+import com.univ.market.domain.User;
 import com.univ.market.dto.request.UnivVerificationRequest;
+import com.univ.market.dto.response.UnivVerificationResponse;
 import com.univ.market.dto.response.UserResponse;
+import com.univ.market.security.JwtTokenProvider;
 import com.univ.market.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
     
     private final UserService userService;
+    private final JwtTokenProvider jwtTokenProvider;
     
     /**
      * 현재 로그인한 사용자 정보 조회 API
@@ -31,6 +35,19 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * 로그아웃 API
+     * 사용자에게 발급된 토큰을 모두 무효화합니다.
+     * 
+     * @param userId 현재 인증된 사용자 ID
+     * @return 응답 없음 (200 OK)
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal Long userId) {
+        userService.logout(userId);
+        return ResponseEntity.ok().build();
+    }
+    
     /**
      * 대학교 인증 이메일 전송 API
      * 
@@ -49,13 +66,17 @@ public class UserController {
     /**
      * 대학교 인증 코드 확인 API
      * 
+     * 인증이 끝나면 이전 토큰은 무효화되므로, 인증 정보가 반영된 새 토큰을 함께 반환합니다.
+     * 
+     * @param userId 현재 인증된 사용자 ID (인증 코드를 요청한 사용자여야 함)
      * @param request 인증 확인 요청 데이터
-     * @return 인증 결과
+     * @return 인증 결과 및 새 토큰
      */
     @PostMapping("/verify/confirm")
-    public ResponseEntity<Boolean> verifyUnivEmail(
+    public ResponseEntity<UnivVerificationResponse> verifyUnivEmail(
+            @AuthenticationPrincipal Long userId,
             @RequestBody UnivVerificationRequest request) {
-        boolean isVerified = userService.verifyUnivEmail(request);
-        return ResponseEntity.ok(isVerified);
+        User user = userService.verifyUnivEmail(userId, request);
+        return ResponseEntity.ok(new UnivVerificationResponse(true, jwtTokenProvider.createToken(user)));
     }
 }
\ No newline at end of file
@@ -13,7 +13,13 @@ import java.time.LocalDateTime;
  * 채팅방 내 주고받은 메시지를 관리합니다.
  */
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages", uniqueConstraints = {
+        // 채팅방 내 메시지 순번은 하나씩만 할당
+        @UniqueConstraint(name = "uk_chat_messages_chat_room_id_room_sequence", columnNames = {"chat_room_id", "room_sequence"})
+}, indexes = {
+        // 채팅방별 메시지 커서 조회 (특정 메시지 ID 이전 N개)
+        @Index(name = "idx_chat_messages_chat_room_id_id", columnList = "chat_room_id, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -45,6 +51,12 @@ public class ChatMessage {
     @JoinColumn(name = "chat_room_id")
     private ChatRoom chatRoom;
     
+    /**
+     * 채팅방 내 메시지 순번 (1부터 증가, 순번 도입 전에 저장된 메시지는 null)
+     * 채팅방의 lastMessageSequence를 증가시켜 할당하며, 클라이언트는 이 순서로 메시지를 표시합니다.
+     */
+    private Long roomSequence;
+    
     /**
      * 생성 일시 (변경 불가)
      */
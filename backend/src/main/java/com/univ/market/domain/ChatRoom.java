@@ -15,12 +15,29 @@ import java.util.List;
  * 판매자와 구매자 간의 채팅방 정보를 관리합니다.
  */
 @Entity
-@Table(name = "chat_rooms")
+@Table(name = "chat_rooms", uniqueConstraints = {
+        // 상품, 구매자별 채팅방은 하나 (동시 생성 요청 시 중복 방지)
+        @UniqueConstraint(name = ChatRoom.PRODUCT_BUYER_UNIQUE_CONSTRAINT, columnNames = {"product_id", "buyer_id"})
+}, indexes = {
+        // 채팅방 목록 조회 (참여자별 최근 메시지순)
+        @Index(name = "idx_chat_rooms_buyer_last_message_at", columnList = "buyer_id, last_message_at"),
+        @Index(name = "idx_chat_rooms_seller_last_message_at", columnList = "seller_id, last_message_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class ChatRoom {
+    /**
+     * 마지막 메시지 미리보기 최대 길이
+     */
+    public static final int PREVIEW_LENGTH = 100;
+    
+    /**
+     * 상품, 구매자별 채팅방 유니크 제약 이름
+     */
+    public static final String PRODUCT_BUYER_UNIQUE_CONSTRAINT = "uk_chat_rooms_product_buyer";
+    
     /**
      * 채팅방 고유 식별자(ID)
      */
@@ -37,12 +54,75 @@ public class ChatRoom {
     
     /**
      * 구매자 정보 (다대일 관계)
-     * 채팅방에서 판매자는 상품의 seller로 이미 정의되므로 별도로 저장하지 않습니다.
      */
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "buyer_id")
     private User buyer;
     
+    /**
+     * 판매자 정보 (다대일 관계)
+     * 상품의 seller와 같은 값을 비정규화하여 저장합니다.
+     * 채팅방 목록을 상품 테이블을 거치지 않고 판매자 기준으로 조회하기 위해 사용합니다.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "seller_id")
+    private User seller;
+    
+    /**
+     * 상품 대표 이미지 URL (채팅방 생성 시점의 첫 번째 이미지)
+     */
+    private String productThumbnailUrl;
+    
+    /**
+     * 마지막 메시지 ID (메시지가 없으면 null)
+     */
+    private Long lastMessageId;
+    
+    /**
+     * 마지막 메시지 발신자 ID
+     */
+    private Long lastMessageSenderId;
+    
+    /**
+     * 마지막 메시지 미리보기 (최대 PREVIEW_LENGTH자)
+     */
+    @Column(length = PREVIEW_LENGTH)
+    private String lastMessagePreview;
+    
+    /**
+     * 마지막 메시지 일시 (메시지가 없으면 채팅방 생성 일시)
+     * 채팅방 목록의 정렬 기준입니다.
+     */
+    private LocalDateTime lastMessageAt;
+    
+    /**
+     * 마지막으로 할당한 메시지 순번 (메시지가 없으면 0)
+     * 메시지를 저장할 때 채팅방 행 잠금 안에서 1씩 증가시켜 ChatMessage.roomSequence로 사용합니다.
+     */
+    private long lastMessageSequence;
+    
+    /**
+     * 구매자가 읽은 마지막 메시지 ID (읽음 처리 전이면 null)
+     */
+    private Long buyerLastReadMessageId;
+    
+    /**
+     * 판매자가 읽은 마지막 메시지 ID (읽음 처리 전이면 null)
+     */
+    private Long sellerLastReadMessageId;
+    
+    /**
+     * 구매자의 안 읽은 메시지 수
+     * 판매자가 메시지를 보낼 때 1씩 증가하고, 구매자가 읽음 처리하면 0이 됩니다.
+     */
+    private int buyerUnreadCount;
+    
+    /**
+     * 판매자의 안 읽은 메시지 수
+     * 구매자가 메시지를 보낼 때 1씩 증가하고, 판매자가 읽음 처리하면 0이 됩니다.
+     */
+    private int sellerUnreadCount;
+    
     /**
      * 채팅 메시지 목록 (일대다 관계)
      */
@@ -55,12 +135,58 @@ public class ChatRoom {
     @Column(updatable = false)
     private LocalDateTime createdAt;
     
+    /**
+     * 메시지 내용을 채팅방 목록용 미리보기로 자르는 메서드
+     * 
+     * @param content 메시지 내용
+     * @return 최대 PREVIEW_LENGTH자(코드 포인트 기준)의 미리보기
+     */
+    public static String toPreview(String content) {
+        if (content == null || content.codePointCount(0, content.length()) <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, PREVIEW_LENGTH));
+    }
+    
+    /**
+     * 사용자가 이 채팅방의 구매자인지 확인하는 메서드
+     * 
+     * @param userId 사용자 ID
+     * @return 구매자이면 true
+     */
+    public boolean isBuyer(Long userId) {
+        return buyer != null && userId.equals(buyer.getId());
+    }
+    
+    /**
+     * 사용자 기준 안 읽은 메시지 수를 반환하는 메서드
+     * 
+     * @param userId 사용자 ID (구매자 또는 판매자)
+     * @return 해당 사용자의 안 읽은 메시지 수
+     */
+    public int getUnreadCountFor(Long userId) {
+        return isBuyer(userId) ? buyerUnreadCount : sellerUnreadCount;
+    }
+    
+    /**
+     * 사용자 기준 마지막으로 읽은 메시지 ID를 반환하는 메서드
+     * 
+     * @param userId 사용자 ID (구매자 또는 판매자)
+     * @return 해당 사용자가 읽은 마지막 메시지 ID (없으면 null)
+     */
+    public Long getLastReadMessageIdFor(Long userId) {
+        return isBuyer(userId) ? buyerLastReadMessageId : sellerLastReadMessageId;
+    }
+    
     /**
      * 엔티티 생성 시 자동으로 호출되는 메서드
-     * 생성 일시를 현재 시간으로 설정합니다.
+     * 생성 일시를 현재 시간으로 설정하고, 마지막 메시지 일시가 없으면 생성 일시로 초기화합니다.
      */
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        if (lastMessageAt == null) {
+            lastMessageAt = createdAt;
+        }
     }
 }
\ No newline at end of file
@@ -15,7 +15,21 @@ import java.util.List;
  * 판매 상품 정보와 상태를 관리합니다.
  */
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        // 커서 기반 목록 조회 (created_at, id 내림차순)
+        @Index(name = "idx_products_created_at_id", columnList = "created_at, id"),
+        // 카테고리별 커서 기반 목록 조회
+        @Index(name = "idx_products_category_created_at_id", columnList = "category_id, created_at, id"),
+        // 대학교별 피드 조회 (판매자의 대학교로 필터링, 최신순)
+        @Index(name = "idx_products_university_status_created_at", columnList = "university, status, created_at"),
+        // 상품 필터 조회 (카테고리, 상태, 가격 조합마다 조건 컬럼이 인덱스 앞부분에 오도록 구성)
+        @Index(name = "idx_products_category_status_price", columnList = "category_id, status, price"),
+        @Index(name = "idx_products_category_price", columnList = "category_id, price"),
+        @Index(name = "idx_products_status_price", columnList = "status, price"),
+        @Index(name = "idx_products_price", columnList = "price"),
+        // 상품 목록 변경 여부 확인 (최종 수정 일시 집계)
+        @Index(name = "idx_products_updated_at", columnList = "updated_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -63,6 +77,13 @@ public class Product {
     @JoinColumn(name = "seller_id")
     private User seller;
     
+    /**
+     * 판매자의 대학교 이름 (비정규화 컬럼)
+     * 대학교별 피드를 users 조인 없이 인덱스만으로 조회하기 위해 판매자 정보를 복사해 둡니다.
+     * 판매자의 대학교 인증 정보가 바뀌면 함께 갱신됩니다.
+     */
+    private String university;
+    
     /**
      * 구매자 정보 (다대일 관계, 판매 완료 후 설정)
      */
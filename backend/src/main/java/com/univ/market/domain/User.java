@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
@@ -13,7 +14,11 @@ import java.time.LocalDateTime;
  * 사용자 정보와 인증 상태를 관리합니다.
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 토큰 버전 변경분 조회 (TokenVersionRegistry 갱신)
+        @Index(name = "idx_users_token_version_updated_at", columnList = "token_version_updated_at")
+})
+@DynamicUpdate
 @Data
 @Builder
 @NoArgsConstructor
@@ -61,6 +66,27 @@ public class User {
      */
     private String oauthId;
     
+    /**
+     * 전체 채팅방의 안 읽은 메시지 수 합계
+     * 메시지 전송·읽음 처리 시 조건부 UPDATE로만 증감하며, 엔티티 저장 시에는 변경되지 않습니다(@DynamicUpdate).
+     */
+    private int unreadMessageCount;
+    
+    /**
+     * 토큰 버전
+     * 로그아웃, 이용 정지, 대학교 재인증 시 1씩 증가하며, 발급 당시 버전이 이보다 낮은 토큰은 거부됩니다.
+     * 조건부 UPDATE로만 증가하며, 엔티티 저장 시에는 갱신하지 않습니다. (동시에 증가한 버전을 되돌리지 않도록)
+     */
+    @Column(updatable = false)
+    private int tokenVersion;
+    
+    /**
+     * 토큰 버전 변경 일시 (변경된 적 없으면 null)
+     * 서버별 토큰 버전 목록(TokenVersionRegistry)을 변경분만 조회해 갱신하는 기준입니다. 토큰 버전과 함께 UPDATE로만 변경됩니다.
+     */
+    @Column(updatable = false)
+    private LocalDateTime tokenVersionUpdatedAt;
+    
     /**
      * 생성 일시 (변경 불가)
      */
@@ -0,0 +1,16 @@
+package com.univ.market.dto.request;
+
+import com.univ.market.chat.ChatEventType;
+import lombok.Data;
+
+/**
+ * 채팅방 이벤트 전송 요청 DTO
+ * 입력 중 표시 등 저장하지 않는 이벤트를 담습니다.
+ */
+@Data
+public class ChatEventRequest {
+    /**
+     * 이벤트 종류
+     */
+    private ChatEventType type;
+}
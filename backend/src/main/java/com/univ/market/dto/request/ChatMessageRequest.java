@@ -5,6 +5,7 @@ import lombok.Data;
 /**
  * 채팅 메시지 전송 요청 DTO
  * 클라이언트에서 서버로 전송되는 채팅 메시지 데이터를 담습니다.
+ * 발신자는 WebSocket 연결의 인증 정보로 결정합니다.
  */
 @Data
 public class ChatMessageRequest {
@@ -13,11 +14,6 @@ public class ChatMessageRequest {
      */
     private Long chatRoomId;
     
-    /**
-     * 발신자 ID
-     */
-    private Long senderId;
-    
     /**
      * 메시지 내용
      */
@@ -0,0 +1,15 @@
+package com.univ.market.dto.request;
+
+import lombok.Data;
+
+/**
+ * 채팅 읽음 처리 요청 DTO
+ * 클라이언트가 채팅방의 메시지를 어디까지 읽었는지 서버에 알릴 때 사용합니다.
+ */
+@Data
+public class ChatReadRequest {
+    /**
+     * 읽은 마지막 메시지 ID (없으면 채팅방의 마지막 메시지까지 읽은 것으로 처리)
+     */
+    private Long lastReadMessageId;
+}
@@ -0,0 +1,17 @@
+package com.univ.market.dto.request;
+
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * 재연결 동기화 요청 DTO
+ * 클라이언트가 채팅방별로 마지막으로 받은 메시지 순번을 전달합니다.
+ */
+@Data
+public class ChatSyncRequest {
+    /**
+     * 채팅방 ID별 마지막으로 받은 메시지 순번 (받은 메시지가 없으면 0)
+     */
+    private Map<Long, Long> rooms;
+}
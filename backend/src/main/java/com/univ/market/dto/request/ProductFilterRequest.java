@@ -0,0 +1,31 @@
+package com.univ.market.dto.request;
+
+import com.univ.market.domain.Product;
+import lombok.Data;
+
+/**
+ * 상품 필터 조회 요청 DTO
+ * 모든 조건은 선택 사항이며, 지정한 조건만 조합하여 조회합니다.
+ */
+@Data
+public class ProductFilterRequest {
+    /**
+     * 상품 상태
+     */
+    private Product.ProductStatus status;
+    
+    /**
+     * 최소 가격
+     */
+    private Integer minPrice;
+    
+    /**
+     * 최대 가격
+     */
+    private Integer maxPrice;
+    
+    /**
+     * 카테고리 ID
+     */
+    private Long categoryId;
+}
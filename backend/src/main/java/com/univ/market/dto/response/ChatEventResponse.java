@@ -0,0 +1,35 @@
+package com.univ.market.dto.response;
+
+import com.univ.market.chat.ChatEventType;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 이벤트 응답 DTO
+ * 채팅방 이벤트 주제(/topic/chat/{roomId}/events) 구독자에게 전달됩니다.
+ */
+@Data
+@Builder
+public class ChatEventResponse {
+    /**
+     * 채팅방 ID
+     */
+    private Long chatRoomId;
+    
+    /**
+     * 이벤트를 보낸 사용자 ID
+     */
+    private Long userId;
+    
+    /**
+     * 이벤트 종류
+     */
+    private ChatEventType type;
+    
+    /**
+     * 이벤트 발생 일시
+     */
+    private LocalDateTime occurredAt;
+}
@@ -38,6 +38,11 @@ public class ChatMessageResponse {
      */
     private Long chatRoomId;
     
+    /**
+     * 채팅방 내 메시지 순번 (순번 도입 전에 저장된 메시지는 null)
+     */
+    private Long roomSequence;
+    
     /**
      * 메시지 생성 일시
      */
@@ -56,6 +61,7 @@ public class ChatMessageResponse {
                 .senderId(chatMessage.getSender().getId())
                 .senderNickname(chatMessage.getSender().getNickname())
                 .chatRoomId(chatMessage.getChatRoom().getId())
+                .roomSequence(chatMessage.getRoomSequence())
                 .createdAt(chatMessage.getCreatedAt())
                 .build();
     }
@@ -0,0 +1,27 @@
+package com.univ.market.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 채팅 읽음 처리 응답 DTO
+ * 채팅방 참여자에게 상대방의 읽음 위치를 알릴 때 사용합니다.
+ */
+@Data
+@Builder
+public class ChatReadResponse {
+    /**
+     * 채팅방 ID
+     */
+    private Long chatRoomId;
+    
+    /**
+     * 읽음 처리한 사용자 ID
+     */
+    private Long userId;
+    
+    /**
+     * 읽은 마지막 메시지 ID
+     */
+    private Long lastReadMessageId;
+}
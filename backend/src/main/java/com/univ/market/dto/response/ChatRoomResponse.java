@@ -63,37 +63,52 @@ public class ChatRoomResponse {
      */
     private ChatMessageResponse lastMessage;
     
+    /**
+     * 조회한 사용자의 안 읽은 메시지 수
+     */
+    private int unreadCount;
+    
+    /**
+     * 조회한 사용자가 읽은 마지막 메시지 ID
+     */
+    private Long lastReadMessageId;
+    
     /**
      * ChatRoom 엔티티를 ChatRoomResponse DTO로 변환하는 정적 메서드
+     * 마지막 메시지와 상품 이미지는 채팅방에 비정규화된 값을 사용하므로 메시지, 이미지 컬렉션을 읽지 않습니다.
+     * 마지막 메시지의 content는 미리보기(최대 ChatRoom.PREVIEW_LENGTH자)입니다.
+     * 안 읽은 메시지 수와 읽음 위치는 조회한 사용자(구매자 또는 판매자) 기준입니다.
      * 
-     * @param chatRoom 변환할 ChatRoom 엔티티
+     * @param chatRoom 변환할 ChatRoom 엔티티 (상품, 판매자, 구매자 로딩 필요)
+     * @param viewerId 조회한 사용자 ID
      * @return 변환된 ChatRoomResponse 객체
      */
-    public static ChatRoomResponse fromEntity(ChatRoom chatRoom) {
+    public static ChatRoomResponse fromEntity(ChatRoom chatRoom, Long viewerId) {
         // 마지막 메시지 설정
         ChatMessageResponse lastMessage = null;
-        if (!chatRoom.getMessages().isEmpty()) {
-            lastMessage = ChatMessageResponse.fromEntity(
-                    chatRoom.getMessages().get(chatRoom.getMessages().size() - 1));
-        }
-        
-        // 상품 이미지 URL 설정
-        String productImageUrl = null;
-        if (!chatRoom.getProduct().getImages().isEmpty()) {
-            productImageUrl = chatRoom.getProduct().getImages().get(0).getImageUrl();
+        if (chatRoom.getLastMessageId() != null) {
+            lastMessage = ChatMessageResponse.builder()
+                    .id(chatRoom.getLastMessageId())
+                    .content(chatRoom.getLastMessagePreview())
+                    .senderId(chatRoom.getLastMessageSenderId())
+                    .chatRoomId(chatRoom.getId())
+                    .createdAt(chatRoom.getLastMessageAt())
+                    .build();
         }
         
         return ChatRoomResponse.builder()
                 .id(chatRoom.getId())
                 .productId(chatRoom.getProduct().getId())
                 .productTitle(chatRoom.getProduct().getTitle())
-                .productImageUrl(productImageUrl)
-                .sellerId(chatRoom.getProduct().getSeller().getId())
-                .sellerNickname(chatRoom.getProduct().getSeller().getNickname())
+                .productImageUrl(chatRoom.getProductThumbnailUrl())
+                .sellerId(chatRoom.getSeller().getId())
+                .sellerNickname(chatRoom.getSeller().getNickname())
                 .buyerId(chatRoom.getBuyer().getId())
                 .buyerNickname(chatRoom.getBuyer().getNickname())
                 .createdAt(chatRoom.getCreatedAt())
                 .lastMessage(lastMessage)
+                .unreadCount(chatRoom.getUnreadCountFor(viewerId))
+                .lastReadMessageId(chatRoom.getLastReadMessageIdFor(viewerId))
                 .build();
     }
 }
@@ -0,0 +1,31 @@
+package com.univ.market.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재연결 동기화 응답 DTO
+ * 요청한 채팅방별로 마지막으로 받은 순번 이후의 메시지를 전달합니다.
+ */
+@Data
+@Builder
+public class ChatSyncResponse {
+    /**
+     * 새 메시지 목록 (채팅방별로 순번 오름차순)
+     */
+    private List<ChatMessageResponse> messages;
+    
+    /**
+     * 채팅방 ID별 다음 동기화에 사용할 메시지 순번 (새 메시지가 없으면 요청한 값 그대로)
+     */
+    private Map<Long, Long> lastSequences;
+    
+    /**
+     * 밀린 메시지가 너무 많아 동기화 대신 메시지를 다시 조회해야 하는 채팅방 ID 목록
+     * 이 채팅방의 메시지는 messages에 포함되지 않습니다.
+     */
+    private List<Long> resyncRoomIds;
+}
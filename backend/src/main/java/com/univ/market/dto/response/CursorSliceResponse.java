@@ -0,0 +1,47 @@
+package com.univ.market.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답 DTO
+ * 전체 개수를 계산하지 않고, 다음 구간을 조회할 때 사용할 커서만 함께 전달합니다.
+ * 
+ * @param <T> 목록 항목 타입
+ */
+@Data
+@Builder
+public class CursorSliceResponse<T> {
+    /**
+     * 현재 구간의 항목 목록
+     */
+    private List<T> content;
+    
+    /**
+     * 다음 구간 조회에 사용할 커서 (다음 구간이 없으면 null)
+     */
+    private String nextCursor;
+    
+    /**
+     * 다음 구간 존재 여부
+     */
+    private boolean hasNext;
+    
+    /**
+     * 항목 목록과 다음 커서로 응답을 생성하는 정적 메서드
+     * 
+     * @param content 현재 구간의 항목 목록
+     * @param nextCursor 다음 구간 커서 (없으면 null)
+     * @param <T> 목록 항목 타입
+     * @return 커서 기반 목록 응답
+     */
+    public static <T> CursorSliceResponse<T> of(List<T> content, String nextCursor) {
+        return CursorSliceResponse.<T>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
@@ -97,21 +97,34 @@ public class ProductResponse {
      */
     
     public static ProductResponse fromEntity(Product product) {
+        return fromEntity(product, product.getCategory().getName(), product.getImages().stream()
+                .map(image -> image.getImageUrl())
+                .collect(Collectors.toList()));
+    }
+    
+    /**
+     * 미리 조회한 카테고리 이름과 이미지 URL 목록으로 엔티티를 DTO로 변환하는 정적 팩토리 메소드
+     * 카테고리와 이미지 컬렉션을 지연 로딩하지 않으므로 목록 조회와 상품 등록에서 사용합니다.
+     * 
+     * @param product 상품 엔티티 (판매자, 구매자가 로딩된 상태)
+     * @param categoryName 카테고리 이름 (카테고리 스냅샷에서 조회)
+     * @param imageUrls 상품 이미지 URL 목록
+     * @return 상품 응답 DTO
+     */
+    public static ProductResponse fromEntity(Product product, String categoryName, List<String> imageUrls) {
         return ProductResponse.builder()
                 .id(product.getId())
                 .title(product.getTitle())
                 .description(product.getDescription())
                 .price(product.getPrice())
                 .status(product.getStatus().name())
-                .categoryName(product.getCategory().getName())
+                .categoryName(categoryName)
                 .categoryId(product.getCategory().getId())
                 .sellerId(product.getSeller().getId())
                 .sellerNickname(product.getSeller().getNickname())
                 .buyerId(product.getBuyer() != null ? product.getBuyer().getId() : null)
                 .buyerNickname(product.getBuyer() != null ? product.getBuyer().getNickname() : null)
-                .imageUrls(product.getImages().stream()
-                        .map(image -> image.getImageUrl())
-                        .collect(Collectors.toList()))
+                .imageUrls(imageUrls)
                 .createdAt(product.getCreatedAt())
                 .updatedAt(product.getUpdatedAt())
                 .build();
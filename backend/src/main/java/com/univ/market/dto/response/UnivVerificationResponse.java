@@ -0,0 +1,22 @@
+package com.univ.market.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 대학교 인증 확인 응답 DTO
+ * 인증 결과와, 인증 정보가 반영된 새 토큰을 담습니다. (이전 토큰은 무효화됨)
+ */
+@Data
+@AllArgsConstructor
+public class UnivVerificationResponse {
+    /**
+     * 인증 성공 여부
+     */
+    private boolean verified;
+    
+    /**
+     * 새로 발급된 JWT 토큰
+     */
+    private String token;
+}
@@ -0,0 +1,17 @@
+package com.univ.market.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 안 읽은 메시지 수 응답 DTO
+ * 전체 채팅방의 안 읽은 메시지 수 합계(배지 표시용)를 담습니다.
+ */
+@Data
+@AllArgsConstructor
+public class UnreadCountResponse {
+    /**
+     * 전체 안 읽은 메시지 수
+     */
+    private int totalUnreadCount;
+}
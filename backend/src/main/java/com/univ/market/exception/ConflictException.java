@@ -0,0 +1,16 @@
+package com.univ.market.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 동시 요청 경합 등으로 요청한 상태 변경을 적용할 수 없을 때 발생하는 예외
+ * 컨트롤러 밖으로 전파되면 409 Conflict 응답으로 변환됩니다.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConflictException extends IllegalStateException {
+    
+    public ConflictException(String message) {
+        super(message);
+    }
+}
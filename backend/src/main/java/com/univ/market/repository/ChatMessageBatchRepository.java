@@ -0,0 +1,126 @@
+package com.univ.market.repository;
+
+import com.univ.market.chat.ChatLogRecord;
+import com.univ.market.domain.ChatRoom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 쓰기 지연 모드에서 채팅 메시지를 JDBC 배치로 저장하는 저장소
+ * 메시지 ID는 서버에서 미리 할당되므로 ID를 지정하여 삽입합니다.
+ * 호출하는 쪽의 트랜잭션에 참여하며, 영속성 컨텍스트는 거치지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBatchRepository {
+    
+    private static final String INSERT_MESSAGE_SQL =
+            "INSERT INTO chat_messages (id, content, sender_id, chat_room_id, room_sequence, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+    
+    // 수신자가 이미 읽음 처리한 메시지는 안 읽은 메시지 수에 포함하지 않음
+    private static final String INCREMENT_BUYER_UNREAD_SQL =
+            "UPDATE chat_rooms SET buyer_unread_count = buyer_unread_count + 1 " +
+            "WHERE id = ? AND (buyer_last_read_message_id IS NULL OR buyer_last_read_message_id < ?)";
+    
+    private static final String INCREMENT_SELLER_UNREAD_SQL =
+            "UPDATE chat_rooms SET seller_unread_count = seller_unread_count + 1 " +
+            "WHERE id = ? AND (seller_last_read_message_id IS NULL OR seller_last_read_message_id < ?)";
+    
+    private static final String INCREMENT_USER_UNREAD_FOR_BUYER_SQL =
+            "UPDATE users SET unread_message_count = unread_message_count + 1 WHERE id = ? AND EXISTS (" +
+            "SELECT 1 FROM chat_rooms r WHERE r.id = ? " +
+            "AND (r.buyer_last_read_message_id IS NULL OR r.buyer_last_read_message_id < ?))";
+    
+    private static final String INCREMENT_USER_UNREAD_FOR_SELLER_SQL =
+            "UPDATE users SET unread_message_count = unread_message_count + 1 WHERE id = ? AND EXISTS (" +
+            "SELECT 1 FROM chat_rooms r WHERE r.id = ? " +
+            "AND (r.seller_last_read_message_id IS NULL OR r.seller_last_read_message_id < ?))";
+    
+    private static final String UPDATE_LAST_MESSAGE_SQL =
+            "UPDATE chat_rooms SET last_message_id = ?, last_message_sender_id = ?, last_message_preview = ?, " +
+            "last_message_at = ?, last_message_sequence = ? WHERE id = ? AND (last_message_id IS NULL OR last_message_id < ?)";
+    
+    private static final String FIND_LAST_SEQUENCE_SQL = "SELECT last_message_sequence FROM chat_rooms WHERE id = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * 저장된 메시지 중 가장 큰 ID를 조회하는 메서드
+     * 
+     * @return 최대 메시지 ID, 메시지가 없으면 0
+     */
+    public long findMaxMessageId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM chat_messages", Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+    
+    /**
+     * 채팅방에 마지막으로 할당한 메시지 순번을 조회하는 메서드
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @return 마지막 메시지 순번
+     * @throws IllegalArgumentException 존재하지 않는 채팅방인 경우
+     */
+    public long findLastMessageSequence(long chatRoomId) {
+        List<Long> sequences = jdbcTemplate.queryForList(FIND_LAST_SEQUENCE_SQL, Long.class, chatRoomId);
+        if (sequences.isEmpty()) {
+            throw new IllegalArgumentException("채팅방을 찾을 수 없습니다.");
+        }
+        return sequences.get(0);
+    }
+    
+    /**
+     * 메시지 묶음을 저장하고 채팅방, 사용자의 비정규화 컬럼을 함께 갱신하는 메서드
+     * 채팅방 행을 먼저 갱신한 뒤 메시지를 삽입하여, 직접 저장 모드의 읽음 처리와 같은 순서(채팅방 → 사용자)로 잠급니다.
+     * 
+     * @param records 저장할 메시지 목록 (ID 오름차순)
+     */
+    public void writeBatch(List<ChatLogRecord> records) {
+        List<Object[]> buyerUnread = new ArrayList<>();
+        List<Object[]> sellerUnread = new ArrayList<>();
+        List<Object[]> buyerUserUnread = new ArrayList<>();
+        List<Object[]> sellerUserUnread = new ArrayList<>();
+        List<Object[]> messages = new ArrayList<>(records.size());
+        Map<Long, ChatLogRecord> lastMessageByRoom = new LinkedHashMap<>();
+        
+        for (ChatLogRecord record : records) {
+            if (record.isRecipientBuyer()) {
+                buyerUnread.add(new Object[]{record.getChatRoomId(), record.getId()});
+                buyerUserUnread.add(new Object[]{record.getRecipientId(), record.getChatRoomId(), record.getId()});
+            } else {
+                sellerUnread.add(new Object[]{record.getChatRoomId(), record.getId()});
+                sellerUserUnread.add(new Object[]{record.getRecipientId(), record.getChatRoomId(), record.getId()});
+            }
+            messages.add(new Object[]{record.getId(), record.getContent(), record.getSenderId(),
+                    record.getChatRoomId(), record.getRoomSequence(), Timestamp.valueOf(record.getCreatedAt())});
+            lastMessageByRoom.merge(record.getChatRoomId(), record,
+                    (current, candidate) -> candidate.getId() > current.getId() ? candidate : current);
+        }
+        
+        batchUpdate(INCREMENT_BUYER_UNREAD_SQL, buyerUnread);
+        batchUpdate(INCREMENT_SELLER_UNREAD_SQL, sellerUnread);
+        batchUpdate(INCREMENT_USER_UNREAD_FOR_BUYER_SQL, buyerUserUnread);
+        batchUpdate(INCREMENT_USER_UNREAD_FOR_SELLER_SQL, sellerUserUnread);
+        batchUpdate(INSERT_MESSAGE_SQL, messages);
+        
+        List<Object[]> lastMessages = new ArrayList<>(lastMessageByRoom.size());
+        for (ChatLogRecord last : lastMessageByRoom.values()) {
+            lastMessages.add(new Object[]{last.getId(), last.getSenderId(), ChatRoom.toPreview(last.getContent()),
+                    Timestamp.valueOf(last.getCreatedAt()), last.getRoomSequence(), last.getChatRoomId(), last.getId()});
+        }
+        batchUpdate(UPDATE_LAST_MESSAGE_SQL, lastMessages);
+    }
+    
+    private void batchUpdate(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+}
@@ -1,15 +1,68 @@
 package com.univ.market.repository;
 
 import com.univ.market.domain.ChatMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * 채팅 메시지 엔티티에 대한 데이터 액세스 인터페이스
  * JpaRepository를 확장하여 기본적인 CRUD 기능을 제공합니다.
+ * 메시지 목록은 (chat_room_id, id) 인덱스를 따라 최신 메시지부터 필요한 개수만 조회합니다.
  */
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
-    // 기본 JpaRepository 메서드만 사용
-    // ChatRoom에서 OneToMany로 메시지를 가져오는 경우가 많아 추가 메서드 필요 없음
-}
\ No newline at end of file
+    
+    /**
+     * 채팅방의 최신 메시지를 발신자와 함께 조회하는 메서드
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @param pageable 조회 개수 (정렬은 쿼리에 고정)
+     * @return 메시지 목록 (최신순)
+     */
+    @Query("SELECT m FROM ChatMessage m JOIN FETCH m.sender " +
+           "WHERE m.chatRoom.id = :chatRoomId ORDER BY m.id DESC")
+    List<ChatMessage> findLatestByChatRoomId(Long chatRoomId, Pageable pageable);
+    
+    /**
+     * 채팅방에서 특정 메시지 이전의 메시지를 발신자와 함께 조회하는 메서드
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @param beforeId 기준 메시지 ID (이 ID보다 작은 메시지만 조회)
+     * @param pageable 조회 개수 (정렬은 쿼리에 고정)
+     * @return 메시지 목록 (최신순)
+     */
+    @Query("SELECT m FROM ChatMessage m JOIN FETCH m.sender " +
+           "WHERE m.chatRoom.id = :chatRoomId AND m.id < :beforeId ORDER BY m.id DESC")
+    List<ChatMessage> findByChatRoomIdBefore(Long chatRoomId, Long beforeId, Pageable pageable);
+    
+    /**
+     * 채팅방에서 특정 메시지 이후에 상대방이 보낸 메시지 수를 세는 메서드 (일부만 읽은 경우 안 읽은 메시지 수 계산용)
+     * (chat_room_id, id) 인덱스의 범위를 읽습니다.
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @param readerId 읽은 사용자 ID (이 사용자가 보낸 메시지는 제외)
+     * @param afterId 읽은 마지막 메시지 ID
+     * @return 안 읽은 메시지 수
+     */
+    @Query("SELECT COUNT(m) FROM ChatMessage m " +
+           "WHERE m.chatRoom.id = :chatRoomId AND m.id > :afterId AND m.sender.id <> :readerId")
+    long countUnreadAfter(Long chatRoomId, Long readerId, Long afterId);
+    
+    /**
+     * 채팅방에서 특정 순번 이후의 메시지를 발신자와 함께 조회하는 메서드 (재연결 시 동기화용)
+     * (chat_room_id, room_sequence) 유니크 인덱스의 범위를 읽습니다.
+     * 순번은 채팅방 행 잠금 안에서 커밋 순서대로 할당되므로, 조회한 순번 이하의 메시지가 나중에 커밋되는 일은 없습니다.
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @param afterSequence 기준 순번 (이 순번보다 큰 메시지만 조회)
+     * @param pageable 조회 개수 (정렬은 쿼리에 고정)
+     * @return 메시지 목록 (순번 오름차순)
+     */
+    @Query("SELECT m FROM ChatMessage m JOIN FETCH m.sender " +
+           "WHERE m.chatRoom.id = :chatRoomId AND m.roomSequence > :afterSequence ORDER BY m.roomSequence")
+    List<ChatMessage> findByChatRoomIdAfterSequence(Long chatRoomId, Long afterSequence, Pageable pageable);
+}
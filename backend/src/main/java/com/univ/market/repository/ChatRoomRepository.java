@@ -1,9 +1,21 @@
 package com.univ.market.repository;
 
 import com.univ.market.domain.ChatRoom;
+import com.univ.market.repository.projection.ChatRoomMembersView;
+import com.univ.market.repository.projection.ChatRoomParticipantsView;
+import com.univ.market.repository.projection.ChatRoomSequenceView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,28 +27,230 @@ import java.util.Optional;
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     
     /**
-     * 구매자 ID로 해당 사용자가 참여한 채팅방 목록을 조회하는 메서드
+     * 상품 ID와 구매자 ID로 특정 채팅방을 상품, 판매자, 구매자와 함께 조회하는 메서드
+     * 상품과 구매자가 정해지면 채팅방은 하나만 존재합니다. (유니크 제약)
      * 
+     * @param productId 상품 ID
      * @param buyerId 구매자 ID
-     * @return 해당 구매자가 참여한 채팅방 목록
+     * @return 해당 조건의 채팅방, 없으면 Optional.empty()
      */
-    List<ChatRoom> findByBuyerId(Long buyerId);
+    @Query("SELECT r FROM ChatRoom r JOIN FETCH r.product JOIN FETCH r.seller JOIN FETCH r.buyer " +
+           "WHERE r.product.id = :productId AND r.buyer.id = :buyerId")
+    Optional<ChatRoom> findDetailByProductIdAndBuyerId(Long productId, Long buyerId);
     
     /**
-     * 판매자 ID로 해당 사용자가 참여한 채팅방 목록을 조회하는 메서드
+     * 상품과 구매자로 채팅방을 한 문장으로 생성하는 메서드
+     * 판매자와 대표 이미지(첫 번째 이미지)는 상품에서 같은 문장 안에서 가져오며, 상품이나 구매자가 없으면 아무 행도 삽입하지 않습니다.
+     * 같은 상품, 구매자의 채팅방이 이미 있으면 유니크 제약 위반으로 실패하며, 이 메서드의 트랜잭션만 롤백됩니다.
      * 
-     * @param sellerId 판매자 ID
-     * @return 해당 판매자가 등록한 상품과 관련된 채팅방 목록
+     * @param productId 상품 ID
+     * @param buyerId 구매자 ID
+     * @param createdAt 생성 일시
+     * @return 삽입된 행 수 (상품이나 구매자가 없으면 0)
      */
-    List<ChatRoom> findByProductSellerId(Long sellerId);
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO chat_rooms (product_id, buyer_id, seller_id, product_thumbnail_url, " +
+                   "buyer_unread_count, seller_unread_count, last_message_sequence, last_message_at, created_at) " +
+                   "SELECT p.id, u.id, p.seller_id, " +
+                   "(SELECT i.image_url FROM images i WHERE i.product_id = p.id ORDER BY i.id LIMIT 1), " +
+                   "0, 0, 0, :createdAt, :createdAt " +
+                   "FROM products p JOIN users u ON u.id = :buyerId WHERE p.id = :productId",
+           nativeQuery = true)
+    int insertChatRoom(Long productId, Long buyerId, LocalDateTime createdAt);
     
     /**
-     * 상품 ID와 구매자 ID로 특정 채팅방을 조회하는 메서드
-     * 상품과 구매자가 정해지면 채팅방은 하나만 존재해야 합니다.
+     * 채팅방의 구매자 ID와 판매자 ID만 조회하는 메서드
+     * 참여자 권한 확인 시 채팅방, 상품 엔티티를 읽지 않고 한 번의 쿼리로 확인합니다.
      * 
-     * @param productId 상품 ID
-     * @param buyerId 구매자 ID
-     * @return 해당 조건의 채팅방, 없으면 Optional.empty()
+     * @param id 채팅방 ID
+     * @return 채팅방 참여자 정보, 없으면 Optional.empty()
+     */
+    @Query("SELECT r.buyer.id AS buyerId, r.seller.id AS sellerId FROM ChatRoom r WHERE r.id = :id")
+    Optional<ChatRoomParticipantsView> findParticipantsById(Long id);
+    
+    /**
+     * 채팅방의 구매자, 판매자 ID와 닉네임을 조회하는 메서드
+     * 
+     * @param id 채팅방 ID
+     * @return 채팅방 참여자 정보, 없으면 Optional.empty()
+     */
+    @Query("SELECT b.id AS buyerId, b.nickname AS buyerNickname, s.id AS sellerId, s.nickname AS sellerNickname " +
+           "FROM ChatRoom r JOIN r.buyer b JOIN r.seller s WHERE r.id = :id")
+    Optional<ChatRoomMembersView> findMembersById(Long id);
+    
+    /**
+     * 사용자가 판매자 또는 구매자로 참여한 채팅방을 최근 메시지순으로 조회하는 메서드
+     * 상품, 판매자, 구매자를 함께 조회하며, 마지막 메시지 정보는 채팅방에 비정규화된 값을 사용합니다.
+     * 
+     * @param userId 사용자 ID
+     * @param pageable 페이징 정보 (정렬은 쿼리에 고정)
+     * @return 채팅방 목록 구간 (최근 메시지순)
+     */
+    @Query("SELECT r FROM ChatRoom r JOIN FETCH r.product JOIN FETCH r.seller JOIN FETCH r.buyer " +
+           "WHERE r.buyer.id = :userId OR r.seller.id = :userId " +
+           "ORDER BY r.lastMessageAt DESC, r.id DESC")
+    Slice<ChatRoom> findInboxByUserId(Long userId, Pageable pageable);
+    
+    /**
+     * 사용자가 참여한 채팅방 중 요청한 채팅방의 마지막 메시지 순번을 조회하는 메서드 (재연결 동기화용)
+     * 참여하지 않은 채팅방은 결과에서 제외되므로 권한 확인을 겸합니다.
+     * 
+     * @param userId 사용자 ID
+     * @param ids 채팅방 ID 목록
+     * @return 채팅방별 마지막 메시지 순번 (채팅방 ID 순)
+     */
+    @Query("SELECT r.id AS id, r.lastMessageSequence AS lastMessageSequence FROM ChatRoom r " +
+           "WHERE r.id IN :ids AND (r.buyer.id = :userId OR r.seller.id = :userId) ORDER BY r.id")
+    List<ChatRoomSequenceView> findSequencesByUserIdAndIdIn(Long userId, Collection<Long> ids);
+    
+    /**
+     * 채팅방을 상품, 판매자, 구매자와 함께 조회하는 메서드
+     * 
+     * @param id 채팅방 ID
+     * @return 채팅방, 없으면 Optional.empty()
+     */
+    @Query("SELECT r FROM ChatRoom r JOIN FETCH r.product JOIN FETCH r.seller JOIN FETCH r.buyer WHERE r.id = :id")
+    Optional<ChatRoom> findDetailById(Long id);
+    
+    /**
+     * 채팅방의 마지막 메시지 정보를 갱신하는 메서드
+     * 더 최근(ID가 큰) 메시지일 때만 갱신하므로, 동시에 전송된 메시지의 커밋 순서가 뒤바뀌어도 마지막 메시지가 되돌아가지 않습니다.
+     * 
+     * @param id 채팅방 ID
+     * @param messageId 메시지 ID
+     * @param senderId 발신자 ID
+     * @param preview 메시지 미리보기
+     * @param sentAt 메시지 전송 일시
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.lastMessageId = :messageId, r.lastMessageSenderId = :senderId, " +
+           "r.lastMessagePreview = :preview, r.lastMessageAt = :sentAt " +
+           "WHERE r.id = :id AND (r.lastMessageId IS NULL OR r.lastMessageId < :messageId)")
+    int updateLastMessage(Long id, Long messageId, Long senderId, String preview, LocalDateTime sentAt);
+    
+    /**
+     * 읽음 처리를 위해 채팅방을 쓰기 잠금으로 조회하는 메서드
+     * 안 읽은 메시지 수를 읽고 초기화하는 사이에 새 메시지로 증가한 값이 사라지지 않도록 합니다.
+     * 
+     * @param id 채팅방 ID
+     * @return 채팅방, 없으면 Optional.empty()
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ChatRoom r WHERE r.id = :id")
+    Optional<ChatRoom> findByIdForUpdate(Long id);
+    
+    /**
+     * 메시지 순번과 구매자의 안 읽은 메시지 수를 1 증가시키는 메서드
+     * 채팅방 행을 잠근 채로 증가시키므로, 같은 트랜잭션에서 조회한 순번은 다른 메시지와 겹치지 않습니다.
+     * 
+     * @param id 채팅방 ID
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.lastMessageSequence = r.lastMessageSequence + 1, " +
+           "r.buyerUnreadCount = r.buyerUnreadCount + 1 WHERE r.id = :id")
+    int incrementSequenceAndBuyerUnreadCount(Long id);
+    
+    /**
+     * 메시지 순번과 판매자의 안 읽은 메시지 수를 1 증가시키는 메서드
+     * 
+     * @param id 채팅방 ID
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.lastMessageSequence = r.lastMessageSequence + 1, " +
+           "r.sellerUnreadCount = r.sellerUnreadCount + 1 WHERE r.id = :id")
+    int incrementSequenceAndSellerUnreadCount(Long id);
+    
+    /**
+     * 채팅방에 마지막으로 할당한 메시지 순번을 조회하는 메서드
+     * 
+     * @param id 채팅방 ID
+     * @return 마지막 메시지 순번, 채팅방이 없으면 Optional.empty()
+     */
+    @Query("SELECT r.lastMessageSequence FROM ChatRoom r WHERE r.id = :id")
+    Optional<Long> findLastMessageSequenceById(Long id);
+    
+    /**
+     * 구매자의 읽음 위치와 안 읽은 메시지 수를 갱신하는 메서드
+     * 읽음 위치가 앞으로만 이동하도록 하는 것은 채팅방 행을 잠근 호출하는 쪽에서 계산합니다.
+     * 
+     * @param id 채팅방 ID
+     * @param messageId 읽은 마지막 메시지 ID
+     * @param unreadCount 읽음 위치 이후의 안 읽은 메시지 수
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.buyerLastReadMessageId = :messageId, r.buyerUnreadCount = :unreadCount " +
+           "WHERE r.id = :id")
+    int markReadByBuyer(Long id, Long messageId, int unreadCount);
+    
+    /**
+     * 판매자의 읽음 위치와 안 읽은 메시지 수를 갱신하는 메서드
+     * 
+     * @param id 채팅방 ID
+     * @param messageId 읽은 마지막 메시지 ID
+     * @param unreadCount 읽음 위치 이후의 안 읽은 메시지 수
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.sellerLastReadMessageId = :messageId, r.sellerUnreadCount = :unreadCount " +
+           "WHERE r.id = :id")
+    int markReadBySeller(Long id, Long messageId, int unreadCount);
+    
+    /**
+     * 판매자가 비어 있는 기존 채팅방에 상품의 판매자를 채우는 메서드
+     * 
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.seller = (SELECT p.seller FROM Product p WHERE p.id = r.product.id) " +
+           "WHERE r.seller IS NULL")
+    int backfillSeller();
+    
+    /**
+     * 마지막 메시지 ID가 비어 있는 기존 채팅방에 가장 최근 메시지 ID를 채우는 메서드
+     * 
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.lastMessageId = (SELECT MAX(m.id) FROM ChatMessage m WHERE m.chatRoom = r) " +
+           "WHERE r.lastMessageId IS NULL AND EXISTS (SELECT 1 FROM ChatMessage m WHERE m.chatRoom = r)")
+    int backfillLastMessageId();
+    
+    /**
+     * 마지막 메시지 ID만 채워진 채팅방에 해당 메시지의 발신자, 미리보기, 일시를 채우는 메서드
+     * 
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ChatRoom r SET " +
+           "r.lastMessageSenderId = (SELECT m.sender.id FROM ChatMessage m WHERE m.id = r.lastMessageId), " +
+           "r.lastMessagePreview = (SELECT SUBSTRING(m.content, 1, " + ChatRoom.PREVIEW_LENGTH + ") " +
+           "FROM ChatMessage m WHERE m.id = r.lastMessageId), " +
+           "r.lastMessageAt = (SELECT m.createdAt FROM ChatMessage m WHERE m.id = r.lastMessageId) " +
+           "WHERE r.lastMessageId IS NOT NULL AND r.lastMessageSenderId IS NULL")
+    int backfillLastMessageDetails();
+    
+    /**
+     * 메시지가 없는 기존 채팅방의 마지막 메시지 일시를 생성 일시로 채우는 메서드
+     * 
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.lastMessageAt = r.createdAt WHERE r.lastMessageAt IS NULL")
+    int backfillLastMessageAt();
+    
+    /**
+     * 대표 이미지가 비어 있는 기존 채팅방에 상품의 첫 번째 이미지 URL을 채우는 메서드
+     * 
+     * @return 변경된 행 수
      */
-    Optional<ChatRoom> findByProductIdAndBuyerId(Long productId, Long buyerId);
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.productThumbnailUrl = (SELECT i.imageUrl FROM Image i WHERE i.id = " +
+           "(SELECT MIN(img.id) FROM Image img WHERE img.product = r.product)) " +
+           "WHERE r.productThumbnailUrl IS NULL AND EXISTS (SELECT 1 FROM Image i WHERE i.product = r.product)")
+    int backfillProductThumbnailUrl();
 }
@@ -2,9 +2,12 @@ package com.univ.market.repository;
 
 import com.univ.market.domain.Image;
 import com.univ.market.domain.Product;
+import com.univ.market.repository.projection.ProductImageUrlView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -30,6 +33,17 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
      */
     List<Image> findByProductId(Long productId);
     
+    /**
+     * 여러 상품의 이미지 URL을 한 번에 조회하는 메서드
+     * 목록 조회 시 상품마다 이미지 컬렉션을 지연 로딩하지 않도록 페이지 단위로 묶어서 조회합니다.
+     * 
+     * @param productIds 조회할 상품 ID 목록
+     * @return 상품 ID와 이미지 URL 목록 (이미지 등록 순)
+     */
+    @Query("SELECT i.product.id AS productId, i.imageUrl AS imageUrl FROM Image i " +
+           "WHERE i.product.id IN :productIds ORDER BY i.id")
+    List<ProductImageUrlView> findImageUrlsByProductIdIn(Collection<Long> productIds);
+    
     /**
      * 특정 상품에 속한 모든 이미지를 삭제하는 메서드
      * 
@@ -0,0 +1,115 @@
+package com.univ.market.repository;
+
+import com.univ.market.domain.Product;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 일괄 등록을 위한 JDBC 배치 저장소
+ * 엔티티 ID가 IDENTITY 전략이라 Hibernate 배치 삽입이 동작하지 않으므로,
+ * 상품과 이미지를 JdbcTemplate 배치로 직접 삽입합니다.
+ * 호출하는 쪽의 트랜잭션에 참여하며, 영속성 컨텍스트는 거치지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductBulkInsertRepository {
+    
+    private static final String INSERT_PRODUCT_SQL =
+            "INSERT INTO products (title, description, price, status, category_id, seller_id, university, " +
+            "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final String INSERT_IMAGE_SQL =
+            "INSERT INTO images (image_url, product_id) VALUES (?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * 상품 목록을 배치로 삽입하는 메서드
+     * 카테고리와 판매자는 ID만 사용하며, 생성·수정 일시는 호출 시점으로 설정해 전달한 상품에도 기록합니다.
+     * 
+     * @param products 삽입할 상품 목록 (ID 없음)
+     * @return 생성된 상품 ID 목록 (입력 순서와 동일)
+     * @throws IllegalStateException 생성된 ID 수가 삽입한 상품 수와 다른 경우
+     */
+    public List<Long> insertProducts(List<Product> products) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        Timestamp now = Timestamp.valueOf(createdAt);
+        products.forEach(product -> {
+            product.setCreatedAt(createdAt);
+            product.setUpdatedAt(createdAt);
+        });
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_PRODUCT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Product product = products.get(i);
+                        ps.setString(1, product.getTitle());
+                        ps.setString(2, product.getDescription());
+                        ps.setInt(3, product.getPrice());
+                        ps.setString(4, product.getStatus().name());
+                        ps.setLong(5, product.getCategory().getId());
+                        ps.setLong(6, product.getSeller().getId());
+                        if (product.getUniversity() != null) {
+                            ps.setString(7, product.getUniversity());
+                        } else {
+                            ps.setNull(7, Types.VARCHAR);
+                        }
+                        ps.setTimestamp(8, now);
+                        ps.setTimestamp(9, now);
+                    }
+                    
+                    @Override
+                    public int getBatchSize() {
+                        return products.size();
+                    }
+                },
+                keyHolder);
+        
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != products.size()) {
+            throw new IllegalStateException("생성된 상품 ID를 확인할 수 없습니다.");
+        }
+        
+        List<Long> ids = new ArrayList<>(keys.size());
+        for (Map<String, Object> key : keys) {
+            ids.add(((Number) key.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+    
+    /**
+     * 상품 이미지 URL을 배치로 삽입하는 메서드
+     * 
+     * @param productIds 상품 ID 목록
+     * @param imageUrls 상품별 이미지 URL 목록 (productIds와 같은 순서)
+     */
+    public void insertImages(List<Long> productIds, List<List<String>> imageUrls) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            for (String url : imageUrls.get(i)) {
+                rows.add(new Object[]{url, productIds.get(i)});
+            }
+        }
+        
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_IMAGE_SQL, rows);
+        }
+    }
+}
@@ -1,13 +1,27 @@
 package com.univ.market.repository;
 
 import com.univ.market.domain.Product;
+import com.univ.market.domain.User;
+import com.univ.market.repository.projection.ProductListVersionView;
+import com.univ.market.repository.projection.ProductSearchView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 /**
  * 상품 엔티티에 대한 데이터 액세스 인터페이스
  * JpaRepository를 확장하여 기본적인 CRUD 기능을 제공합니다.
@@ -17,40 +31,183 @@ import org.springframework.stereotype.Repository;
 public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
     
     /**
-     * 모든 상품을 생성일 기준 내림차순으로 페이징하여 조회하는 메서드
+     * 목록 조회용 상품 페이지를 생성일 기준 내림차순으로 조회하는 메서드
+     * 판매자, 구매자를 함께 조회(fetch join)하여 응답 변환 시 지연 로딩이 발생하지 않습니다.
+     * 카테고리 이름은 카테고리 스냅샷에서 찾으므로 조인하지 않습니다.
+     * 이미지는 ImageRepository.findImageUrlsByProductIdIn으로 페이지 단위로 한 번에 조회합니다.
      * 
      * @param pageable 페이징 정보
      * @return 상품 목록 페이지
      */
-    Page<Product> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    @Query(value = "SELECT p FROM Product p JOIN FETCH p.seller LEFT JOIN FETCH p.buyer " +
+                   "ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<Product> findListPage(Pageable pageable);
     
     /**
-     * 키워드로 상품을 검색하는 메서드
-     * 제목 또는 설명에 키워드가 포함된 상품을 검색합니다.
+     * 상품 상세 조회용으로 연관 엔티티와 이미지를 한 번에 조회하는 메서드
      * 
-     * @param keyword 검색 키워드
-     * @param pageable 페이징 정보
-     * @return 검색 결과 페이지
+     * @param id 상품 ID
+     * @return 상품, 없으면 Optional.empty()
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.category JOIN FETCH p.seller LEFT JOIN FETCH p.buyer " +
+           "LEFT JOIN FETCH p.images WHERE p.id = :id")
+    Optional<Product> findDetailById(Long id);
+    
+    /**
+     * 상품 목록의 버전 정보를 집계하는 메서드
+     * 
+     * @return 전체 상품 수, 최대 ID, 가장 최근 수정 일시
+     */
+    @Query("SELECT COUNT(p) AS totalCount, MAX(p.id) AS maxId, MAX(p.updatedAt) AS lastUpdatedAt FROM Product p")
+    ProductListVersionView findListVersion();
+    
+    /**
+     * 검색 색인이 찾은 상품들을 연관 엔티티와 함께 조회하는 메서드
+     * 
+     * @param ids 조회할 상품 ID 목록
+     * @return 상품 목록 (순서 보장 안 함)
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.seller LEFT JOIN FETCH p.buyer " +
+           "WHERE p.id IN :ids")
+    List<Product> findListByIdIn(Collection<Long> ids);
+    
+    /**
+     * 검색 색인 재구축을 위해 상품의 색인 대상 컬럼을 스트리밍으로 조회하는 메서드
+     * 트랜잭션 안에서 호출하고, 사용 후 스트림을 닫아야 합니다.
+     * 
+     * @return 상품 ID, 제목, 설명, 생성 일시 스트림
      */
-    @Query("SELECT p FROM Product p WHERE p.title LIKE %:keyword% OR p.description LIKE %:keyword%")
-    Page<Product> searchByKeyword(String keyword, Pageable pageable);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT p.id AS id, p.title AS title, p.description AS description, p.createdAt AS createdAt FROM Product p")
+    Stream<ProductSearchView> streamAllForSearchIndex();
     
     /**
      * 카테고리별로 상품을 조회하는 메서드
+     * 연관 엔티티는 findListPage와 동일하게 함께 조회합니다.
      * 
      * @param categoryId 카테고리 ID
      * @param pageable 페이징 정보
      * @return 해당 카테고리의 상품 목록 페이지
      */
-    Page<Product> findByCategoryId(Long categoryId, Pageable pageable);
+    @Query(value = "SELECT p FROM Product p JOIN FETCH p.seller LEFT JOIN FETCH p.buyer " +
+                   "WHERE p.category.id = :categoryId ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Product p WHERE p.category.id = :categoryId")
+    Page<Product> findListPageByCategoryId(Long categoryId, Pageable pageable);
+    
+    /**
+     * 커서 기반 목록의 첫 구간을 조회하는 메서드
+     * (created_at, id) 복합 인덱스 순서대로 읽으며 카운트 쿼리를 실행하지 않습니다.
+     * 
+     * @param pageable 조회 개수 정보 (다음 구간 존재 여부 확인을 위해 요청 크기 + 1)
+     * @return 상품 목록
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.seller LEFT JOIN FETCH p.buyer " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Product> findFirstSlice(Pageable pageable);
+    
+    /**
+     * 커서 이후의 목록 구간을 조회하는 메서드
+     * 
+     * @param createdAt 커서 상품의 생성 일시
+     * @param id 커서 상품의 ID
+     * @param pageable 조회 개수 정보 (요청 크기 + 1)
+     * @return 커서보다 오래된 상품 목록
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.seller LEFT JOIN FETCH p.buyer " +
+           "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Product> findSliceAfter(LocalDateTime createdAt, Long id, Pageable pageable);
+    
+    /**
+     * 카테고리별 커서 기반 목록의 첫 구간을 조회하는 메서드
+     * 
+     * @param categoryId 카테고리 ID
+     * @param pageable 조회 개수 정보 (요청 크기 + 1)
+     * @return 상품 목록
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.seller LEFT JOIN FETCH p.buyer " +
+           "WHERE p.category.id = :categoryId ORDER BY p.createdAt DESC, p.id DESC")
+    List<Product> findFirstSliceByCategoryId(Long categoryId, Pageable pageable);
+    
+    /**
+     * 카테고리별로 커서 이후의 목록 구간을 조회하는 메서드
+     * 
+     * @param categoryId 카테고리 ID
+     * @param createdAt 커서 상품의 생성 일시
+     * @param id 커서 상품의 ID
+     * @param pageable 조회 개수 정보 (요청 크기 + 1)
+     * @return 커서보다 오래된 상품 목록
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.seller LEFT JOIN FETCH p.buyer " +
+           "WHERE p.category.id = :categoryId " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Product> findSliceAfterByCategoryId(Long categoryId, LocalDateTime createdAt, Long id, Pageable pageable);
     
     /**
-     * 대학교별로 상품을 조회하는 메서드
-     * 같은 대학교 학생들의 상품만 조회할 때 사용합니다.
+     * 대학교별 상품 피드를 조회하는 메서드
+     * 비정규화된 university 컬럼과 (university, status, created_at) 인덱스로 users 조인 없이 조회합니다.
+     * Slice로 반환하므로 카운트 쿼리를 실행하지 않습니다.
      * 
-     * @param universityName 대학교 이름
+     * @param university 대학교 이름
+     * @param status 상품 상태
      * @param pageable 페이징 정보
-     * @return 해당 대학교 학생들의 상품 목록 페이지
+     * @return 해당 대학교 학생들의 상품 목록 (최신순)
+     */
+    @Query("SELECT p FROM Product p JOIN FETCH p.seller LEFT JOIN FETCH p.buyer " +
+           "WHERE p.university = :university AND p.status = :status ORDER BY p.createdAt DESC")
+    Slice<Product> findUniversityFeed(String university, Product.ProductStatus status, Pageable pageable);
+    
+    /**
+     * 판매자가 등록한 모든 상품의 대학교 정보를 갱신하는 메서드
+     * 판매자의 대학교 인증 정보가 바뀌었을 때 비정규화 컬럼을 동기화합니다.
+     * 
+     * @param sellerId 판매자 ID
+     * @param university 변경된 대학교 이름
+     * @return 갱신된 상품 수
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.university = :university WHERE p.seller.id = :sellerId")
+    int updateUniversityBySellerId(Long sellerId, String university);
+    
+    /**
+     * 대학교가 비어 있는 기존 상품에 판매자의 대학교 이름을 채우는 메서드
+     * 대학교 인증을 한 판매자의 상품만 갱신하므로, 한 번 채워진 뒤에는 아무 행도 변경하지 않습니다.
+     * 
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.university = (SELECT u.universityName FROM User u WHERE u.id = p.seller.id) " +
+           "WHERE p.university IS NULL " +
+           "AND p.seller.id IN (SELECT u.id FROM User u WHERE u.universityName IS NOT NULL)")
+    int backfillUniversity();
+    
+    /**
+     * 판매중인 상품을 예약 상태로 변경하는 메서드
+     * 상태 확인과 변경을 하나의 조건부 UPDATE로 처리하므로 동시에 여러 구매자가 요청해도 한 명만 성공합니다.
+     * 
+     * @param id 상품 ID
+     * @param buyer 구매자
+     * @param updatedAt 수정 일시
+     * @return 변경된 행 수 (0이면 상품이 없거나 이미 판매중 상태가 아님)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.status = com.univ.market.domain.Product$ProductStatus.RESERVED, " +
+           "p.buyer = :buyer, p.updatedAt = :updatedAt " +
+           "WHERE p.id = :id AND p.status = com.univ.market.domain.Product$ProductStatus.WAITING")
+    int reserveIfWaiting(Long id, User buyer, LocalDateTime updatedAt);
+    
+    /**
+     * 예약중인 상품을 거래 완료 상태로 변경하는 메서드
+     * 
+     * @param id 상품 ID
+     * @param updatedAt 수정 일시
+     * @return 변경된 행 수 (0이면 상품이 없거나 예약 상태가 아님)
      */
-    Page<Product> findBySellerUniversityName(String universityName, Pageable pageable);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.status = com.univ.market.domain.Product$ProductStatus.COMPLETED, " +
+           "p.updatedAt = :updatedAt " +
+           "WHERE p.id = :id AND p.status = com.univ.market.domain.Product$ProductStatus.RESERVED")
+    int completeIfReserved(Long id, LocalDateTime updatedAt);
 }
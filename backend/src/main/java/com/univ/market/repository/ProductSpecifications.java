@@ -0,0 +1,80 @@
+package com.univ.market.repository;
+
+import com.univ.market.domain.Product;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 상품 필터 조회용 Specification 모음
+ * 조건 값이 없으면 null을 반환하여 조건에서 제외되므로 자유롭게 조합할 수 있습니다.
+ * 각 조건 조합은 Product 엔티티에 정의된 인덱스의 앞부분 컬럼과 일치하도록 구성되어 있습니다.
+ */
+public final class ProductSpecifications {
+    
+    private ProductSpecifications() {
+    }
+    
+    /**
+     * 카테고리 조건
+     * 
+     * @param categoryId 카테고리 ID (null이면 조건 없음)
+     * @return 카테고리 Specification
+     */
+    public static Specification<Product> inCategory(Long categoryId) {
+        return (root, query, builder) -> categoryId == null
+                ? null
+                : builder.equal(root.get("category").get("id"), categoryId);
+    }
+    
+    /**
+     * 상품 상태 조건
+     * 
+     * @param status 상품 상태 (null이면 조건 없음)
+     * @return 상품 상태 Specification
+     */
+    public static Specification<Product> hasStatus(Product.ProductStatus status) {
+        return (root, query, builder) -> status == null
+                ? null
+                : builder.equal(root.get("status"), status);
+    }
+    
+    /**
+     * 최소 가격 조건
+     * 
+     * @param minPrice 최소 가격 (null이면 조건 없음)
+     * @return 최소 가격 Specification
+     */
+    public static Specification<Product> priceAtLeast(Integer minPrice) {
+        return (root, query, builder) -> minPrice == null
+                ? null
+                : builder.greaterThanOrEqualTo(root.get("price"), minPrice);
+    }
+    
+    /**
+     * 최대 가격 조건
+     * 
+     * @param maxPrice 최대 가격 (null이면 조건 없음)
+     * @return 최대 가격 Specification
+     */
+    public static Specification<Product> priceAtMost(Integer maxPrice) {
+        return (root, query, builder) -> maxPrice == null
+                ? null
+                : builder.lessThanOrEqualTo(root.get("price"), maxPrice);
+    }
+    
+    /**
+     * 판매자와 구매자를 함께 조회(fetch join)하는 Specification
+     * 목록 응답 변환 시 지연 로딩을 막기 위해 사용하며, 카운트 쿼리에는 적용하지 않습니다.
+     * 
+     * @return 조건 없이 fetch join만 추가하는 Specification
+     */
+    public static Specification<Product> fetchSellerAndBuyer() {
+        return (root, query, builder) -> {
+            if (query != null && !Long.class.equals(query.getResultType()) && !long.class.equals(query.getResultType())) {
+                root.fetch("seller", JoinType.INNER);
+                root.fetch("buyer", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+}
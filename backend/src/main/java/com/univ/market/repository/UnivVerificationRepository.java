@@ -1,25 +1,28 @@
 package com.univ.market.repository;
 
 import com.univ.market.domain.UnivVerification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.List;
 
 /**
  * 대학교 인증 엔티티에 대한 데이터 액세스 인터페이스
  * JpaRepository를 확장하여 기본적인 CRUD 기능을 제공합니다.
+ * 확인 대기 중인 인증 코드는 VerificationCodeStore의 메모리에 보관하며, 이 테이블에는 인증이 완료된 기록만 저장합니다.
  */
 @Repository
 public interface UnivVerificationRepository extends JpaRepository<UnivVerification, Long> {
     
     /**
-     * 이메일과 인증 코드로 인증 정보를 조회하는 메서드
-     * 사용자가 입력한 인증 코드가 유효한지 확인할 때 사용합니다.
+     * 인증이 완료되지 않은 인증 정보의 ID를 오래된 순으로 조회하는 메서드
+     * 인증 코드를 DB에 저장하던 때 남은 행을 나누어 삭제하는 데 사용합니다.
      * 
-     * @param email 대학교 이메일
-     * @param verificationCode 인증 코드
-     * @return 해당 조건의 인증 정보, 없으면 Optional.empty()
+     * @param pageable 조회할 개수
+     * @return 인증 정보 ID 목록
      */
-    Optional<UnivVerification> findByEmailAndVerificationCode(String email, String verificationCode);
-}
\ No newline at end of file
+    @Query("SELECT v.id FROM UnivVerification v WHERE v.verified = false ORDER BY v.id")
+    List<Long> findUnverifiedIds(Pageable pageable);
+}
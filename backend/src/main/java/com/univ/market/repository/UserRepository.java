@@ -1,9 +1,14 @@
 package com.univ.market.repository;
 
 import com.univ.market.domain.User;
+import com.univ.market.repository.projection.UserTokenVersionView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -30,4 +35,67 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 해당 조건의 사용자, 없으면 Optional.empty()
      */
     Optional<User> findByOauthProviderAndOauthId(String provider, String id);
+    
+    /**
+     * 사용자의 전체 안 읽은 메시지 수만 조회하는 메서드
+     * 
+     * @param id 사용자 ID
+     * @return 안 읽은 메시지 수, 사용자가 없으면 Optional.empty()
+     */
+    @Query("SELECT u.unreadMessageCount FROM User u WHERE u.id = :id")
+    Optional<Integer> findUnreadMessageCountById(Long id);
+    
+    /**
+     * 사용자의 전체 안 읽은 메시지 수를 1 증가시키는 메서드
+     * 
+     * @param id 사용자 ID
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.unreadMessageCount = u.unreadMessageCount + 1 WHERE u.id = :id")
+    int incrementUnreadMessageCount(Long id);
+    
+    /**
+     * 사용자의 전체 안 읽은 메시지 수를 지정한 만큼 감소시키는 메서드 (0 미만으로는 내려가지 않음)
+     * 
+     * @param id 사용자 ID
+     * @param count 감소시킬 수
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.unreadMessageCount = " +
+           "CASE WHEN u.unreadMessageCount > :count THEN u.unreadMessageCount - :count ELSE 0 END " +
+           "WHERE u.id = :id")
+    int decrementUnreadMessageCount(Long id, int count);
+    
+    /**
+     * 사용자의 토큰 버전을 1 증가시켜 이전에 발급한 토큰을 모두 무효화하는 메서드
+     * 
+     * @param id 사용자 ID
+     * @param updatedAt 변경 일시
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1, u.tokenVersionUpdatedAt = :updatedAt WHERE u.id = :id")
+    int incrementTokenVersion(Long id, LocalDateTime updatedAt);
+    
+    /**
+     * 사용자의 토큰 버전만 조회하는 메서드
+     * 
+     * @param id 사용자 ID
+     * @return 토큰 버전, 사용자가 없으면 Optional.empty()
+     */
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(Long id);
+    
+    /**
+     * 지정한 일시 이후에 변경된 토큰 버전을 조회하는 메서드
+     * 서버 시작 시에는 토큰 유효 시간 안의 변경분을, 주기적 갱신 시에는 마지막 조회 이후 변경분을 조회합니다.
+     * 
+     * @param since 기준 일시 (이 일시 이후 변경분)
+     * @return 사용자별 토큰 버전과 변경 일시 목록
+     */
+    @Query("SELECT u.id AS id, u.tokenVersion AS tokenVersion, u.tokenVersionUpdatedAt AS tokenVersionUpdatedAt " +
+           "FROM User u WHERE u.tokenVersionUpdatedAt >= :since")
+    List<UserTokenVersionView> findTokenVersionsUpdatedSince(LocalDateTime since);
 }
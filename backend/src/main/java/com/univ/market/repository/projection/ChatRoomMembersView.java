@@ -0,0 +1,27 @@
+package com.univ.market.repository.projection;
+
+/**
+ * 채팅방 참여자 프로젝션 (닉네임 포함)
+ * 메시지를 DB 저장 전에 전송할 때 발신자 닉네임과 수신자를 결정하는 데 사용합니다.
+ */
+public interface ChatRoomMembersView {
+    /**
+     * 구매자 ID
+     */
+    Long getBuyerId();
+    
+    /**
+     * 구매자 닉네임
+     */
+    String getBuyerNickname();
+    
+    /**
+     * 판매자 ID
+     */
+    Long getSellerId();
+    
+    /**
+     * 판매자 닉네임
+     */
+    String getSellerNickname();
+}
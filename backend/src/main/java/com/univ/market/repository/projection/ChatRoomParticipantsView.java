@@ -0,0 +1,17 @@
+package com.univ.market.repository.projection;
+
+/**
+ * 채팅방 참여자 프로젝션
+ * 권한 확인에 필요한 구매자 ID와 판매자 ID만 가져옵니다.
+ */
+public interface ChatRoomParticipantsView {
+    /**
+     * 구매자 ID
+     */
+    Long getBuyerId();
+    
+    /**
+     * 판매자 ID (상품의 판매자)
+     */
+    Long getSellerId();
+}
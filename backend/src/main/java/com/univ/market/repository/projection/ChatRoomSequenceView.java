@@ -0,0 +1,17 @@
+package com.univ.market.repository.projection;
+
+/**
+ * 채팅방 메시지 순번 프로젝션
+ * 재연결 동기화 시 채팅방별로 새 메시지가 있는지 판단하는 데 사용합니다.
+ */
+public interface ChatRoomSequenceView {
+    /**
+     * 채팅방 ID
+     */
+    Long getId();
+    
+    /**
+     * 마지막으로 할당한 메시지 순번
+     */
+    long getLastMessageSequence();
+}
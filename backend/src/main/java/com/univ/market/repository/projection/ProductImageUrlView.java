@@ -0,0 +1,17 @@
+package com.univ.market.repository.projection;
+
+/**
+ * 상품 이미지 URL 프로젝션
+ * 여러 상품의 이미지를 한 번에 조회할 때 상품 ID와 이미지 URL만 가져옵니다.
+ */
+public interface ProductImageUrlView {
+    /**
+     * 이미지가 속한 상품 ID
+     */
+    Long getProductId();
+    
+    /**
+     * 이미지 URL
+     */
+    String getImageUrl();
+}
@@ -0,0 +1,24 @@
+package com.univ.market.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록 버전 프로젝션
+ * 목록의 변경 여부를 판단하기 위해 상품 수, 최대 ID, 최종 수정 일시만 집계합니다.
+ */
+public interface ProductListVersionView {
+    /**
+     * 전체 상품 수
+     */
+    Long getTotalCount();
+    
+    /**
+     * 최대 상품 ID (상품이 없으면 null)
+     */
+    Long getMaxId();
+    
+    /**
+     * 가장 최근 수정 일시 (상품이 없으면 null)
+     */
+    LocalDateTime getLastUpdatedAt();
+}
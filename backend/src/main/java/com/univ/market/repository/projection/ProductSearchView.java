@@ -0,0 +1,29 @@
+package com.univ.market.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인용 상품 프로젝션
+ * 색인 재구축 시 연관 엔티티 없이 색인 대상 컬럼만 스트리밍으로 읽습니다.
+ */
+public interface ProductSearchView {
+    /**
+     * 상품 ID
+     */
+    Long getId();
+    
+    /**
+     * 상품 제목
+     */
+    String getTitle();
+    
+    /**
+     * 상품 설명
+     */
+    String getDescription();
+    
+    /**
+     * 상품 생성 일시
+     */
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,24 @@
+package com.univ.market.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 토큰 버전 프로젝션
+ * 서버별 토큰 버전 목록(TokenVersionRegistry)을 적재하고 갱신하는 데 사용합니다.
+ */
+public interface UserTokenVersionView {
+    /**
+     * 사용자 ID
+     */
+    Long getId();
+    
+    /**
+     * 토큰 버전
+     */
+    int getTokenVersion();
+    
+    /**
+     * 토큰 버전 변경 일시
+     */
+    LocalDateTime getTokenVersionUpdatedAt();
+}
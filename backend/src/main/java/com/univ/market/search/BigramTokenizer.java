@@ -0,0 +1,90 @@
+package com.univ.market.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 문자 바이그램 토크나이저
+ * 한국어처럼 띄어쓰기만으로 단어를 나누기 어려운 텍스트를 형태소 분석 없이 색인하기 위해
+ * 연속된 두 글자 단위(바이그램)로 토큰을 만듭니다.
+ */
+final class BigramTokenizer {
+    
+    private BigramTokenizer() {
+    }
+    
+    /**
+     * 문서 색인용 토큰을 생성하는 메서드
+     * 단어마다 한 글자 토큰(유니그램)과 두 글자 토큰(바이그램)을 모두 생성하여
+     * 한 글자 검색어("책")와 여러 글자 검색어("전공책")를 모두 처리할 수 있게 합니다.
+     * 
+     * @param text 색인할 텍스트
+     * @return 토큰 목록 (중복 포함, 출현 빈도 계산에 사용)
+     */
+    static List<String> tokenizeForIndex(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (int[] word : splitWords(text)) {
+            for (int i = 0; i < word.length; i++) {
+                tokens.add(new String(word, i, 1));
+                if (i + 1 < word.length) {
+                    tokens.add(new String(word, i, 2));
+                }
+            }
+        }
+        return tokens;
+    }
+    
+    /**
+     * 검색어 토큰을 생성하는 메서드
+     * 두 글자 이상인 단어는 바이그램만, 한 글자 단어는 유니그램을 사용합니다.
+     * 
+     * @param keyword 검색어
+     * @return 중복이 제거된 검색 토큰 집합
+     */
+    static Set<String> tokenizeForQuery(String keyword) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (int[] word : splitWords(keyword)) {
+            if (word.length == 1) {
+                tokens.add(new String(word, 0, 1));
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length; i++) {
+                tokens.add(new String(word, i, 2));
+            }
+        }
+        return tokens;
+    }
+    
+    /**
+     * 텍스트를 정규화(NFC, 소문자)한 뒤 문자·숫자가 아닌 글자를 기준으로 단어를 나누는 메서드
+     * 
+     * @param text 원본 텍스트
+     * @return 단어별 코드 포인트 배열 목록
+     */
+    private static List<int[]> splitWords(String text) {
+        List<int[]> words = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return words;
+        }
+        
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+        int start = -1;
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean wordChar = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                int[] word = new int[i - start];
+                System.arraycopy(codePoints, start, word, 0, word.length);
+                words.add(word);
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,402 @@
+package com.univ.market.search;
+
+import com.univ.market.repository.projection.ProductSearchView;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 상품 검색용 인메모리 역색인
+ * 상품 제목과 설명을 문자 바이그램으로 색인하고, 검색어의 모든 토큰을 포함하는 상품을
+ * TF-IDF 점수 순 또는 최신순(생성 일시, ID)으로 반환합니다. 검색 비용은 전체 상품 수가 아니라 검색어 토큰의 색인 목록 크기에 비례합니다.
+ * 
+ * 색인은 서버마다 메모리에 따로 있으므로 다른 서버에서 등록·삭제된 상품은 재구축 전까지 반영되지 않습니다.
+ * 여러 서버로 실행할 때는 search.index.rebuild-cron 으로 주기적 재구축을 켜야 합니다. (ProductSearchIndexLoader)
+ */
+@Component
+public class ProductSearchIndex {
+    
+    /**
+     * 제목에서 나온 토큰의 가중치
+     */
+    private static final int TITLE_WEIGHT = 3;
+    
+    /**
+     * 설명에서 나온 토큰의 가중치
+     */
+    private static final int DESCRIPTION_WEIGHT = 1;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    /**
+     * 토큰 → (상품 ID → 가중 출현 빈도) 색인 목록
+     */
+    private Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    
+    /**
+     * 상품 ID → 색인된 상품 (삭제 및 재색인, 최신순 검색 시 사용)
+     */
+    private Map<Long, IndexedDocument> documents = new HashMap<>();
+    
+    /**
+     * 재구축 중에 들어온 변경 (상품 ID → 색인할 상품, 삭제면 null)
+     * 재구축 중이 아니면 null이며, 새 색인으로 교체할 때 다시 적용합니다.
+     */
+    private Map<Long, IndexedDocument> changesDuringRebuild;
+    
+    /**
+     * 상품을 색인하는 메서드
+     * 이미 색인된 상품이면 기존 토큰을 제거한 뒤 다시 색인합니다.
+     * 
+     * @param productId 상품 ID
+     * @param title 상품 제목
+     * @param description 상품 설명
+     * @param createdAt 상품 생성 일시 (최신순 검색의 정렬 기준)
+     */
+    public void index(Long productId, String title, String description, LocalDateTime createdAt) {
+        IndexedDocument document = new IndexedDocument(termWeights(title, description), createdAt);
+        lock.writeLock().lock();
+        try {
+            removeDocument(postings, documents, productId);
+            addDocument(postings, documents, productId, document);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.put(productId, document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 상품을 색인에서 제거하는 메서드
+     * 
+     * @param productId 제거할 상품 ID
+     */
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(postings, documents, productId);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.put(productId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 전체 색인을 다시 구축하는 메서드
+     * 새 색인을 별도로 만든 뒤 한 번에 교체하므로, 재구축 중에도 기존 색인으로 검색할 수 있습니다.
+     * 상품 스트림을 열기 전부터 교체할 때까지 들어온 등록·삭제는 기록해 두었다가 새 색인에 다시 적용하므로,
+     * 스트림이 읽은 시점과 관계없이 재구축 중의 변경이 사라지지 않습니다.
+     * 
+     * @param products 색인할 상품 스트림을 여는 함수 (변경 기록을 시작한 뒤에 호출하며, 다 읽으면 닫음)
+     * @return 색인된 상품 수
+     */
+    public synchronized int rebuild(Supplier<Stream<ProductSearchView>> products) {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        Map<String, Map<Long, Integer>> newPostings = new HashMap<>();
+        Map<Long, IndexedDocument> newDocuments = new HashMap<>();
+        try {
+            try (Stream<ProductSearchView> stream = products.get()) {
+                stream.forEach(product -> addDocument(newPostings, newDocuments, product.getId(), new IndexedDocument(
+                        termWeights(product.getTitle(), product.getDescription()), product.getCreatedAt())));
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        
+        lock.writeLock().lock();
+        try {
+            // 재구축 중의 변경을 마지막 상태 기준으로 새 색인에 적용
+            changesDuringRebuild.forEach((productId, document) -> {
+                removeDocument(newPostings, newDocuments, productId);
+                if (document != null) {
+                    addDocument(newPostings, newDocuments, productId, document);
+                }
+            });
+            changesDuringRebuild = null;
+            postings = newPostings;
+            documents = newDocuments;
+            return newDocuments.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * 키워드로 상품을 검색하는 메서드
+     * 검색어의 모든 토큰을 포함하는 상품만 결과에 포함하며, 점수가 같으면 최신 상품(ID가 큰 상품)이 먼저 옵니다.
+     * 
+     * @param keyword 검색 키워드
+     * @param offset 건너뛸 결과 수
+     * @param limit 반환할 최대 결과 수
+     * @return 전체 결과 수와 요청 구간의 상품 ID 목록 (관련도 순)
+     */
+    public SearchHits search(String keyword, long offset, int limit) {
+        Set<String> queryTerms = BigramTokenizer.tokenizeForQuery(keyword);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return SearchHits.EMPTY;
+        }
+        
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> termPostings = termPostings(queryTerms);
+            if (termPostings == null) {
+                return SearchHits.EMPTY;
+            }
+            
+            double documentCount = documents.size();
+            double[] idf = new double[termPostings.size()];
+            for (int i = 0; i < idf.length; i++) {
+                idf[i] = Math.log(1 + documentCount / termPostings.get(i).size());
+            }
+            
+            // 요청 구간까지만 유지하는 최소 힙으로 상위 결과 선택
+            long window = Math.min(offset + limit, Integer.MAX_VALUE);
+            PriorityQueue<ScoredProduct> top = new PriorityQueue<>(ScoredProduct.ORDER);
+            long totalHits = 0;
+            
+            candidates:
+            for (Map.Entry<Long, Integer> candidate : termPostings.get(0).entrySet()) {
+                double score = candidate.getValue() * idf[0];
+                for (int i = 1; i < termPostings.size(); i++) {
+                    Integer frequency = termPostings.get(i).get(candidate.getKey());
+                    if (frequency == null) {
+                        continue candidates;
+                    }
+                    score += frequency * idf[i];
+                }
+                
+                totalHits++;
+                top.offer(new ScoredProduct(candidate.getKey(), score));
+                if (top.size() > window) {
+                    top.poll();
+                }
+            }
+            
+            List<ScoredProduct> ranked = new ArrayList<>(top);
+            ranked.sort(ScoredProduct.ORDER.reversed());
+            List<Long> productIds = new ArrayList<>(limit);
+            for (long i = offset; i < ranked.size(); i++) {
+                productIds.add(ranked.get((int) i).productId);
+            }
+            return new SearchHits(totalHits, productIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 키워드로 상품을 검색해 최신순(생성 일시, ID 내림차순)으로 커서 이후의 구간을 반환하는 메서드
+     * 검색어의 모든 토큰을 포함하는 상품 중 커서 위치보다 오래된 상품만 대상으로 하며,
+     * 요청 개수만 유지하는 힙으로 선택하므로 일치하는 상품 전체를 정렬하지 않습니다.
+     * 
+     * @param keyword 검색 키워드
+     * @param createdAt 커서 상품의 생성 일시 (첫 구간이면 null)
+     * @param id 커서 상품의 ID (첫 구간이면 null)
+     * @param limit 반환할 최대 결과 수
+     * @return 커서 이후 구간의 상품 ID 목록 (최신순)
+     */
+    public List<Long> searchLatest(String keyword, LocalDateTime createdAt, Long id, int limit) {
+        Set<String> queryTerms = BigramTokenizer.tokenizeForQuery(keyword);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        RecentProduct cursor = createdAt != null && id != null
+                ? new RecentProduct(id, createdAt.truncatedTo(ChronoUnit.MICROS)) : null;
+        
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> termPostings = termPostings(queryTerms);
+            if (termPostings == null) {
+                return Collections.emptyList();
+            }
+            
+            // 가장 오래된 상품이 먼저 나오는 힙에 최신 limit개만 유지
+            PriorityQueue<RecentProduct> latest = new PriorityQueue<>(RecentProduct.ORDER);
+            
+            candidates:
+            for (Long productId : termPostings.get(0).keySet()) {
+                for (int i = 1; i < termPostings.size(); i++) {
+                    if (!termPostings.get(i).containsKey(productId)) {
+                        continue candidates;
+                    }
+                }
+                
+                RecentProduct candidate = new RecentProduct(productId, documents.get(productId).createdAt);
+                if (cursor != null && RecentProduct.ORDER.compare(candidate, cursor) >= 0) {
+                    continue;
+                }
+                latest.offer(candidate);
+                if (latest.size() > limit) {
+                    latest.poll();
+                }
+            }
+            
+            List<RecentProduct> ordered = new ArrayList<>(latest);
+            ordered.sort(RecentProduct.ORDER.reversed());
+            List<Long> productIds = new ArrayList<>(ordered.size());
+            for (RecentProduct product : ordered) {
+                productIds.add(product.productId);
+            }
+            return productIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 색인된 상품 수를 반환하는 메서드
+     * 
+     * @return 색인된 상품 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 검색어 토큰의 색인 목록을 짧은 순서로 반환하는 메서드 (가장 짧은 목록을 기준으로 교집합 계산)
+     * 읽기 잠금 안에서 호출해야 합니다.
+     * 
+     * @return 토큰별 색인 목록, 색인에 없는 토큰이 있으면 null
+     */
+    private List<Map<Long, Integer>> termPostings(Set<String> queryTerms) {
+        List<Map<Long, Integer>> termPostings = new ArrayList<>(queryTerms.size());
+        for (String term : queryTerms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) {
+                return null;
+            }
+            termPostings.add(posting);
+        }
+        termPostings.sort(Comparator.comparingInt(Map::size));
+        return termPostings;
+    }
+    
+    /**
+     * 제목과 설명에서 토큰별 가중 출현 빈도를 계산하는 메서드
+     */
+    private static Map<String, Integer> termWeights(String title, String description) {
+        Map<String, Integer> weights = new HashMap<>();
+        BigramTokenizer.tokenizeForIndex(title).forEach(term -> weights.merge(term, TITLE_WEIGHT, Integer::sum));
+        BigramTokenizer.tokenizeForIndex(description).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+        return weights;
+    }
+    
+    private static void addDocument(Map<String, Map<Long, Integer>> postings, Map<Long, IndexedDocument> documents,
+                                    Long productId, IndexedDocument document) {
+        document.weights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(productId, weight));
+        documents.put(productId, document);
+    }
+    
+    private static void removeDocument(Map<String, Map<Long, Integer>> postings, Map<Long, IndexedDocument> documents,
+                                       Long productId) {
+        IndexedDocument document = documents.remove(productId);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.weights.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(productId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+    
+    /**
+     * 색인된 상품의 토큰별 가중치와 생성 일시
+     */
+    private static class IndexedDocument {
+        private final Map<String, Integer> weights;
+        private final LocalDateTime createdAt;
+        
+        private IndexedDocument(Map<String, Integer> weights, LocalDateTime createdAt) {
+            this.weights = weights;
+            // DB 컬럼 정밀도(마이크로초)에 맞춰, DB에서 읽은 커서 값과 같은 기준으로 비교
+            this.createdAt = createdAt != null ? createdAt.truncatedTo(ChronoUnit.MICROS) : null;
+        }
+    }
+    
+    /**
+     * 최신순 검색 후보 (생성 일시가 없으면 가장 오래된 것으로 취급)
+     */
+    @RequiredArgsConstructor
+    private static class RecentProduct {
+        private static final Comparator<RecentProduct> ORDER = Comparator
+                .comparing((RecentProduct recent) -> recent.createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparingLong(recent -> recent.productId);
+        
+        private final long productId;
+        private final LocalDateTime createdAt;
+    }
+    
+    /**
+     * 점수가 계산된 검색 후보
+     */
+    @RequiredArgsConstructor
+    private static class ScoredProduct {
+        private static final Comparator<ScoredProduct> ORDER = Comparator
+                .comparingDouble((ScoredProduct scored) -> scored.score)
+                .thenComparingLong(scored -> scored.productId);
+        
+        private final long productId;
+        private final double score;
+    }
+    
+    /**
+     * 검색 결과
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class SearchHits {
+        private static final SearchHits EMPTY = new SearchHits(0, Collections.emptyList());
+        
+        /**
+         * 검색어와 일치하는 전체 상품 수
+         */
+        private final long totalHits;
+        
+        /**
+         * 요청 구간의 상품 ID 목록 (관련도 순)
+         */
+        private final List<Long> productIds;
+    }
+}
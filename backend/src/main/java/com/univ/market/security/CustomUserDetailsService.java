@@ -37,21 +37,5 @@ public class CustomUserDetailsService implements UserDetailsService {
                 "",
                 Collections.emptyList());
     }
-    
-    /**
-     * ID를 기반으로 사용자 정보를 로드하는 메서드
-     * 
-     * @param id 사용자 ID
-     * @return UserDetails 객체
-     * @throws UsernameNotFoundException 사용자를 찾을 수 없을 때 발생
-     */
-    public UserDetails loadUserById(Long id) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + id));
-        
-        return new org.springframework.security.core.userdetails.User(
-                user.getId().toString(),
-                "",
-                Collections.emptyList());
-    }
+
 }
\ No newline at end of file
@@ -35,10 +35,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 요청에서 JWT 토큰 추출
         String token = jwtTokenProvider.resolveToken(request);
         
-        // 토큰 유효성 검증 및 인증 정보 설정
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication auth = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(auth);
+        // 토큰 검증 및 인증 정보 설정 (유효하지 않으면 인증 없이 진행)
+        if (token != null) {
+            Authentication auth = jwtTokenProvider.authenticate(token);
+            if (auth != null) {
+                SecurityContextHolder.getContext().setAuthentication(auth);
+            }
         }
         
         // 다음 필터로 요청 전달
@@ -1,7 +1,12 @@
 package com.univ.market.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.univ.market.domain.User;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -10,15 +15,28 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 토큰 생성 및 검증을 처리하는 클래스
  * JWT 기반 인증을 위한 토큰 생성, 검증, 파싱 등의 기능을 제공합니다.
+ * 
+ * 토큰에는 사용자 ID, 대학교 인증 여부, 대학교 이름, 토큰 버전이 담겨 있어 요청마다 사용자를 조회하지 않습니다.
+ * 로그아웃 등으로 무효화된 토큰은 토큰 버전을 TokenVersionRegistry의 현재 버전과 비교하여 거부합니다.
+ * 
+ * 검증된 토큰의 인증 정보는 토큰 다이제스트(SHA-256)를 키로 캐시하여, 같은 토큰의 다음 요청에서는 서명 검증을 생략합니다.
+ * 캐시 항목은 토큰 만료 시각과 최대 보관 시간(jwt.authentication-cache.max-ttl-seconds) 중 이른 시각에 제거됩니다.
  */
 @Component
 public class JwtTokenProvider {
@@ -29,22 +47,38 @@ public class JwtTokenProvider {
     @Value("${jwt.token-validity-in-seconds}")
     private long tokenValidityInSeconds;
     
+    @Value("${jwt.authentication-cache.maximum-size}")
+    private long authenticationCacheMaximumSize;
+    
+    @Value("${jwt.authentication-cache.max-ttl-seconds}")
+    private long authenticationCacheMaxTtlSeconds;
+    
     private Key key;
     
-    private final CustomUserDetailsService userDetailsService;
+    /**
+     * 서명 검증용 파서 (불변 객체이므로 모든 요청에서 공유)
+     */
+    private JwtParser jwtParser;
+    
+    /**
+     * 검증된 토큰의 인증 정보 캐시 (키: 토큰 SHA-256 다이제스트)
+     */
+    private Cache<String, VerifiedToken> authenticationCache;
+    
+    private final TokenVersionRegistry tokenVersionRegistry;
     
     /**
      * 생성자
      * 
-     * @param userDetailsService 사용자 정보 서비스
+     * @param tokenVersionRegistry 사용자별 토큰 버전 목록
      */
-    public JwtTokenProvider(CustomUserDetailsService userDetailsService) {
-        this.userDetailsService = userDetailsService;
+    public JwtTokenProvider(TokenVersionRegistry tokenVersionRegistry) {
+        this.tokenVersionRegistry = tokenVersionRegistry;
     }
     
     /**
      * 초기화 메서드
-     * 애플리케이션 시작 시 시크릿 키를 기반으로 HMAC 키를 생성합니다.
+     * 애플리케이션 시작 시 시크릿 키를 기반으로 HMAC 키, 공유 파서, 인증 정보 캐시를 생성합니다.
      */
     @PostConstruct
     protected void init() {
@@ -53,16 +87,47 @@ public class JwtTokenProvider {
         } else {
             this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
         }
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        
+        long maxTtlNanos = TimeUnit.SECONDS.toNanos(authenticationCacheMaxTtlSeconds);
+        this.authenticationCache = Caffeine.newBuilder()
+                .maximumSize(authenticationCacheMaximumSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String digest, VerifiedToken verified, long currentTime) {
+                        long untilExpiration = TimeUnit.MILLISECONDS.toNanos(
+                                verified.expiresAtMillis - System.currentTimeMillis());
+                        return Math.max(0, Math.min(untilExpiration, maxTtlNanos));
+                    }
+                    
+                    @Override
+                    public long expireAfterUpdate(String digest, VerifiedToken verified, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+                    
+                    @Override
+                    public long expireAfterRead(String digest, VerifiedToken verified, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
     
     /**
-     * 사용자 ID를 기반으로 JWT 토큰을 생성하는 메서드
+     * 사용자 정보를 기반으로 JWT 토큰을 생성하는 메서드
      * 
-     * @param userId 사용자 ID
+     * @param user 사용자 (토큰 버전은 현재 값이어야 함)
      * @return 생성된 JWT 토큰
      */
-    public String createToken(Long userId) {
-        Claims claims = Jwts.claims().setSubject(userId.toString());
+    public String createToken(User user) {
+        Claims claims = Jwts.claims().setSubject(user.getId().toString());
+        claims.put(TokenClaims.VERIFIED, user.isVerified());
+        claims.put(TokenClaims.UNIVERSITY, user.getUniversityName());
+        claims.put(TokenClaims.TOKEN_VERSION, user.getTokenVersion());
         Date now = new Date();
         Date validity = new Date(now.getTime() + tokenValidityInSeconds * 1000);
         
@@ -75,23 +140,41 @@ public class JwtTokenProvider {
     }
     
     /**
-     * JWT 토큰에서 인증 정보를 추출하는 메서드
+     * JWT 토큰을 검증하고 인증 정보를 반환하는 메서드
+     * 서명과 만료 시각을 한 번의 파싱으로 검증하며, 이미 검증한 토큰이면 캐시된 인증 정보를 사용합니다.
+     * 토큰 버전은 캐시 여부와 관계없이 매번 확인하므로, 로그아웃한 토큰은 캐시에 남아 있어도 거부됩니다.
      * 
      * @param token JWT 토큰
-     * @return 인증 객체 (Authentication)
+     * @return 인증 객체 (Authentication, 상세 정보는 TokenClaims), 토큰이 유효하지 않으면 null
      */
-    public Authentication getAuthentication(String token) {
-        String userIdStr = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+    public Authentication authenticate(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = authenticationCache.getIfPresent(digest);
+        if (cached != null) {
+            return currentOrNull(digest, cached);
+        }
         
-        Long userId = Long.parseLong(userIdStr);
-        UserDetails userDetails = userDetailsService.loadUserById(userId);
+        Claims claims;
+        try {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        // 만료 시각이 없는 토큰은 발급한 적이 없으므로 거부
+        if (claims.getExpiration() == null) {
+            return null;
+        }
         
-        return new UsernamePasswordAuthenticationToken(userId, "", userDetails.getAuthorities());
+        TokenClaims tokenClaims = TokenClaims.from(claims);
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                tokenClaims.getUserId(), "", tokenClaims.isVerified()
+                        ? List.of(new SimpleGrantedAuthority(TokenClaims.VERIFIED_AUTHORITY))
+                        : Collections.emptyList());
+        authentication.setDetails(tokenClaims);
+        
+        VerifiedToken verified = new VerifiedToken(authentication, tokenClaims, claims.getExpiration().getTime());
+        authenticationCache.put(digest, verified);
+        return currentOrNull(digest, verified);
     }
     
     /**
@@ -109,21 +192,41 @@ public class JwtTokenProvider {
     }
     
     /**
-     * JWT 토큰의 유효성을 검증하는 메서드
-     * 
-     * @param token 검증할 JWT 토큰
-     * @return 유효성 여부 (true: 유효, false: 유효하지 않음)
+     * 토큰 버전이 현재 버전이면 인증 정보를, 무효화된 토큰이면 캐시에서 제거하고 null을 반환하는 메서드
      */
-    public boolean validateToken(String token) {
+    private Authentication currentOrNull(String digest, VerifiedToken verified) {
+        TokenClaims tokenClaims = verified.tokenClaims;
+        if (!tokenVersionRegistry.isCurrent(tokenClaims.getUserId(), tokenClaims.getTokenVersion())) {
+            authenticationCache.invalidate(digest);
+            return null;
+        }
+        return verified.authentication;
+    }
+    
+    private static String digest(String token) {
         try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            
-            return !claims.getBody().getExpiration().before(new Date());
-        } catch (Exception e) {
-            return false;
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+    
+    /**
+     * 캐시에 보관하는 검증된 토큰의 인증 정보, 클레임, 만료 시각
+     */
+    private static final class VerifiedToken {
+        
+        private final Authentication authentication;
+        
+        private final TokenClaims tokenClaims;
+        
+        private final long expiresAtMillis;
+        
+        private VerifiedToken(Authentication authentication, TokenClaims tokenClaims, long expiresAtMillis) {
+            this.authentication = authentication;
+            this.tokenClaims = tokenClaims;
+            this.expiresAtMillis = expiresAtMillis;
         }
     }
-}
\ No newline at end of file
+}
@@ -65,7 +65,7 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         
         // 사용자 정보 저장 및 JWT 토큰 생성
         User user = userService.processKakaoLogin(oauthId, email, nickname);
-        String jwtToken = jwtTokenProvider.createToken(user.getId());
+        String jwtToken = jwtTokenProvider.createToken(user);
         
         // 프론트엔드 콜백 URL로 토큰과 함께 리다이렉트
         String targetUrl = UriComponentsBuilder.fromUriString("http://localhost:3000/oauth/callback")
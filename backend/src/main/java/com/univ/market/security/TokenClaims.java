@@ -0,0 +1,72 @@
+package com.univ.market.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * JWT 토큰에 담긴 사용자 정보
+ * 인증 객체의 상세 정보(Authentication.getDetails())로 제공되어, 요청 처리 중 사용자를 조회하지 않고 사용할 수 있습니다.
+ * 토큰 발급 이후 변경된 정보는 반영되지 않으므로, 인증 여부나 대학교가 바뀌면 토큰 버전을 올려 다시 발급합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class TokenClaims {
+    
+    /**
+     * 대학교 인증 여부 클레임 이름
+     */
+    public static final String VERIFIED = "verified";
+    
+    /**
+     * 대학교 이름 클레임 이름
+     */
+    public static final String UNIVERSITY = "univ";
+    
+    /**
+     * 토큰 버전 클레임 이름
+     */
+    public static final String TOKEN_VERSION = "ver";
+    
+    /**
+     * 대학교 인증을 마친 사용자에게 부여되는 권한
+     */
+    public static final String VERIFIED_AUTHORITY = "ROLE_VERIFIED";
+    
+    /**
+     * 사용자 ID
+     */
+    private final Long userId;
+    
+    /**
+     * 대학교 인증 여부
+     */
+    private final boolean verified;
+    
+    /**
+     * 대학교 이름 (인증 전이면 null)
+     */
+    private final String universityName;
+    
+    /**
+     * 토큰 발급 당시의 토큰 버전
+     */
+    private final int tokenVersion;
+    
+    /**
+     * 검증된 클레임에서 사용자 정보를 꺼내는 메서드
+     * 클레임이 없는 토큰(이 형식 이전에 발급된 토큰)은 인증 전, 토큰 버전 0으로 봅니다.
+     * 
+     * @param claims 서명이 검증된 클레임
+     * @return 토큰에 담긴 사용자 정보
+     */
+    static TokenClaims from(Claims claims) {
+        Boolean verified = claims.get(VERIFIED, Boolean.class);
+        Integer tokenVersion = claims.get(TOKEN_VERSION, Integer.class);
+        return new TokenClaims(
+                Long.parseLong(claims.getSubject()),
+                Boolean.TRUE.equals(verified),
+                claims.get(UNIVERSITY, String.class),
+                tokenVersion != null ? tokenVersion : 0);
+    }
+}
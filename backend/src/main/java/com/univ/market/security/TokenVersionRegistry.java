@@ -0,0 +1,167 @@
+package com.univ.market.security;
+
+import com.univ.market.repository.UserRepository;
+import com.univ.market.repository.projection.UserTokenVersionView;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 최소 유효 토큰 버전을 메모리에 보관하는 컴포넌트
+ * 요청마다 DB를 조회하지 않고, 토큰에 담긴 버전이 사용자의 현재 토큰 버전보다 낮으면 무효화된 토큰으로 판단합니다.
+ * 
+ * 토큰 유효 시간 안에 토큰 버전이 증가한 사용자만 보관하며(나머지는 0), 시작 시 그 기간의 변경분을 적재한 뒤
+ * refresh-interval-ms 마다 그 사이 변경된 사용자만 조회해 갱신합니다. 여러 서버로 실행할 때 다른 서버의 로그아웃은
+ * 다음 갱신 주기에 반영되며, 같은 서버의 변경은 커밋 직후 바로 반영됩니다.
+ * 
+ * 버전이 증가한 지 토큰 유효 시간이 지나면 그 전에 발급된 토큰은 모두 만료되었으므로, 갱신할 때 해당 사용자를 제거합니다.
+ * 따라서 보관하는 사용자 수는 전체 사용자 수가 아니라 최근 토큰 유효 시간 동안 로그아웃한 사용자 수에 비례합니다.
+ */
+@Slf4j
+@Component
+public class TokenVersionRegistry {
+    
+    /**
+     * 변경분 조회 시 이전 조회 시각보다 앞당겨 조회하는 시간
+     * 조회 직전에 시작해 늦게 커밋된 변경이나 서버 간 시계 차이로 누락되는 변경을 다음 조회에서 다시 읽습니다.
+     */
+    private static final Duration REFRESH_OVERLAP = Duration.ofSeconds(30);
+    
+    private final UserRepository userRepository;
+    
+    /**
+     * 보관 기간 (토큰 유효 시간에 변경분 조회 여유 시간을 더한 값)
+     */
+    private final Duration retention;
+    
+    /**
+     * 사용자 ID별 현재 토큰 버전과 변경 일시 (보관 기간 안에 변경되지 않은 사용자는 보관하지 않음)
+     */
+    private final Map<Long, VersionEntry> versions = new ConcurrentHashMap<>();
+    
+    private volatile LocalDateTime lastRefreshedAt;
+    
+    public TokenVersionRegistry(UserRepository userRepository,
+                                @Value("${jwt.token-validity-in-seconds}") long tokenValidityInSeconds) {
+        this.userRepository = userRepository;
+        this.retention = Duration.ofSeconds(tokenValidityInSeconds).plus(REFRESH_OVERLAP);
+    }
+    
+    /**
+     * 보관 기간 안에 토큰 버전이 증가한 사용자를 적재하는 메서드
+     * 주기적 갱신(refreshQuietly)은 적재가 끝난 뒤 스케줄러가 시작합니다.
+     */
+    @PostConstruct
+    void start() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        apply(userRepository.findTokenVersionsUpdatedSince(startedAt.minus(retention)));
+        lastRefreshedAt = startedAt;
+    }
+    
+    /**
+     * 토큰에 담긴 버전이 사용자의 현재 토큰 버전 이상인지 확인하는 메서드
+     * 
+     * @param userId 사용자 ID
+     * @param tokenVersion 토큰 발급 당시의 토큰 버전
+     * @return 유효하면 true, 로그아웃 등으로 무효화된 토큰이면 false
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        VersionEntry entry = versions.get(userId);
+        return entry == null || tokenVersion >= entry.version;
+    }
+    
+    /**
+     * 사용자의 토큰 버전 증가를 반영하는 메서드
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 반영하여, 롤백된 변경으로 새 토큰까지 거부되지 않도록 합니다.
+     * 
+     * @param userId 사용자 ID
+     * @param tokenVersion 증가된 토큰 버전
+     */
+    public void advance(Long userId, int tokenVersion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            merge(userId, tokenVersion, LocalDateTime.now());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                merge(userId, tokenVersion, LocalDateTime.now());
+            }
+        });
+    }
+    
+    /**
+     * 마지막 조회 이후 변경된 토큰 버전을 조회해 반영하고, 보관 기간이 지난 사용자를 제거하는 메서드
+     */
+    void refresh() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        apply(userRepository.findTokenVersionsUpdatedSince(lastRefreshedAt.minus(REFRESH_OVERLAP)));
+        lastRefreshedAt = startedAt;
+        
+        // 조건부 제거이므로 그 사이 새로 증가한 버전은 제거되지 않음
+        LocalDateTime expiredBefore = startedAt.minus(retention);
+        versions.values().removeIf(entry -> entry.updatedAt.isBefore(expiredBefore));
+    }
+    
+    /**
+     * 보관 중인 사용자 수 (모니터링용)
+     */
+    int size() {
+        return versions.size();
+    }
+    
+    /**
+     * refresh-interval-ms 마다 변경분을 반영하는 메서드 (실패하면 다음 주기에 다시 시도)
+     */
+    @Scheduled(fixedDelayString = "${jwt.token-version.refresh-interval-ms}",
+               initialDelayString = "${jwt.token-version.refresh-interval-ms}")
+    void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("토큰 버전 갱신 실패, 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+    
+    private void apply(List<UserTokenVersionView> changed) {
+        for (UserTokenVersionView view : changed) {
+            if (view.getTokenVersion() > 0) {
+                merge(view.getId(), view.getTokenVersion(), view.getTokenVersionUpdatedAt());
+            }
+        }
+    }
+    
+    /**
+     * 더 높은 버전만 반영하는 메서드 (같은 버전이면 더 늦은 변경 일시를 유지)
+     */
+    private void merge(Long userId, int tokenVersion, LocalDateTime updatedAt) {
+        versions.merge(userId, new VersionEntry(tokenVersion, updatedAt), (current, changed) -> {
+            if (current.version != changed.version) {
+                return current.version > changed.version ? current : changed;
+            }
+            return current.updatedAt.isAfter(changed.updatedAt) ? current : changed;
+        });
+    }
+    
+    /**
+     * 사용자의 토큰 버전과 변경 일시
+     */
+    @RequiredArgsConstructor
+    private static final class VersionEntry {
+        
+        private final int version;
+        
+        private final LocalDateTime updatedAt;
+    }
+}
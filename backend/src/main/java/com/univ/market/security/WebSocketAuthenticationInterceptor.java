@@ -1,5 +1,6 @@
 package com.univ.market.security;
 
+import com.univ.market.chat.ChatRoomMembershipResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -10,19 +11,23 @@ import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import java.security.Principal;
+
 /**
  * WebSocket 인증 인터셉터
- * WebSocket 연결 시 인증 처리를 담당합니다.
+ * WebSocket 연결 시 인증 처리와 채팅방 구독 권한 확인을 담당합니다.
  */
 @Component
 @RequiredArgsConstructor
 public class WebSocketAuthenticationInterceptor implements ChannelInterceptor {
     
     private final JwtTokenProvider jwtTokenProvider;
+    private final ChatRoomMembershipResolver membershipResolver;
     
     /**
      * 메시지 전송 전 처리 메서드
      * WebSocket 연결 요청 시 JWT 토큰을 검증하고 인증 정보를 설정합니다.
+     * 채팅방 주제 구독 요청은 참여자인 경우에만 허용하며, 확인된 참여 정보는 세션에 보관됩니다.
      * 
      * @param message 메시지
      * @param channel 메시지 채널
@@ -32,19 +37,29 @@ public class WebSocketAuthenticationInterceptor implements ChannelInterceptor {
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
         
-        // CONNECT 명령일 경우에만 인증 처리
+        // CONNECT 명령일 경우 인증 처리
         if (StompCommand.CONNECT.equals(accessor.getCommand())) {
             String token = accessor.getFirstNativeHeader("Authorization");
             
             if (token != null && token.startsWith("Bearer ")) {
                 token = token.substring(7);
                 
-                // 토큰 유효성 검증 및 인증 정보 설정
-                if (jwtTokenProvider.validateToken(token)) {
-                    Authentication auth = jwtTokenProvider.getAuthentication(token);
+                // 토큰 검증 및 인증 정보 설정
+                Authentication auth = jwtTokenProvider.authenticate(token);
+                if (auth != null) {
                     accessor.setUser(auth);
                 }
             }
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            Long chatRoomId = ChatRoomMembershipResolver.parseChatRoomId(accessor.getDestination());
+            if (chatRoomId != null) {
+                Principal user = accessor.getUser();
+                if (user == null) {
+                    throw new IllegalStateException("인증되지 않은 연결입니다.");
+                }
+                // 참여자가 아니면 예외가 발생하여 구독이 거절됨 (클라이언트에는 ERROR 프레임 전송)
+                membershipResolver.resolve(accessor.getSessionAttributes(), chatRoomId, Long.valueOf(user.getName()));
+            }
         }
         
         return message;
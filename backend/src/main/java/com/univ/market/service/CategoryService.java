@@ -4,37 +4,104 @@ import com.univ.market.domain.Category;
 import com.univ.market.dto.request.CategoryRequest;
 import com.univ.market.dto.response.CategoryResponse;
 import com.univ.market.repository.CategoryRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 카테고리 관련 비즈니스 로직을 처리하는 서비스 클래스
  * 카테고리 조회 및 등록 기능을 제공합니다.
+ * 카테고리는 거의 변경되지 않으므로 메모리의 불변 스냅샷으로 조회하고, 등록 시 새 스냅샷으로 교체합니다.
+ * 
+ * 다른 서버에서 등록한 카테고리는 스냅샷을 읽은 지 refresh-interval-seconds 가 지나면 DB에서 다시 읽어 반영합니다.
+ * 다시 읽는 동안에도 다른 요청은 기존 스냅샷을 그대로 사용합니다.
  */
 @Service
-@RequiredArgsConstructor
 public class CategoryService {
     
     private final CategoryRepository categoryRepository;
     
+    private final long refreshIntervalMillis;
+    
+    /**
+     * 현재 카테고리 스냅샷 (최초 조회 시 DB에서 로딩)
+     */
+    private final AtomicReference<CategorySnapshot> snapshot = new AtomicReference<>();
+    
+    /**
+     * 스냅샷을 다시 읽을 시각 (epoch 밀리초)
+     */
+    private volatile long refreshAt;
+    
+    /**
+     * 만료된 스냅샷을 다시 읽는 중인지 여부 (한 요청만 DB를 조회)
+     */
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    
+    public CategoryService(CategoryRepository categoryRepository,
+                           @Value("${category.snapshot.refresh-interval-seconds}") long refreshIntervalSeconds) {
+        this.categoryRepository = categoryRepository;
+        this.refreshIntervalMillis = TimeUnit.SECONDS.toMillis(refreshIntervalSeconds);
+    }
+    
     /**
      * 모든 카테고리를 조회하는 메서드
      * 
      * @return 카테고리 목록
      */
-    @Transactional(readOnly = true)
     public List<CategoryResponse> getAllCategories() {
-        return categoryRepository.findAll().stream()
-                .map(CategoryResponse::fromEntity)
-                .collect(Collectors.toList());
+        return getSnapshot().getCategories();
+    }
+    
+    /**
+     * 현재 카테고리 스냅샷을 조회하는 메서드
+     * 
+     * @return 카테고리 스냅샷
+     */
+    public CategorySnapshot getSnapshot() {
+        CategorySnapshot current = snapshot.get();
+        if (current == null) {
+            return reloadSnapshot();
+        }
+        if (System.currentTimeMillis() >= refreshAt && refreshing.compareAndSet(false, true)) {
+            try {
+                return reloadSnapshot();
+            } finally {
+                refreshing.set(false);
+            }
+        }
+        return current;
+    }
+    
+    /**
+     * DB에서 카테고리를 다시 읽어 스냅샷을 교체하는 메서드
+     * 초기 데이터 적재 직후와 스냅샷이 만료되었을 때 호출됩니다.
+     * 읽는 도중 등록 등으로 스냅샷이 바뀌었으면 그 변경을 덮어쓰지 않도록 다시 읽습니다.
+     * 
+     * @return 교체된 스냅샷
+     */
+    public CategorySnapshot reloadSnapshot() {
+        while (true) {
+            CategorySnapshot previous = snapshot.get();
+            List<Category> categories = categoryRepository.findAll();
+            CategorySnapshot reloaded = CategorySnapshot.of(previous == null ? 1 : previous.getVersion() + 1, categories);
+            if (snapshot.compareAndSet(previous, reloaded)) {
+                refreshAt = System.currentTimeMillis() + refreshIntervalMillis;
+                return reloaded;
+            }
+        }
     }
     
     /**
      * 카테고리를 등록하는 메서드
+     * 트랜잭션이 커밋된 후 등록된 카테고리를 포함한 새 스냅샷으로 교체합니다.
      * 
      * @param request 카테고리 등록 요청 데이터
      * @return 등록된 카테고리 정보
@@ -46,6 +113,16 @@ public class CategoryService {
                 .build();
         
         Category savedCategory = categoryRepository.save(category);
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // 아직 로딩 전이거나 다시 읽은 스냅샷에 이미 포함되었으면 교체하지 않음
+                snapshot.updateAndGet(current -> current == null || current.contains(savedCategory.getId())
+                        ? current : current.with(savedCategory));
+            }
+        });
+        
         return CategoryResponse.fromEntity(savedCategory);
     }
 }
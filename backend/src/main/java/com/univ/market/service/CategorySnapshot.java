@@ -0,0 +1,106 @@
+package com.univ.market.service;
+
+import com.univ.market.domain.Category;
+import com.univ.market.dto.response.CategoryResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * 카테고리 스냅샷
+ * 특정 시점의 전체 카테고리 목록을 담는 불변 객체입니다.
+ * 카테고리가 변경되면 기존 스냅샷을 수정하지 않고 새 스냅샷으로 교체합니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CategorySnapshot {
+    
+    /**
+     * 스냅샷 버전 (교체될 때마다 1씩 증가)
+     */
+    private final long version;
+    
+    /**
+     * 카테고리 응답 목록 (수정 불가)
+     */
+    private final List<CategoryResponse> categories;
+    
+    /**
+     * 카테고리 ID → 이름
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<Long, String> namesById;
+    
+    /**
+     * 스냅샷 내용으로 계산한 강한 ETag
+     * 내용이 같으면 서버 재시작이나 인스턴스에 관계없이 같은 값을 가집니다.
+     */
+    private final String etag;
+    
+    /**
+     * 카테고리 목록으로 스냅샷을 생성하는 정적 메서드
+     * 
+     * @param version 스냅샷 버전
+     * @param categories 카테고리 목록
+     * @return 생성된 스냅샷
+     */
+    static CategorySnapshot of(long version, List<Category> categories) {
+        Map<Long, String> namesById = new LinkedHashMap<>();
+        categories.forEach(category -> namesById.put(category.getId(), category.getName()));
+        
+        List<CategoryResponse> responses = categories.stream()
+                .map(CategoryResponse::fromEntity)
+                .collect(Collectors.toList());
+        
+        return new CategorySnapshot(version, Collections.unmodifiableList(responses),
+                Collections.unmodifiableMap(namesById), computeEtag(namesById));
+    }
+    
+    /**
+     * 카테고리 하나가 추가된 새 스냅샷을 생성하는 메서드
+     * 
+     * @param added 추가된 카테고리
+     * @return 버전이 1 증가한 새 스냅샷
+     */
+    CategorySnapshot with(Category added) {
+        List<Category> categories = new ArrayList<>(namesById.size() + 1);
+        namesById.forEach((id, name) -> categories.add(Category.builder().id(id).name(name).build()));
+        categories.add(added);
+        return of(version + 1, categories);
+    }
+    
+    /**
+     * 카테고리 존재 여부를 확인하는 메서드
+     * 
+     * @param categoryId 카테고리 ID
+     * @return 존재 여부
+     */
+    public boolean contains(Long categoryId) {
+        return namesById.containsKey(categoryId);
+    }
+    
+    /**
+     * 카테고리 이름을 조회하는 메서드
+     * 
+     * @param categoryId 카테고리 ID
+     * @return 카테고리 이름, 없으면 null
+     */
+    public String nameOf(Long categoryId) {
+        return namesById.get(categoryId);
+    }
+    
+    private static String computeEtag(Map<Long, String> namesById) {
+        CRC32 crc = new CRC32();
+        namesById.forEach((id, name) -> crc.update((id + ":" + name + ";").getBytes(StandardCharsets.UTF_8)));
+        return "\"categories-" + Long.toHexString(crc.getValue()) + "\"";
+    }
+}
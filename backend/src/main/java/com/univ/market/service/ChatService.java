@@ -1,23 +1,40 @@
 package com.univ.market.service;
 
+import com.univ.market.chat.ChatLogRecord;
+import com.univ.market.chat.ChatRoomMembership;
+import com.univ.market.chat.WriteBehindChatMessageStore;
 import com.univ.market.domain.ChatMessage;
 import com.univ.market.domain.ChatRoom;
-import com.univ.market.domain.Product;
-import com.univ.market.domain.User;
-import com.univ.market.dto.request.ChatMessageRequest;
 import com.univ.market.dto.response.ChatMessageResponse;
+import com.univ.market.dto.response.ChatReadResponse;
+import com.univ.market.dto.response.CursorSliceResponse;
+import com.univ.market.dto.response.UnreadCountResponse;
 import com.univ.market.dto.response.ChatRoomResponse;
+import com.univ.market.dto.response.ChatSyncResponse;
 import com.univ.market.repository.ChatMessageRepository;
 import com.univ.market.repository.ChatRoomRepository;
 import com.univ.market.repository.ProductRepository;
 import com.univ.market.repository.UserRepository;
+import com.univ.market.repository.projection.ChatRoomMembersView;
+import com.univ.market.repository.projection.ChatRoomParticipantsView;
+import com.univ.market.repository.projection.ChatRoomSequenceView;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * 채팅 관련 비즈니스 로직을 처리하는 서비스 클래스
@@ -27,131 +44,391 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor
 public class ChatService {
     
+    /**
+     * 메시지 목록 조회 한 번에 허용되는 최대 메시지 수
+     */
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
+    
+    /**
+     * 재연결 동기화 한 번에 전달하는 최대 메시지 수 (넘으면 다시 조회하도록 안내)
+     */
+    private static final int MAX_SYNC_SIZE = 500;
+    
+    /**
+     * 재연결 동기화 한 번에 요청할 수 있는 최대 채팅방 수
+     */
+    private static final int MAX_SYNC_ROOMS = 100;
+    
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
     
+    /**
+     * 쓰기 지연 저장소 (chat.persistence.mode=write-behind 일 때만 존재)
+     */
+    private final Optional<WriteBehindChatMessageStore> writeBehindStore;
+    
     /**
      * 채팅방을 생성하는 메서드
      * 이미 존재하는 채팅방이면 기존 채팅방을 반환합니다.
+     * 기존 채팅방은 조회 한 번으로 반환하고, 없으면 한 문장으로 삽입합니다.
+     * 동시에 같은 채팅방을 만드는 요청은 유니크 제약으로 하나만 삽입되며, 나머지는 먼저 만들어진 채팅방을 반환합니다.
      * 
      * @param productId 상품 ID
      * @param buyerId 구매자 ID
      * @return 생성되거나 조회된 채팅방 정보
      * @throws IllegalArgumentException 존재하지 않는 상품이나 사용자인 경우
      */
-    @Transactional
     public ChatRoomResponse createChatRoom(Long productId, Long buyerId) {
-        // 상품 정보 조회
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
-        
-        // 구매자 정보 조회
-        User buyer = userRepository.findById(buyerId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        
         // 이미 존재하는 채팅방인지 확인
-        ChatRoom existingRoom = chatRoomRepository.findByProductIdAndBuyerId(productId, buyerId)
-                .orElse(null);
-        
-        if (existingRoom != null) {
-            return ChatRoomResponse.fromEntity(existingRoom);
+        Optional<ChatRoom> existingRoom = chatRoomRepository.findDetailByProductIdAndBuyerId(productId, buyerId);
+        if (existingRoom.isPresent()) {
+            return ChatRoomResponse.fromEntity(existingRoom.get(), buyerId);
         }
         
-        // 새 채팅방 생성
-        ChatRoom chatRoom = ChatRoom.builder()
-                .product(product)
-                .buyer(buyer)
-                .build();
+        try {
+            // 새 채팅방 생성 (판매자와 대표 이미지는 목록 조회용으로 비정규화)
+            int inserted = chatRoomRepository.insertChatRoom(productId, buyerId, LocalDateTime.now());
+            if (inserted == 0) {
+                throw new IllegalArgumentException(productRepository.existsById(productId)
+                        ? "사용자를 찾을 수 없습니다." : "상품을 찾을 수 없습니다.");
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 다른 요청이 먼저 생성한 경우(상품, 구매자 유니크 제약 위반)만 기존 채팅방을 반환
+            if (!isDuplicateChatRoom(e)) {
+                throw e;
+            }
+        }
         
-        ChatRoom savedChatRoom = chatRoomRepository.save(chatRoom);
-        return ChatRoomResponse.fromEntity(savedChatRoom);
+        ChatRoom chatRoom = chatRoomRepository.findDetailByProductIdAndBuyerId(productId, buyerId)
+                .orElseThrow(() -> new IllegalStateException("채팅방을 생성하지 못했습니다."));
+        return ChatRoomResponse.fromEntity(chatRoom, buyerId);
     }
     
     /**
      * 채팅 메시지를 전송하는 메서드
+     * 참여 여부는 호출 전에 확인된 값을 사용하며, 채팅방과 발신자는 조회 없이 참조로만 연결합니다.
      * 
-     * @param request 메시지 전송 요청 데이터
-     * @param senderId 발신자 ID
+     * @param membership 발신자의 채팅방 참여 정보
+     * @param content 메시지 내용
      * @return 전송된 메시지 정보
-     * @throws IllegalArgumentException 존재하지 않는 채팅방이나 사용자인 경우
-     * @throws IllegalStateException 해당 채팅방 참여자가 아닌 경우
      */
     @Transactional
-    public ChatMessageResponse sendMessage(ChatMessageRequest request, Long senderId) {
-        // 채팅방 정보 조회
-        ChatRoom chatRoom = chatRoomRepository.findById(request.getChatRoomId())
-                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다."));
+    public ChatMessageResponse sendMessage(ChatRoomMembership membership, String content) {
+        Long chatRoomId = membership.getChatRoomId();
         
-        // 발신자 정보 조회
-        User sender = userRepository.findById(senderId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        
-        // 채팅방 참여자 확인 (판매자 또는 구매자만 메시지 전송 가능)
-        if (!sender.getId().equals(chatRoom.getBuyer().getId()) && 
-            !sender.getId().equals(chatRoom.getProduct().getSeller().getId())) {
-            throw new IllegalStateException("해당 채팅방에 참여할 권한이 없습니다.");
+        // 채팅방 내 메시지 순번 할당 및 수신자의 안 읽은 메시지 수 증가
+        // 메시지 저장 전에 채팅방 행을 먼저 갱신해, 동시 전송 시 외래 키 확인용 공유 잠금과 교착되지 않도록 함
+        // 행 잠금은 커밋까지 유지되므로 순번은 같은 채팅방의 다른 전송과 겹치지 않고 커밋 순서대로 증가
+        if (membership.isBuyer()) {
+            chatRoomRepository.incrementSequenceAndSellerUnreadCount(chatRoomId);
+        } else {
+            chatRoomRepository.incrementSequenceAndBuyerUnreadCount(chatRoomId);
         }
+        Long roomSequence = chatRoomRepository.findLastMessageSequenceById(chatRoomId)
+                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다."));
+        userRepository.incrementUnreadMessageCount(membership.getCounterpartId());
         
         // 메시지 생성 및 저장
         ChatMessage chatMessage = ChatMessage.builder()
-                .content(request.getContent())
-                .sender(sender)
-                .chatRoom(chatRoom)
+                .content(content)
+                .sender(userRepository.getReferenceById(membership.getUserId()))
+                .chatRoom(chatRoomRepository.getReferenceById(chatRoomId))
+                .roomSequence(roomSequence)
                 .build();
         
         ChatMessage savedMessage = chatMessageRepository.save(chatMessage);
-        return ChatMessageResponse.fromEntity(savedMessage);
+        
+        // 채팅방 목록용 마지막 메시지 정보 갱신
+        chatRoomRepository.updateLastMessage(chatRoomId, savedMessage.getId(), membership.getUserId(),
+                ChatRoom.toPreview(savedMessage.getContent()), savedMessage.getCreatedAt());
+        
+        return ChatMessageResponse.builder()
+                .id(savedMessage.getId())
+                .content(savedMessage.getContent())
+                .senderId(membership.getUserId())
+                .senderNickname(membership.getNickname())
+                .chatRoomId(chatRoomId)
+                .roomSequence(roomSequence)
+                .createdAt(savedMessage.getCreatedAt())
+                .build();
     }
     
     /**
-     * 채팅방의 메시지 목록을 조회하는 메서드
+     * 채팅방의 메시지 목록을 커서 기반으로 조회하는 메서드
+     * 기준 메시지 이전의 메시지를 요청한 개수만큼만 조회하므로, 메시지가 많은 채팅방도 페이지 크기만큼만 읽습니다.
      * 
      * @param chatRoomId 채팅방 ID
      * @param userId 요청자 ID
-     * @return 메시지 목록
+     * @param beforeId 기준 메시지 ID (null이면 최신 메시지부터)
+     * @param size 조회할 메시지 수 (최대 MAX_MESSAGE_PAGE_SIZE)
+     * @return 메시지 목록 (오래된 순) 및 더 이전 메시지를 조회할 커서
      * @throws IllegalArgumentException 존재하지 않는 채팅방인 경우
      * @throws IllegalStateException 해당 채팅방 참여자가 아닌 경우
      */
     @Transactional(readOnly = true)
-    public List<ChatMessageResponse> getChatMessages(Long chatRoomId, Long userId) {
-        // 채팅방 정보 조회
-        ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
+    public CursorSliceResponse<ChatMessageResponse> getChatMessages(Long chatRoomId, Long userId, Long beforeId, int size) {
+        // 채팅방 참여자 확인
+        ChatRoomParticipantsView participants = chatRoomRepository.findParticipantsById(chatRoomId)
                 .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다."));
         
-        // 채팅방 참여자 확인
-        if (!userId.equals(chatRoom.getBuyer().getId()) && 
-            !userId.equals(chatRoom.getProduct().getSeller().getId())) {
+        if (!userId.equals(participants.getBuyerId()) && !userId.equals(participants.getSellerId())) {
             throw new IllegalStateException("해당 채팅방에 접근할 권한이 없습니다.");
         }
         
-        // 메시지 목록 반환
-        return chatRoom.getMessages().stream()
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회 (최신순)
+        int pageSize = Math.max(1, Math.min(size, MAX_MESSAGE_PAGE_SIZE));
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<ChatMessage> rows = beforeId == null
+                ? chatMessageRepository.findLatestByChatRoomId(chatRoomId, limit)
+                : chatMessageRepository.findByChatRoomIdBefore(chatRoomId, beforeId, limit);
+        
+        boolean hasNext = rows.size() > pageSize;
+        List<ChatMessage> page = new ArrayList<>(hasNext ? rows.subList(0, pageSize) : rows);
+        
+        // 화면 표시 순서(오래된 순)로 정렬하고, 가장 오래된 메시지 ID를 다음 커서로 전달
+        Collections.reverse(page);
+        String nextCursor = hasNext ? String.valueOf(page.get(0).getId()) : null;
+        
+        List<ChatMessageResponse> content = page.stream()
                 .map(ChatMessageResponse::fromEntity)
                 .collect(Collectors.toList());
+        return CursorSliceResponse.of(content, nextCursor);
     }
     
     /**
-     * 사용자의 채팅방 목록을 조회하는 메서드
-     * 판매자 또는 구매자로 참여한 모든 채팅방을 반환합니다.
+     * 재연결한 클라이언트에게 채팅방별로 마지막으로 받은 순번 이후의 메시지를 반환하는 메서드
+     * 메시지 순번은 채팅방 행 잠금 안에서 커밋 순서대로 할당되므로, 채팅방별 순번을 기준으로 하면
+     * 늦게 커밋된 메시지를 놓치지 않습니다. (메시지 ID는 삽입 시점에 할당되어 커밋 순서와 다를 수 있음)
+     * 새 메시지가 있는 채팅방만 (chat_room_id, room_sequence) 인덱스의 범위를 읽습니다.
+     * 쓰기 지연 모드에서는 아직 DB에 저장되지 않은 메시지도 함께 반환합니다.
      * 
-     * @param userId 사용자 ID
-     * @return 채팅방 목록
+     * @param userId 요청자 ID
+     * @param afterSequences 채팅방 ID별 마지막으로 받은 메시지 순번 (최대 MAX_SYNC_ROOMS개)
+     * @param size 채팅방별 최대 메시지 수 (최대 MAX_SYNC_SIZE)
+     * @return 새 메시지 목록, 채팅방별 다음 기준 순번, 밀린 메시지가 size보다 많아 다시 조회해야 하는 채팅방 목록
+     * @throws IllegalArgumentException 동기화할 채팅방이 없거나 너무 많은 경우
      */
     @Transactional(readOnly = true)
-    public List<ChatRoomResponse> getMyChatRooms(Long userId) {
-        // 구매자로 참여한 채팅방
-        List<ChatRoom> buyerRooms = chatRoomRepository.findByBuyerId(userId);
+    public ChatSyncResponse syncMessages(Long userId, Map<Long, Long> afterSequences, int size) {
+        if (afterSequences == null || afterSequences.isEmpty()) {
+            throw new IllegalArgumentException("동기화할 채팅방을 지정해주세요.");
+        }
+        if (afterSequences.size() > MAX_SYNC_ROOMS) {
+            throw new IllegalArgumentException("한 번에 동기화할 수 있는 채팅방은 " + MAX_SYNC_ROOMS + "개까지입니다.");
+        }
+        int limit = Math.min(Math.max(size, 1), MAX_SYNC_SIZE);
         
-        // 판매자로 참여한 채팅방
-        List<ChatRoom> sellerRooms = chatRoomRepository.findByProductSellerId(userId);
+        Map<Long, Long> cursors = new HashMap<>();
+        afterSequences.forEach((chatRoomId, sequence) ->
+                cursors.put(chatRoomId, sequence != null ? Math.max(sequence, 0L) : 0L));
         
-        // 중복 제거 후 합치기
-        return Stream.concat(buyerRooms.stream(), sellerRooms.stream())
-                .distinct()
-                .map(ChatRoomResponse::fromEntity)
-                .collect(Collectors.toList());
+        // DB에 저장되지 않은 메시지를 먼저 읽어, DB 조회 사이에 저장된 메시지가 양쪽 모두에서 빠지지 않도록 함
+        Map<Long, List<ChatLogRecord>> pendingRecords = writeBehindStore
+                .map(store -> store.findPendingAfter(cursors))
+                .orElse(Collections.emptyMap());
+        
+        List<ChatMessageResponse> messages = new ArrayList<>();
+        Map<Long, Long> lastSequences = new HashMap<>();
+        List<Long> resyncRoomIds = new ArrayList<>();
+        
+        // 참여한 채팅방만 조회되므로 다른 사용자의 채팅방은 제외됨
+        for (ChatRoomSequenceView room : chatRoomRepository.findSequencesByUserIdAndIdIn(userId, cursors.keySet())) {
+            Long chatRoomId = room.getId();
+            long after = cursors.get(chatRoomId);
+            
+            // 한 건 더 조회하여 밀린 메시지가 limit을 넘는지 확인
+            List<ChatMessageResponse> roomMessages = new ArrayList<>();
+            if (room.getLastMessageSequence() > after) {
+                chatMessageRepository.findByChatRoomIdAfterSequence(chatRoomId, after, PageRequest.of(0, limit + 1))
+                        .forEach(message -> roomMessages.add(ChatMessageResponse.fromEntity(message)));
+            }
+            List<ChatLogRecord> pendingInRoom = pendingRecords.getOrDefault(chatRoomId, Collections.emptyList());
+            if (!pendingInRoom.isEmpty() && roomMessages.size() <= limit) {
+                appendPendingMessages(chatRoomId, after, pendingInRoom, roomMessages);
+            }
+            
+            if (roomMessages.size() > limit) {
+                resyncRoomIds.add(chatRoomId);
+                lastSequences.put(chatRoomId, after);
+                continue;
+            }
+            messages.addAll(roomMessages);
+            lastSequences.put(chatRoomId, roomMessages.isEmpty()
+                    ? after : roomMessages.get(roomMessages.size() - 1).getRoomSequence());
+        }
+        
+        return ChatSyncResponse.builder()
+                .messages(messages)
+                .lastSequences(lastSequences)
+                .resyncRoomIds(resyncRoomIds)
+                .build();
+    }
+    
+    /**
+     * DB에서 읽은 메시지 뒤에 아직 저장되지 않은 메시지를 순번이 이어지는 만큼만 붙이는 메서드
+     * 이미 저장되어 DB 결과에 포함된 메시지는 건너뛰며, 순번이 비는 곳에서 멈춰 클라이언트의 기준 순번이 건너뛰지 않도록 합니다.
+     */
+    private void appendPendingMessages(Long chatRoomId, long after, List<ChatLogRecord> records,
+                                       List<ChatMessageResponse> roomMessages) {
+        ChatRoomMembersView members = chatRoomRepository.findMembersById(chatRoomId).orElse(null);
+        if (members == null) {
+            return;
+        }
+        long expected = (roomMessages.isEmpty() ? after : roomMessages.get(roomMessages.size() - 1).getRoomSequence()) + 1;
+        for (ChatLogRecord record : records) {
+            if (record.getRoomSequence() < expected) {
+                continue;
+            }
+            if (record.getRoomSequence() > expected) {
+                break;
+            }
+            roomMessages.add(ChatMessageResponse.builder()
+                    .id(record.getId())
+                    .content(record.getContent())
+                    .senderId(record.getSenderId())
+                    .senderNickname(record.getSenderId() == members.getBuyerId()
+                            ? members.getBuyerNickname() : members.getSellerNickname())
+                    .chatRoomId(chatRoomId)
+                    .roomSequence(record.getRoomSequence())
+                    .createdAt(record.getCreatedAt())
+                    .build());
+            expected++;
+        }
+    }
+    
+    /**
+     * 채팅방 메시지를 읽음 처리하는 메서드
+     * 읽음 위치는 채팅방의 마지막 메시지를 넘지 않도록 제한하고 앞으로만 이동합니다.
+     * 마지막 메시지까지 읽었으면 안 읽은 메시지 수를 0으로, 일부만 읽었으면 읽음 위치 이후 상대방 메시지 수로 다시 계산하고,
+     * 줄어든 만큼 사용자의 전체 안 읽은 메시지 수를 줄입니다.
+     * 
+     * @param chatRoomId 채팅방 ID
+     * @param userId 요청자 ID
+     * @param lastReadMessageId 읽은 마지막 메시지 ID (null이면 채팅방의 마지막 메시지)
+     * @return 읽음 처리 결과 (상대방에게 전달할 읽음 위치)
+     * @throws IllegalArgumentException 존재하지 않는 채팅방인 경우
+     * @throws IllegalStateException 해당 채팅방 참여자가 아닌 경우
+     */
+    @Transactional
+    public ChatReadResponse markAsRead(Long chatRoomId, Long userId, Long lastReadMessageId) {
+        // 안 읽은 메시지 수를 다시 계산하는 동안 새 메시지 반영을 막기 위해 채팅방을 잠금 조회
+        ChatRoom chatRoom = chatRoomRepository.findByIdForUpdate(chatRoomId)
+                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다."));
+        
+        // 채팅방 참여자 확인
+        boolean isBuyer = chatRoom.isBuyer(userId);
+        if (!isBuyer && !userId.equals(chatRoom.getSeller().getId())) {
+            throw new IllegalStateException("해당 채팅방에 접근할 권한이 없습니다.");
+        }
+        
+        Long lastMessageId = findLastMessageId(chatRoom);
+        Long readMessageId = clampReadPosition(
+                lastReadMessageId != null ? lastReadMessageId : lastMessageId,
+                chatRoom.getLastReadMessageIdFor(userId), lastMessageId);
+        
+        // 마지막 메시지까지 읽었으면 0, 아니면 읽음 위치 이후에 상대방이 보낸 메시지 수
+        // (쓰기 지연 모드에서 아직 저장되지 않은 메시지는 저장될 때 읽음 위치와 비교해 더해짐)
+        int unreadCount = readMessageId == null || readMessageId >= lastMessageId
+                ? 0 : (int) chatMessageRepository.countUnreadAfter(chatRoomId, userId, readMessageId);
+        int cleared = chatRoom.getUnreadCountFor(userId) - unreadCount;
+        
+        if (isBuyer) {
+            chatRoomRepository.markReadByBuyer(chatRoomId, readMessageId, unreadCount);
+        } else {
+            chatRoomRepository.markReadBySeller(chatRoomId, readMessageId, unreadCount);
+        }
+        
+        if (cleared > 0) {
+            userRepository.decrementUnreadMessageCount(userId, cleared);
+        }
+        
+        return ChatReadResponse.builder()
+                .chatRoomId(chatRoomId)
+                .userId(userId)
+                .lastReadMessageId(readMessageId)
+                .build();
+    }
+    
+    /**
+     * 채팅방 생성 실패가 상품, 구매자 유니크 제약 위반으로 인한 것인지 확인하는 메서드
+     * 제약 이름은 데이터베이스마다 대소문자나 접두사가 다르므로 원인 예외의 메시지에 포함되어 있는지로 확인합니다.
+     * 
+     * @param e 채팅방 생성 중 발생한 예외
+     * @return 같은 상품, 구매자의 채팅방이 이미 있어 실패했으면 true
+     */
+    static boolean isDuplicateChatRoom(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT)
+                    .contains(ChatRoom.PRODUCT_BUYER_UNIQUE_CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * 채팅방의 마지막 메시지 ID를 반환하는 메서드
+     * 쓰기 지연 모드에서는 아직 DB에 저장되지 않은 메시지까지 포함합니다.
+     */
+    private Long findLastMessageId(ChatRoom chatRoom) {
+        Long lastMessageId = chatRoom.getLastMessageId();
+        long lastPendingId = writeBehindStore
+                .map(store -> store.findLastPendingMessageId(chatRoom.getId()))
+                .orElse(0L);
+        if (lastPendingId > 0 && (lastMessageId == null || lastPendingId > lastMessageId)) {
+            return lastPendingId;
+        }
+        return lastMessageId;
+    }
+    
+    /**
+     * 새 읽음 위치를 계산하는 메서드
+     * 클라이언트가 보낸 값은 검증되지 않았으므로 마지막 메시지를 넘지 않도록 제한하며(이전에 저장된 값도 같이 제한),
+     * 이전 읽음 위치보다 뒤로 가지 않습니다.
+     * 
+     * @param requested 요청한 읽음 위치
+     * @param previous 이전 읽음 위치 (없으면 null)
+     * @param lastMessageId 채팅방의 마지막 메시지 ID (메시지가 없으면 null)
+     * @return 새 읽음 위치, 메시지가 없으면 null
+     */
+    static Long clampReadPosition(Long requested, Long previous, Long lastMessageId) {
+        if (lastMessageId == null) {
+            return null;
+        }
+        long position = Math.max(requested != null ? requested : 0L, previous != null ? previous : 0L);
+        return Math.min(position, lastMessageId);
+    }
+    
+    /**
+     * 사용자의 전체 안 읽은 메시지 수를 조회하는 메서드
+     * 사용자 행의 카운터 컬럼 하나만 읽습니다.
+     * 
+     * @param userId 사용자 ID
+     * @return 전체 안 읽은 메시지 수
+     * @throws IllegalArgumentException 존재하지 않는 사용자인 경우
+     */
+    @Transactional(readOnly = true)
+    public UnreadCountResponse getTotalUnreadCount(Long userId) {
+        int count = userRepository.findUnreadMessageCountById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        return new UnreadCountResponse(count);
+    }
+    
+    /**
+     * 사용자의 채팅방 목록을 조회하는 메서드
+     * 판매자 또는 구매자로 참여한 채팅방을 최근 메시지순으로 한 번의 쿼리로 조회합니다.
+     * 
+     * @param userId 사용자 ID
+     * @param pageable 페이징 정보
+     * @return 채팅방 목록 구간 (최근 메시지순)
+     */
+    @Transactional(readOnly = true)
+    public Slice<ChatRoomResponse> getMyChatRooms(Long userId, Pageable pageable) {
+        return chatRoomRepository.findInboxByUserId(userId, pageable)
+                .map(chatRoom -> ChatRoomResponse.fromEntity(chatRoom, userId));
     }
     
     /**
@@ -165,16 +442,16 @@ public class ChatService {
      */
     @Transactional(readOnly = true)
     public ChatRoomResponse getChatRoomById(Long roomId, Long userId) {
-        // 채팅방 정보 조회
-        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
+        // 채팅방 정보 조회 (상품, 판매자, 구매자 포함)
+        ChatRoom chatRoom = chatRoomRepository.findDetailById(roomId)
                 .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다."));
         
         // 채팅방 참여자 확인
         if (!userId.equals(chatRoom.getBuyer().getId()) && 
-            !userId.equals(chatRoom.getProduct().getSeller().getId())) {
+            !userId.equals(chatRoom.getSeller().getId())) {
             throw new IllegalStateException("해당 채팅방에 접근할 권한이 없습니다.");
         }
         
-        return ChatRoomResponse.fromEntity(chatRoom);
+        return ChatRoomResponse.fromEntity(chatRoom, userId);
     }
 }
\ No newline at end of file
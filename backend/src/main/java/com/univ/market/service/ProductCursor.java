@@ -0,0 +1,61 @@
+package com.univ.market.service;
+
+import com.univ.market.domain.Product;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 상품 목록 커서
+ * 마지막으로 전달한 상품의 (생성 일시, ID)를 클라이언트가 해석할 수 없는 문자열로 인코딩합니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+class ProductCursor {
+    
+    private static final String SEPARATOR = "_";
+    
+    /**
+     * 커서 상품의 생성 일시
+     */
+    private final LocalDateTime createdAt;
+    
+    /**
+     * 커서 상품의 ID
+     */
+    private final Long id;
+    
+    /**
+     * 상품의 위치를 커서 문자열로 인코딩하는 메서드
+     * 
+     * @param product 현재 구간의 마지막 상품
+     * @return 인코딩된 커서
+     */
+    static String encode(Product product) {
+        String raw = product.getCreatedAt() + SEPARATOR + product.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * 커서 문자열을 해석하는 메서드
+     * 
+     * @param cursor 인코딩된 커서
+     * @return 해석된 커서
+     * @throws IllegalArgumentException 형식이 올바르지 않은 커서인 경우
+     */
+    static ProductCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new ProductCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
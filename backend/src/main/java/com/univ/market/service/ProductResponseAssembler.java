@@ -0,0 +1,77 @@
+package com.univ.market.service;
+
+import com.univ.market.domain.Product;
+import com.univ.market.dto.response.ProductResponse;
+import com.univ.market.repository.ImageRepository;
+import com.univ.market.repository.projection.ProductImageUrlView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 목록 응답을 조립하는 컴포넌트
+ * 한 페이지의 상품 이미지를 한 번의 쿼리로 조회한 뒤 ProductResponse로 변환합니다.
+ * 카테고리 이름은 카테고리 스냅샷에서 찾고, 판매자와 구매자는 호출 측에서 fetch join으로 로딩해 두어야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductResponseAssembler {
+    
+    private final ImageRepository imageRepository;
+    private final CategoryService categoryService;
+    
+    /**
+     * 상품 목록을 응답 DTO 목록으로 변환하는 메서드
+     * 
+     * @param products 변환할 상품 목록
+     * @return 상품 응답 목록 (입력 순서 유지)
+     */
+    public List<ProductResponse> toResponses(List<Product> products) {
+        if (products.isEmpty()) {
+            return Collections.emptyList();
+        }
+        
+        // 페이지 내 모든 상품의 이미지를 한 번에 조회
+        List<Long> productIds = products.stream()
+                .map(Product::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<String>> imageUrlsByProductId = imageRepository.findImageUrlsByProductIdIn(productIds).stream()
+                .collect(Collectors.groupingBy(ProductImageUrlView::getProductId,
+                        Collectors.mapping(ProductImageUrlView::getImageUrl, Collectors.toList())));
+        
+        CategorySnapshot categories = categoryService.getSnapshot();
+        return products.stream()
+                .map(product -> ProductResponse.fromEntity(product,
+                        categories.nameOf(product.getCategory().getId()),
+                        imageUrlsByProductId.getOrDefault(product.getId(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 상품 페이지를 응답 DTO 페이지로 변환하는 메서드
+     * 
+     * @param page 변환할 상품 페이지
+     * @return 상품 응답 페이지
+     */
+    public Page<ProductResponse> toResponsePage(Page<Product> page) {
+        return new PageImpl<>(toResponses(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+    
+    /**
+     * 상품 Slice를 응답 DTO Slice로 변환하는 메서드
+     * 
+     * @param slice 변환할 상품 Slice
+     * @return 상품 응답 Slice
+     */
+    public Slice<ProductResponse> toResponseSlice(Slice<Product> slice) {
+        return new SliceImpl<>(toResponses(slice.getContent()), slice.getPageable(), slice.hasNext());
+    }
+}
@@ -1,21 +1,43 @@
 package com.univ.market.service;
 
+import com.univ.market.config.CacheConfig;
 import com.univ.market.domain.Category;
 import com.univ.market.domain.Image;
 import com.univ.market.domain.Product;
 import com.univ.market.domain.User;
+import com.univ.market.dto.request.ProductFilterRequest;
 import com.univ.market.dto.request.ProductRequest;
+import com.univ.market.dto.response.CursorSliceResponse;
 import com.univ.market.dto.response.ProductResponse;
+import com.univ.market.exception.ConflictException;
 import com.univ.market.repository.CategoryRepository;
+import com.univ.market.repository.ProductBulkInsertRepository;
 import com.univ.market.repository.ProductRepository;
+import com.univ.market.repository.ProductSpecifications;
 import com.univ.market.repository.UserRepository;
+import com.univ.market.repository.projection.ProductListVersionView;
+import com.univ.market.search.ProductSearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -26,10 +48,24 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProductService {
     
+    /**
+     * 커서 기반 목록에서 한 번에 조회할 수 있는 최대 상품 수
+     */
+    private static final int MAX_SLICE_SIZE = 50;
+    
+    /**
+     * 일괄 등록 한 번에 허용되는 최대 상품 수
+     */
+    private static final int MAX_BULK_SIZE = 100;
+    
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
     private final EmailService emailService;
+    private final ProductResponseAssembler productResponseAssembler;
+    private final ProductSearchIndex productSearchIndex;
+    private final CategoryService categoryService;
+    private final ProductBulkInsertRepository productBulkInsertRepository;
     
     /**
      * 상품을 등록하는 메서드
@@ -45,9 +81,12 @@ public class ProductService {
         User seller = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         
-        // 카테고리 정보 조회
-        Category category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다."));
+        // 카테고리 확인 (DB 대신 카테고리 스냅샷에서 확인하고, 외래 키만 참조)
+        CategorySnapshot categories = categoryService.getSnapshot();
+        if (!categories.contains(request.getCategoryId())) {
+            throw new IllegalArgumentException("카테고리를 찾을 수 없습니다.");
+        }
+        Category category = categoryRepository.getReferenceById(request.getCategoryId());
         
         // 상품 엔티티 생성
         Product product = Product.builder()
@@ -57,6 +96,7 @@ public class ProductService {
                 .status(Product.ProductStatus.WAITING) // 초기 상태는 '판매중'
                 .category(category)
                 .seller(seller)
+                .university(seller.getUniversityName())
                 .build();
         
         // 이미지 추가
@@ -73,10 +113,77 @@ public class ProductService {
         // 상품 저장
         Product savedProduct = productRepository.save(product);
         
+        // 커밋된 뒤 검색 색인에 반영 (롤백된 상품이 검색되지 않도록)
+        Long productId = savedProduct.getId();
+        String title = savedProduct.getTitle();
+        String description = savedProduct.getDescription();
+        LocalDateTime createdAt = savedProduct.getCreatedAt();
+        afterCommit(() -> productSearchIndex.index(productId, title, description, createdAt));
+        
         // 대학 내 사용자들에게 새 상품 알림 메일 전송
         // emailService.sendNewProductNotification(savedProduct);
         
-        return ProductResponse.fromEntity(savedProduct);
+        List<String> imageUrls = request.getImageUrls() != null ? request.getImageUrls() : Collections.emptyList();
+        return ProductResponse.fromEntity(savedProduct, categories.nameOf(category.getId()), imageUrls);
+    }
+    
+    /**
+     * 여러 상품을 한 번에 등록하는 메서드
+     * 상품과 이미지를 각각 JDBC 배치로 삽입하므로, 상품 수와 관계없이 하나의 트랜잭션에서 배치 두 번으로 처리됩니다.
+     * 
+     * @param requests 상품 등록 요청 목록 (최대 MAX_BULK_SIZE개)
+     * @param userId 판매자 ID
+     * @return 등록된 상품 ID 목록 (요청 순서와 동일)
+     * @throws IllegalArgumentException 요청이 비었거나 너무 많은 경우, 존재하지 않는 사용자나 카테고리인 경우
+     */
+    @Transactional
+    public List<Long> createProducts(List<ProductRequest> requests, Long userId) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("등록할 상품이 없습니다.");
+        }
+        if (requests.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BULK_SIZE + "개까지 등록할 수 있습니다.");
+        }
+        
+        // 판매자 정보 조회
+        User seller = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        
+        // 카테고리 확인 (카테고리 스냅샷 기준)
+        CategorySnapshot categories = categoryService.getSnapshot();
+        List<Product> products = new ArrayList<>(requests.size());
+        List<List<String>> imageUrls = new ArrayList<>(requests.size());
+        for (ProductRequest request : requests) {
+            if (!categories.contains(request.getCategoryId())) {
+                throw new IllegalArgumentException("카테고리를 찾을 수 없습니다.");
+            }
+            
+            products.add(Product.builder()
+                    .title(request.getTitle())
+                    .description(request.getDescription())
+                    .price(request.getPrice())
+                    .status(Product.ProductStatus.WAITING) // 초기 상태는 '판매중'
+                    .category(categoryRepository.getReferenceById(request.getCategoryId()))
+                    .seller(seller)
+                    .university(seller.getUniversityName())
+                    .build());
+            imageUrls.add(request.getImageUrls() != null ? request.getImageUrls() : Collections.emptyList());
+        }
+        
+        // 상품, 이미지 순서로 배치 삽입
+        List<Long> productIds = productBulkInsertRepository.insertProducts(products);
+        productBulkInsertRepository.insertImages(productIds, imageUrls);
+        
+        // 커밋된 뒤 검색 색인에 반영
+        afterCommit(() -> {
+            for (int i = 0; i < productIds.size(); i++) {
+                Product product = products.get(i);
+                productSearchIndex.index(productIds.get(i), product.getTitle(), product.getDescription(),
+                        product.getCreatedAt());
+            }
+        });
+        
+        return productIds;
     }
     
     /**
@@ -87,23 +194,29 @@ public class ProductService {
      */
     @Transactional(readOnly = true)
     public Page<ProductResponse> getAllProducts(Pageable pageable) {
-        return productRepository.findAllByOrderByCreatedAtDesc(pageable)
-                .map(ProductResponse::fromEntity);
+        return productResponseAssembler.toResponsePage(productRepository.findListPage(pageable));
     }
     
     /**
      * 키워드로 상품을 검색하는 메서드
+     * 인메모리 역색인에서 관련도 순으로 요청 페이지의 상품 ID를 찾은 뒤, 해당 상품만 DB에서 조회합니다.
      * 
      * @param keyword 검색 키워드
      * @param pageable 페이징 정보
-     * @return 검색 결과 페이지
+     * @return 검색 결과 페이지 (관련도 순)
      */
     @Transactional(readOnly = true)
     public Page<ProductResponse> searchProducts(String keyword, Pageable pageable) {
-        return productRepository.searchByKeyword(keyword, pageable)
-                .map(ProductResponse::fromEntity);
+        ProductSearchIndex.SearchHits hits = productSearchIndex.search(
+                keyword, pageable.getOffset(), pageable.getPageSize());
+        if (hits.getProductIds().isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, hits.getTotalHits());
+        }
+        
+        List<Product> products = findListInOrder(hits.getProductIds());
+        return new PageImpl<>(productResponseAssembler.toResponses(products), pageable, hits.getTotalHits());
     }
-
+    
   /**
      * 카테고리별로 상품을 조회하는 메서드
      * 
@@ -113,53 +226,188 @@ public class ProductService {
      */
     @Transactional(readOnly = true)
     public Page<ProductResponse> getProductsByCategory(Long categoryId, Pageable pageable) {
-        return productRepository.findByCategoryId(categoryId, pageable)
-                .map(ProductResponse::fromEntity);
+        return productResponseAssembler.toResponsePage(productRepository.findListPageByCategoryId(categoryId, pageable));
+    }
+    
+    /**
+     * 상태, 가격 범위, 카테고리를 조합하여 상품을 조회하는 메서드
+     * 
+     * @param filter 필터 조건 (지정한 조건만 적용)
+     * @param pageable 페이징 정보
+     * @return 조건에 맞는 상품 목록 페이지
+     * @throws IllegalArgumentException 최소 가격이 최대 가격보다 큰 경우
+     */
+    @Transactional(readOnly = true)
+    public Page<ProductResponse> filterProducts(ProductFilterRequest filter, Pageable pageable) {
+        if (filter.getMinPrice() != null && filter.getMaxPrice() != null
+                && filter.getMinPrice() > filter.getMaxPrice()) {
+            throw new IllegalArgumentException("최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+        
+        Specification<Product> specification = Specification.where(ProductSpecifications.fetchSellerAndBuyer())
+                .and(ProductSpecifications.inCategory(filter.getCategoryId()))
+                .and(ProductSpecifications.hasStatus(filter.getStatus()))
+                .and(ProductSpecifications.priceAtLeast(filter.getMinPrice()))
+                .and(ProductSpecifications.priceAtMost(filter.getMaxPrice()));
+        
+        return productResponseAssembler.toResponsePage(productRepository.findAll(specification, pageable));
+    }
+    
+    /**
+     * 대학교별 상품 피드를 조회하는 메서드
+     * 대학교를 지정하지 않으면 요청한 사용자의 인증된 대학교 피드를 반환합니다.
+     * 
+     * @param university 대학교 이름 (null이면 요청자의 대학교)
+     * @param userId 요청자 ID
+     * @param status 상품 상태
+     * @param pageable 페이징 정보
+     * @return 대학교별 상품 목록 (최신순)
+     * @throws IllegalArgumentException 존재하지 않는 사용자인 경우
+     * @throws IllegalStateException 대학교를 지정하지 않았고 요청자가 대학교 인증을 하지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public Slice<ProductResponse> getUniversityFeed(String university, Long userId,
+                                                    Product.ProductStatus status, Pageable pageable) {
+        if (university == null) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+            if (user.getUniversityName() == null) {
+                throw new IllegalStateException("대학교 인증 후 이용할 수 있습니다.");
+            }
+            university = user.getUniversityName();
+        }
+        
+        return productResponseAssembler.toResponseSlice(
+                productRepository.findUniversityFeed(university, status, pageable));
+    }
+    
+    /**
+     * 전체 상품을 커서 기반으로 조회하는 메서드
+     * 오프셋과 전체 개수 계산 없이 (생성 일시, ID) 인덱스 순서대로 다음 구간을 읽습니다.
+     * 
+     * @param cursor 이전 응답의 다음 커서 (첫 구간이면 null)
+     * @param size 조회할 상품 수
+     * @return 상품 목록과 다음 커서
+     * @throws IllegalArgumentException 유효하지 않은 커서인 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<ProductResponse> getProductSlice(String cursor, int size) {
+        int sliceSize = normalizeSliceSize(size);
+        Pageable limit = PageRequest.of(0, sliceSize + 1);
+        
+        if (cursor == null) {
+            return toSliceResponse(productRepository.findFirstSlice(limit), sliceSize);
+        }
+        ProductCursor position = ProductCursor.decode(cursor);
+        return toSliceResponse(productRepository.findSliceAfter(
+                position.getCreatedAt(), position.getId(), limit), sliceSize);
+    }
+    
+    /**
+     * 카테고리별 상품을 커서 기반으로 조회하는 메서드
+     * 
+     * @param categoryId 카테고리 ID
+     * @param cursor 이전 응답의 다음 커서 (첫 구간이면 null)
+     * @param size 조회할 상품 수
+     * @return 상품 목록과 다음 커서
+     * @throws IllegalArgumentException 유효하지 않은 커서인 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<ProductResponse> getProductSliceByCategory(Long categoryId, String cursor, int size) {
+        int sliceSize = normalizeSliceSize(size);
+        Pageable limit = PageRequest.of(0, sliceSize + 1);
+        
+        if (cursor == null) {
+            return toSliceResponse(productRepository.findFirstSliceByCategoryId(categoryId, limit), sliceSize);
+        }
+        ProductCursor position = ProductCursor.decode(cursor);
+        return toSliceResponse(productRepository.findSliceAfterByCategoryId(
+                categoryId, position.getCreatedAt(), position.getId(), limit), sliceSize);
+    }
+    
+    /**
+     * 키워드 검색 결과를 커서 기반으로 조회하는 메서드
+     * 페이지 검색과 같은 인메모리 역색인에서 일치하는 상품을 찾되, 관련도가 아니라 목록과 같은 (생성 일시, ID) 최신순으로
+     * 커서 이후 구간의 상품 ID를 고른 뒤 해당 상품만 DB에서 조회합니다.
+     * 
+     * @param keyword 검색 키워드
+     * @param cursor 이전 응답의 다음 커서 (첫 구간이면 null)
+     * @param size 조회할 상품 수
+     * @return 검색 결과 목록과 다음 커서
+     * @throws IllegalArgumentException 유효하지 않은 커서인 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<ProductResponse> searchProductSlice(String keyword, String cursor, int size) {
+        int sliceSize = normalizeSliceSize(size);
+        ProductCursor position = cursor != null ? ProductCursor.decode(cursor) : null;
+        
+        List<Long> productIds = position == null
+                ? productSearchIndex.searchLatest(keyword, null, null, sliceSize + 1)
+                : productSearchIndex.searchLatest(keyword, position.getCreatedAt(), position.getId(), sliceSize + 1);
+        if (productIds.isEmpty()) {
+            return CursorSliceResponse.of(Collections.emptyList(), null);
+        }
+        return toSliceResponse(findListInOrder(productIds), sliceSize);
+    }
+    
+    /**
+     * 상품 목록 첫 페이지 응답의 버전을 조회하는 메서드
+     * 
+     * @param pageable 페이징 정보
+     * @return 목록 첫 페이지의 ETag와 최종 수정 시각
+     */
+    @Transactional(readOnly = true)
+    public ProductVersion getProductListVersion(Pageable pageable) {
+        ProductListVersionView version = productRepository.findListVersion();
+        return ProductVersion.ofProductList(
+                pageable, version.getTotalCount(), version.getMaxId(), version.getLastUpdatedAt());
     }
     
     /**
      * ID로 상품 상세 정보를 조회하는 메서드
+     * 조회 결과는 상품 ID를 키로 캐시되며, 상태 변경·삭제 시 해당 항목만 무효화됩니다.
+     * 무효화는 이 서버의 캐시에만 적용되므로, 여러 서버 모드에서는 짧은 TTL로 다른 서버의 변경을 반영합니다. (CacheConfig)
      * 
      * @param id 상품 ID
      * @return 상품 상세 정보
      * @throws IllegalArgumentException 존재하지 않는 상품인 경우
      */
+    @Cacheable(cacheNames = CacheConfig.PRODUCT_DETAIL_CACHE, key = "#id")
     @Transactional(readOnly = true)
     public ProductResponse getProductById(Long id) {
-        Product product = productRepository.findById(id)
+        Product product = productRepository.findDetailById(id)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
         return ProductResponse.fromEntity(product);
     }
     
     /**
      * 상품을 예약 상태로 변경하는 메서드
+     * 판매중 상태일 때만 조건부 UPDATE로 변경되므로, 동시에 예약을 요청하면 먼저 반영된 한 건만 성공합니다.
      * 
      * @param productId 상품 ID
      * @param buyerId 구매자 ID
      * @return 업데이트된 상품 정보
      * @throws IllegalArgumentException 존재하지 않는 상품이나 사용자인 경우
-     * @throws IllegalStateException 이미 판매 완료된 상품인 경우
+     * @throws ConflictException 이미 예약되었거나 판매 완료된 상품인 경우
      */
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL_CACHE, key = "#productId")
     @Transactional
     public ProductResponse reserveProduct(Long productId, Long buyerId) {
-        // 상품 정보 조회
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
+        // 구매자 존재 여부 확인 (없는 구매자가 외래 키 위반으로 500이 되지 않도록 UPDATE 전에 확인)
+        if (!userRepository.existsById(buyerId)) {
+            throw new IllegalArgumentException("구매자를 찾을 수 없습니다.");
+        }
         
-        // 구매자 정보 조회
-        User buyer = userRepository.findById(buyerId)
-                .orElseThrow(() -> new IllegalArgumentException("구매자를 찾을 수 없습니다."));
+        // 판매중인 경우에만 예약 상태로 변경
+        int updated = productRepository.reserveIfWaiting(
+                productId, userRepository.getReferenceById(buyerId), LocalDateTime.now());
         
-        // 이미 판매완료된 상품인지 확인
-        if (product.getStatus() == Product.ProductStatus.COMPLETED) {
-            throw new IllegalStateException("이미 판매 완료된 상품입니다.");
+        if (updated == 0) {
+            throw transitionFailure(productId, "이미 예약되었거나 판매 완료된 상품입니다.");
         }
         
-        // 예약 상태로 변경
-        product.setStatus(Product.ProductStatus.RESERVED);
-        product.setBuyer(buyer);
-        
-        Product updatedProduct = productRepository.save(product);
+        Product updatedProduct = productRepository.findDetailById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
         
         // 판매자에게 예약 알림 메일 전송
         // emailService.sendReservationNotification(updatedProduct);
@@ -169,27 +417,26 @@ public class ProductService {
     
     /**
      * 상품을 거래 완료 상태로 변경하는 메서드
+     * 예약 상태일 때만 조건부 UPDATE로 변경됩니다.
      * 
      * @param productId 상품 ID
      * @return 업데이트된 상품 정보
      * @throws IllegalArgumentException 존재하지 않는 상품인 경우
-     * @throws IllegalStateException 예약 상태가 아닌 상품인 경우
+     * @throws ConflictException 예약 상태가 아닌 상품인 경우
      */
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL_CACHE, key = "#productId")
     @Transactional
     public ProductResponse completeTransaction(Long productId) {
-        // 상품 정보 조회
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
+        // 예약중인 경우에만 거래 완료 상태로 변경
+        int updated = productRepository.completeIfReserved(productId, LocalDateTime.now());
         
-        // 예약 상태가 아닌 경우 에러
-        if (product.getStatus() != Product.ProductStatus.RESERVED) {
-            throw new IllegalStateException("예약 상태의 상품만 거래 완료할 수 있습니다.");
+        if (updated == 0) {
+            throw transitionFailure(productId, "예약 상태의 상품만 거래 완료할 수 있습니다.");
         }
         
-        // 거래 완료 상태로 변경
-        product.setStatus(Product.ProductStatus.COMPLETED);
-        
-        Product updatedProduct = productRepository.save(product);
+        // 메일 전송은 비동기로 처리되므로 판매자·구매자까지 함께 조회한 상품을 전달
+        Product updatedProduct = productRepository.findDetailById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
         
         // 구매자와 판매자에게 거래 완료 알림 메일 전송
         emailService.sendTransactionCompletedNotification(updatedProduct);
@@ -206,6 +453,7 @@ public class ProductService {
      * @throws IllegalArgumentException 존재하지 않는 상품인 경우
      * @throws IllegalStateException 판매자가 아닌 사용자가 삭제 시도하는 경우
      */
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL_CACHE, key = "#productId")
     @Transactional
     public void deleteProduct(Long productId, Long userId) {
         // 상품 정보 조회
@@ -219,5 +467,81 @@ public class ProductService {
         
         // 상품 삭제
         productRepository.delete(product);
+        
+        // 커밋된 뒤 검색 색인에서 제거 (삭제가 롤백되면 색인에 남도록)
+        afterCommit(() -> productSearchIndex.remove(productId));
+    }
+    
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 실행하는 메서드 (트랜잭션 밖이면 바로 실행)
+     * 
+     * @param action 커밋 후 실행할 작업
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+    
+    /**
+     * 조건부 상태 변경이 반영되지 않은 원인에 맞는 예외를 만드는 메서드
+     * 
+     * @param productId 상품 ID
+     * @param conflictMessage 상태 충돌 시 메시지
+     * @return 상품이 없으면 IllegalArgumentException, 있으면 ConflictException
+     */
+    private RuntimeException transitionFailure(Long productId, String conflictMessage) {
+        if (!productRepository.existsById(productId)) {
+            return new IllegalArgumentException("상품을 찾을 수 없습니다.");
+        }
+        return new ConflictException(conflictMessage);
+    }
+    
+    /**
+     * 검색 색인이 찾은 상품들을 색인이 반환한 순서대로 조회하는 메서드
+     * 색인 반영 직후 삭제된 상품은 제외합니다.
+     * 
+     * @param productIds 상품 ID 목록 (응답 순서)
+     * @return 상품 목록 (productIds 순서)
+     */
+    private List<Product> findListInOrder(List<Long> productIds) {
+        Map<Long, Product> productsById = productRepository.findListByIdIn(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return productIds.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 요청한 구간 크기를 허용 범위(1 ~ MAX_SLICE_SIZE)로 보정하는 메서드
+     * 
+     * @param size 요청한 구간 크기
+     * @return 보정된 구간 크기
+     */
+    private int normalizeSliceSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+    }
+    
+    /**
+     * 요청 크기 + 1개로 조회한 결과를 커서 기반 응답으로 변환하는 메서드
+     * 초과분이 있으면 다음 구간이 존재하는 것으로 보고 마지막 상품 위치를 커서로 전달합니다.
+     * 
+     * @param rows 조회 결과 (최대 sliceSize + 1개)
+     * @param sliceSize 응답에 담을 상품 수
+     * @return 커서 기반 상품 목록 응답
+     */
+    private CursorSliceResponse<ProductResponse> toSliceResponse(List<Product> rows, int sliceSize) {
+        boolean hasNext = rows.size() > sliceSize;
+        List<Product> content = hasNext ? rows.subList(0, sliceSize) : rows;
+        String nextCursor = hasNext ? ProductCursor.encode(content.get(content.size() - 1)) : null;
+        return CursorSliceResponse.of(productResponseAssembler.toResponses(content), nextCursor);
     }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.univ.market.service;
+
+import com.univ.market.dto.response.ProductResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 응답의 버전 정보
+ * 조건부 요청(If-None-Match, If-Modified-Since) 처리에 사용할 강한 ETag와 최종 수정 시각을 담는 불변 객체입니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ProductVersion {
+    
+    /**
+     * 강한 ETag (따옴표 포함)
+     */
+    private final String etag;
+    
+    /**
+     * 최종 수정 시각 (epoch 밀리초, 알 수 없으면 -1)
+     */
+    private final long lastModified;
+    
+    /**
+     * 상품 상세 응답의 버전을 만드는 메서드
+     * 캐시된 응답의 수정 일시로 만들므로 버전 확인을 위해 DB를 조회하지 않으며, 항상 함께 반환되는 본문과 일치합니다.
+     * 
+     * @param product 상품 상세 응답
+     * @return 상품 ID와 수정 일시로 만든 버전
+     */
+    public static ProductVersion ofProduct(ProductResponse product) {
+        long lastModified = toEpochMilli(product.getUpdatedAt());
+        return new ProductVersion("\"product-" + product.getId() + "-" + lastModified + "\"", lastModified);
+    }
+    
+    /**
+     * 상품 목록 첫 페이지 응답의 버전을 만드는 메서드
+     * 상품 수나 최대 ID가 바뀌면 등록·삭제를, 최종 수정 일시가 바뀌면 상태 변경을 반영합니다.
+     * 
+     * @param pageable 페이징 정보 (크기와 정렬이 다르면 다른 버전)
+     * @param totalCount 전체 상품 수
+     * @param maxId 최대 상품 ID
+     * @param lastUpdatedAt 가장 최근 수정 일시
+     * @return 목록 첫 페이지의 버전
+     */
+    static ProductVersion ofProductList(Pageable pageable, long totalCount, Long maxId, LocalDateTime lastUpdatedAt) {
+        long lastModified = toEpochMilli(lastUpdatedAt);
+        String etag = "\"products-" + pageable.getPageSize() + "-" + toKey(pageable.getSort())
+                + "-" + totalCount + "-" + (maxId != null ? maxId : 0) + "-" + lastModified + "\"";
+        return new ProductVersion(etag, lastModified);
+    }
+    
+    /**
+     * 정렬 조건을 ETag에 넣을 문자열로 바꾸는 메서드 (예: createdAt:DESC,id:ASC)
+     * 해시 대신 속성과 방향을 그대로 나열하므로 정렬이 다르면 항상 다른 ETag가 됩니다.
+     */
+    private static String toKey(Sort sort) {
+        return sort.stream()
+                .map(order -> order.getProperty() + ":" + order.getDirection())
+                .collect(Collectors.joining(","));
+    }
+    
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+}
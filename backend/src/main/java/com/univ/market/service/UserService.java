@@ -4,14 +4,18 @@ import com.univ.market.domain.UnivVerification;
 import com.univ.market.domain.User;
 import com.univ.market.dto.request.UnivVerificationRequest;
 import com.univ.market.dto.response.UserResponse;
+import com.univ.market.repository.ProductRepository;
 import com.univ.market.repository.UnivVerificationRepository;
 import com.univ.market.repository.UserRepository;
+import com.univ.market.security.TokenVersionRegistry;
+import com.univ.market.verification.PendingVerification;
+import com.univ.market.verification.UniversityDomainRegistry;
+import com.univ.market.verification.VerificationCodeStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Random;
 
 /**
  * 사용자 관련 비즈니스 로직을 처리하는 서비스 클래스
@@ -23,7 +27,11 @@ public class UserService {
     
     private final UserRepository userRepository;
     private final UnivVerificationRepository univVerificationRepository;
+    private final ProductRepository productRepository;
     private final EmailService emailService;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final VerificationCodeStore verificationCodeStore;
+    private final UniversityDomainRegistry universityDomainRegistry;
     
     /**
      * 카카오 로그인 처리 메서드
@@ -70,37 +78,60 @@ public class UserService {
         return UserResponse.fromEntity(user);
     }
     
+    /**
+     * 로그아웃 처리 메서드
+     * 토큰 버전을 올려, 지금까지 발급된 사용자의 토큰을 모두 무효화합니다.
+     * 
+     * @param userId 사용자 ID
+     * @throws IllegalArgumentException 존재하지 않는 사용자인 경우
+     */
+    @Transactional
+    public void logout(Long userId) {
+        revokeTokens(userId);
+    }
+    
+    /**
+     * 사용자에게 발급된 토큰을 모두 무효화하는 메서드 (로그아웃, 이용 정지, 대학교 재인증 시 사용)
+     * 각 서버의 토큰 버전 목록에는 커밋 후 반영되며, 다른 서버에는 다음 갱신 주기에 반영됩니다.
+     * 
+     * @param userId 사용자 ID
+     * @return 증가된 토큰 버전 (이후 발급하는 토큰에 사용)
+     * @throws IllegalArgumentException 존재하지 않는 사용자인 경우
+     */
+    @Transactional
+    public int revokeTokens(Long userId) {
+        if (userRepository.incrementTokenVersion(userId, LocalDateTime.now()) == 0) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+        int tokenVersion = userRepository.findTokenVersionById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        tokenVersionRegistry.advance(userId, tokenVersion);
+        return tokenVersion;
+    }
+    
     /**
      * 대학교 인증 이메일을 전송하는 메서드
+     * 인증 코드는 메모리에만 보관하며, DB에는 인증이 완료된 뒤에 기록합니다.
      * 
      * @param userId 사용자 ID
      * @param univEmail 대학교 이메일
      * @throws IllegalArgumentException 존재하지 않는 사용자이거나 유효하지 않은 대학 이메일인 경우
+     * @throws IllegalStateException 재요청 간격이 지나지 않은 경우
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public void sendUnivVerificationEmail(Long userId, String univEmail) {
-        // 사용자 정보 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 사용자 확인
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
         
-        // 대학 이메일 형식 검증 (간단한 예시)
-        if (!univEmail.matches(".*\\.(ac\\.kr|edu)$")) {
+        // 대학교 도메인(ac.kr, edu)의 이메일인지 확인
+        if (!universityDomainRegistry.isUniversityEmail(univEmail)) {
             throw new IllegalArgumentException("유효한 대학 이메일이 아닙니다.");
         }
         
-        // 인증 코드 생성
-        String verificationCode = generateRandomCode();
-        
-        // DB에 인증 정보 저장
-        UnivVerification verification = UnivVerification.builder()
-                .email(univEmail)
-                .verificationCode(verificationCode)
-                .verified(false)
-                .user(user)
-                .expiresAt(LocalDateTime.now().plusHours(24))
-                .build();
-        
-        univVerificationRepository.save(verification);
+        // 인증 코드 발급 (같은 이메일의 이전 코드는 무효)
+        String verificationCode = verificationCodeStore.issue(userId, univEmail);
         
         // 인증 이메일 발송
         emailService.sendVerificationEmail(univEmail, verificationCode);
@@ -108,65 +139,52 @@ public class UserService {
     
     /**
      * 대학교 인증 코드를 확인하는 메서드
+     * 인증 여부와 대학교는 토큰에 담기므로, 토큰 버전을 올려 이전 토큰을 무효화합니다.
+     * 호출하는 쪽은 반환된 사용자 정보로 새 토큰을 발급해야 합니다.
      * 
+     * @param userId 인증 코드를 요청한 사용자 ID
      * @param request 인증 요청 데이터
-     * @return 인증 성공 여부
-     * @throws IllegalArgumentException 존재하지 않는 인증 정보인 경우
-     * @throws IllegalStateException 인증 코드가 만료된 경우
+     * @return 인증된 사용자 (새 토큰 버전 반영됨)
+     * @throws IllegalArgumentException 확인 대기 중인 인증 정보가 없거나 코드가 일치하지 않는 경우
+     * @throws IllegalStateException 인증 코드가 만료되었거나 시도 횟수를 초과한 경우
      */
     @Transactional
-    public boolean verifyUnivEmail(UnivVerificationRequest request) {
-        // 인증 정보 조회
-        UnivVerification verification = univVerificationRepository.findByEmailAndVerificationCode(
-                request.getEmail(), request.getVerificationCode())
-                .orElseThrow(() -> new IllegalArgumentException("인증 정보를 찾을 수 없습니다."));
+    public User verifyUnivEmail(Long userId, UnivVerificationRequest request) {
+        // 인증 코드 확인 (성공하면 저장소에서 제거되어 다시 사용할 수 없음)
+        PendingVerification verification = verificationCodeStore.verify(
+                userId, request.getEmail(), request.getVerificationCode());
         
-        // 만료 여부 확인
-        if (verification.getExpiresAt().isBefore(LocalDateTime.now())) {
-            throw new IllegalStateException("인증 코드가 만료되었습니다.");
-        }
+        // 인증 전 정보가 담긴 토큰 무효화
+        // 사용자를 조회하기 전에 올려 두므로, 조회한 엔티티에는 새 토큰 버전이 담김 (토큰 버전은 엔티티 저장 시 갱신되지 않음)
+        revokeTokens(userId);
         
-        // 인증 완료 처리
-        verification.setVerified(true);
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        
+        // 인증 완료 기록
+        univVerificationRepository.save(UnivVerification.builder()
+                .email(verification.getEmail())
+                .verificationCode(verification.getVerificationCode())
+                .verified(true)
+                .user(user)
+                .expiresAt(verification.getExpiresAt())
+                .build());
         
         // 사용자 대학 정보 업데이트
-        User user = verification.getUser();
         user.setVerified(true);
         
-        // 이메일에서 대학 이름 추출 (예: username@snu.ac.kr -> 서울대학교)
-        String emailDomain = verification.getEmail().substring(verification.getEmail().indexOf('@') + 1);
-        String universityName = extractUniversityName(emailDomain);
+        // 이메일 도메인으로 대학 이름 조회 (예: username@mail.snu.ac.kr -> 서울대학교, 목록에 없으면 도메인으로 만든 이름)
+        String universityName = universityDomainRegistry.findUniversityNameByEmail(verification.getEmail());
+        if (universityName == null) {
+            throw new IllegalArgumentException("유효한 대학 이메일이 아닙니다.");
+        }
         user.setUniversityName(universityName);
         
         userRepository.save(user);
         
-        return true;
-    }
-    
-    /**
-     * 이메일 도메인에서 대학교 이름을 추출하는 메서드
-     * 
-     * @param emailDomain 이메일 도메인 (예: snu.ac.kr)
-     * @return 대학교 이름 (예: 서울대학교)
-     */
-    private String extractUniversityName(String emailDomain) {
-        // 실제 구현에서는 대학 도메인과 이름을 매핑하는 로직 필요
-        // 여기서는 간단한 예시만 제공
-        if (emailDomain.contains("snu.ac.kr")) return "서울대학교";
-        if (emailDomain.contains("yonsei.ac.kr")) return "연세대학교";
-        if (emailDomain.contains("korea.ac.kr")) return "고려대학교";
-        // 기본값
-        return emailDomain.split("\\.")[0] + "대학교";
-    }
-    
-    /**
-     * 6자리 무작위 인증 코드를 생성하는 메서드
-     * 
-     * @return 생성된 인증 코드
-     */
-    private String generateRandomCode() {
-        Random random = new Random();
-        int code = 100000 + random.nextInt(900000); // 6자리 숫자
-        return String.valueOf(code);
+        // 사용자가 등록한 상품의 비정규화된 대학교 정보 동기화
+        productRepository.updateUniversityBySellerId(user.getId(), universityName);
+        
+        return user;
     }
 }
\ No newline at end of file
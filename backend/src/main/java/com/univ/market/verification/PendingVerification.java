@@ -0,0 +1,64 @@
+package com.univ.market.verification;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 확인을 기다리는 대학교 인증 코드 한 건
+ * 인증이 완료될 때까지 VerificationCodeStore의 메모리에만 보관되며, DB에는 인증이 완료된 뒤에 기록됩니다.
+ */
+@Getter
+public final class PendingVerification {
+    /**
+     * 인증을 요청한 사용자 ID
+     */
+    private final Long userId;
+    
+    /**
+     * 대학교 이메일 주소
+     */
+    private final String email;
+    
+    /**
+     * 인증 코드
+     */
+    private final String verificationCode;
+    
+    /**
+     * 인증 코드 만료 시간
+     */
+    private final LocalDateTime expiresAt;
+    
+    /**
+     * 발급 시각 (System.nanoTime 기준, 재요청 간격 확인용)
+     */
+    final long issuedAtNanos;
+    
+    /**
+     * 만료 시각 (System.nanoTime 기준)
+     */
+    final long expiresAtNanos;
+    
+    /**
+     * 만료 처리될 타이밍 휠의 틱
+     */
+    final long deadlineTick;
+    
+    /**
+     * 일치하지 않는 코드를 입력한 횟수
+     */
+    final AtomicInteger failedAttempts = new AtomicInteger();
+    
+    PendingVerification(Long userId, String email, String verificationCode, LocalDateTime expiresAt,
+                        long issuedAtNanos, long expiresAtNanos, long deadlineTick) {
+        this.userId = userId;
+        this.email = email;
+        this.verificationCode = verificationCode;
+        this.expiresAt = expiresAt;
+        this.issuedAtNanos = issuedAtNanos;
+        this.expiresAtNanos = expiresAtNanos;
+        this.deadlineTick = deadlineTick;
+    }
+}
@@ -0,0 +1,79 @@
+package com.univ.market.verification;
+
+import com.univ.market.repository.UnivVerificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증이 완료되지 않은 대학교 인증 행을 주기적으로 삭제하는 컴포넌트
+ * 인증 코드를 DB에 저장하던 때 남은 행(만료되어도 삭제되지 않던 행)을 정리합니다.
+ * 현재는 인증이 완료된 기록만 저장하므로, 남은 행을 모두 삭제한 뒤에는 주기마다 빈 조회 한 번만 실행됩니다.
+ * 
+ * 한 트랜잭션에 chunk-size 행씩 나누어 삭제하여 잠금을 오래 잡지 않습니다.
+ */
+@Slf4j
+@Component
+public class UnivVerificationPurgeJob {
+    
+    private final UnivVerificationRepository univVerificationRepository;
+    
+    private final TransactionTemplate transactionTemplate;
+    
+    private final int chunkSize;
+    
+    public UnivVerificationPurgeJob(UnivVerificationRepository univVerificationRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${verification.purge.chunk-size}") int chunkSize) {
+        this.univVerificationRepository = univVerificationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+    
+    /**
+     * 인증이 완료되지 않은 행을 chunkSize개씩 나누어 모두 삭제하는 메서드
+     * 
+     * @return 삭제한 행 수
+     */
+    int purge() {
+        int deleted = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            Integer chunk = transactionTemplate.execute(status -> {
+                List<Long> ids = univVerificationRepository.findUnverifiedIds(PageRequest.of(0, chunkSize));
+                if (!ids.isEmpty()) {
+                    univVerificationRepository.deleteAllByIdInBatch(ids);
+                }
+                return ids.size();
+            });
+            deleted += chunk;
+            if (chunk < chunkSize) {
+                break;
+            }
+        }
+        return deleted;
+    }
+    
+    /**
+     * interval-minutes 마다 정리를 실행하는 메서드 (실패하면 다음 주기에 다시 시도)
+     * 시작 직후의 부하를 피해 한 주기 뒤부터 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${verification.purge.interval-minutes}",
+               initialDelayString = "${verification.purge.interval-minutes}", timeUnit = TimeUnit.MINUTES)
+    void purgeQuietly() {
+        try {
+            int deleted = purge();
+            if (deleted > 0) {
+                log.info("인증이 완료되지 않은 대학교 인증 정보 {}건 삭제", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.error("대학교 인증 정보 정리 실패, 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.univ.market.verification;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 이메일 도메인으로 대학교를 찾는 컴포넌트
+ * 대학교 도메인 접미사(ac.kr, edu)와 대학교 도메인 목록(domain,name 형식의 CSV)을
+ * 도메인 레이블의 역순(kr -> ac -> snu)으로 트라이에 적재합니다.
+ * 
+ * 대학교 이메일인지는 접미사로만 판단하고(접미사 아래에 레이블이 하나 이상 있어야 함), 목록은 이름을 찾는 데만 사용합니다.
+ * 목록에 없는 학교는 접미사 바로 앞 레이블로 이름을 만듭니다. (예: unknown.ac.kr -> unknown대학교)
+ * 
+ * 도메인의 오른쪽 레이블부터 트라이를 따라 내려가며 마지막으로 지나간 대학교를 결과로 사용하므로,
+ * 조회는 도메인 길이에 비례하고 mail.snu.ac.kr 같은 하위 도메인도 snu.ac.kr 로 인식됩니다.
+ * 레이블 단위로 비교하므로 xsnu.ac.kr 처럼 문자열만 겹치는 도메인은 서울대학교로 인식되지 않습니다.
+ */
+@Component
+public class UniversityDomainRegistry {
+    
+    /**
+     * 대학교 이메일로 인정하는 도메인 접미사
+     */
+    private static final List<String> UNIVERSITY_SUFFIXES = List.of("ac.kr", "edu");
+    
+    /**
+     * 목록에 없는 학교의 이름에 붙이는 접미사
+     */
+    private static final String FALLBACK_NAME_SUFFIX = "대학교";
+    
+    private final Node root = new Node();
+    
+    private int size;
+    
+    @Autowired
+    public UniversityDomainRegistry(@Value("${verification.university.domains-file}") Resource domainsFile) {
+        try (Reader reader = new InputStreamReader(domainsFile.getInputStream(), StandardCharsets.UTF_8)) {
+            load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("대학교 도메인 목록을 읽을 수 없습니다: " + domainsFile, e);
+        }
+    }
+    
+    UniversityDomainRegistry(Reader reader) throws IOException {
+        load(reader);
+    }
+    
+    
+    /**
+     * 이메일 도메인에 해당하는 대학교 이름을 찾는 메서드
+     * 
+     * @param domain 이메일 도메인 (예: mail.snu.ac.kr)
+     * @return 대학교 이름 (예: 서울대학교), 목록에 없는 학교면 접미사 앞 레이블로 만든 이름,
+     *         대학교 도메인이 아니면 null
+     */
+    public String findUniversityName(String domain) {
+        if (domain == null || domain.isEmpty()) {
+            return null;
+        }
+        String normalized = domain.toLowerCase(Locale.ROOT);
+        Node node = root;
+        String universityName = null;
+        // 대학교 도메인 접미사 바로 앞 레이블 (접미사를 지나지 않았으면 null)
+        String schoolLabel = null;
+        boolean underSuffix = false;
+        int end = normalized.length();
+        while (end > 0) {
+            int start = normalized.lastIndexOf('.', end - 1) + 1;
+            String label = normalized.substring(start, end);
+            if (underSuffix && schoolLabel == null) {
+                schoolLabel = label;
+            }
+            node = node.children.get(label);
+            if (node == null) {
+                break;
+            }
+            underSuffix |= node.universitySuffix;
+            if (node.universityName != null) {
+                universityName = node.universityName;
+            }
+            end = start - 1;
+        }
+        
+        if (schoolLabel == null || schoolLabel.isEmpty()) {
+            return null;
+        }
+        return universityName != null ? universityName : schoolLabel + FALLBACK_NAME_SUFFIX;
+    }
+    
+    /**
+     * 이메일 주소의 도메인에 해당하는 대학교 이름을 찾는 메서드
+     * 
+     * @param email 이메일 주소 (예: username@snu.ac.kr)
+     * @return 대학교 이름, 형식이 잘못되었거나 대학교 도메인이 아니면 null
+     */
+    public String findUniversityNameByEmail(String email) {
+        int at = email != null ? email.lastIndexOf('@') : -1;
+        if (at <= 0) {
+            return null;
+        }
+        return findUniversityName(email.substring(at + 1));
+    }
+    
+    /**
+     * 대학교 이메일인지 확인하는 메서드 (ac.kr, edu 도메인)
+     * 
+     * @param email 이메일 주소
+     * @return 대학교 이메일이면 true
+     */
+    public boolean isUniversityEmail(String email) {
+        return findUniversityNameByEmail(email) != null;
+    }
+    
+    /**
+     * 목록에 등록된 도메인 수
+     */
+    public int size() {
+        return size;
+    }
+    
+    private void load(Reader reader) throws IOException {
+        UNIVERSITY_SUFFIXES.forEach(suffix -> nodeOf(suffix).universitySuffix = true);
+        
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            // 빈 줄, 주석, 헤더는 건너뜀
+            if (line.isEmpty() || line.startsWith("#") || line.equals("domain,name")) {
+                continue;
+            }
+            int comma = line.indexOf(',');
+            if (comma <= 0 || comma == line.length() - 1) {
+                throw new IllegalStateException("잘못된 대학교 도메인 형식입니다. (" + lineNumber + "번째 줄: " + line + ")");
+            }
+            add(line.substring(0, comma).strip(), line.substring(comma + 1).strip());
+        }
+    }
+    
+    private void add(String domain, String universityName) {
+        Node node = nodeOf(domain);
+        if (node.universityName == null) {
+            size++;
+        }
+        node.universityName = universityName;
+    }
+    
+    /**
+     * 도메인의 트라이 노드를 찾는 메서드 (없으면 생성)
+     */
+    private Node nodeOf(String domain) {
+        String[] labels = domain.toLowerCase(Locale.ROOT).split("\\.");
+        Node node = root;
+        for (int i = labels.length - 1; i >= 0; i--) {
+            node = node.children.computeIfAbsent(labels[i], label -> new Node());
+        }
+        return node;
+    }
+    
+    /**
+     * 트라이 노드 (도메인 레이블 하나)
+     */
+    private static final class Node {
+        
+        private final Map<String, Node> children = new HashMap<>();
+        
+        /**
+         * 이 노드까지의 도메인이 등록된 대학교 이름 (중간 레이블이면 null)
+         */
+        private String universityName;
+        
+        /**
+         * 이 노드까지의 도메인이 대학교 도메인 접미사인지 여부
+         */
+        private boolean universitySuffix;
+    }
+}
@@ -0,0 +1,210 @@
+package com.univ.market.verification;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 확인을 기다리는 대학교 인증 코드를 메모리에 보관하는 저장소
+ * 이메일별로 마지막에 발급한 코드 하나만 유효하며, 코드마다 입력 시도 횟수를 제한합니다.
+ * 
+ * 만료된 코드는 해시 타이밍 휠로 제거합니다. 코드를 만료 틱에 해당하는 칸에 넣어 두고, 틱마다 한 칸만 확인하므로
+ * 보관 중인 코드 수와 관계없이 추가, 삭제는 O(1)이고 틱당 작업은 그 칸의 코드 수에 비례합니다.
+ * 휠 한 바퀴보다 긴 만료 시간은 만료 틱을 비교하여 다음 바퀴까지 남겨 둡니다.
+ * 
+ * 서버 메모리에만 보관하므로 재시작하면 확인 전의 코드는 사라지며(다시 요청 필요),
+ * 여러 서버로 실행할 때는 인증 코드 요청과 확인이 같은 서버로 전달되어야 합니다.
+ */
+@Component
+public class VerificationCodeStore {
+    
+    /**
+     * 타이밍 휠 칸 수 (2의 거듭제곱)
+     */
+    private static final int WHEEL_SIZE = 512;
+    
+    private static final long DEFAULT_TICK_MILLIS = 1000;
+    
+    private final SecureRandom random = new SecureRandom();
+    
+    private final long ttlNanos;
+    
+    private final int maxAttempts;
+    
+    private final long resendIntervalNanos;
+    
+    private final long tickNanos;
+    
+    /**
+     * 이메일별 확인 대기 중인 코드
+     */
+    private final Map<String, PendingVerification> pending = new ConcurrentHashMap<>();
+    
+    /**
+     * 타이밍 휠 (칸별로 그 칸에서 만료되는 코드), wheel 잠금으로 보호
+     */
+    private final Set<PendingVerification>[] wheel;
+    
+    private final long startNanos = System.nanoTime();
+    
+    /**
+     * 마지막으로 처리한 틱, wheel 잠금으로 보호
+     */
+    private long currentTick;
+    
+    @Autowired
+    public VerificationCodeStore(@Value("${verification.code.ttl-minutes}") long ttlMinutes,
+                                 @Value("${verification.code.max-attempts}") int maxAttempts,
+                                 @Value("${verification.code.resend-interval-seconds}") long resendIntervalSeconds) {
+        this(TimeUnit.MINUTES.toMillis(ttlMinutes), maxAttempts, TimeUnit.SECONDS.toMillis(resendIntervalSeconds),
+                DEFAULT_TICK_MILLIS);
+    }
+    
+    @SuppressWarnings("unchecked")
+    VerificationCodeStore(long ttlMillis, int maxAttempts, long resendIntervalMillis, long tickMillis) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.maxAttempts = maxAttempts;
+        this.resendIntervalNanos = TimeUnit.MILLISECONDS.toNanos(resendIntervalMillis);
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.wheel = new Set[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new HashSet<>();
+        }
+    }
+    
+    /**
+     * 이메일로 보낼 새 인증 코드를 발급하는 메서드
+     * 같은 이메일에 이전에 발급한 코드는 무효가 됩니다.
+     * 
+     * @param userId 인증을 요청한 사용자 ID
+     * @param email 대학교 이메일
+     * @return 발급된 6자리 인증 코드
+     * @throws IllegalStateException 재요청 간격이 지나지 않은 경우
+     */
+    public String issue(Long userId, String email) {
+        long now = System.nanoTime();
+        PendingVerification previous = pending.get(email);
+        if (previous != null && now - previous.issuedAtNanos < resendIntervalNanos) {
+            long waitSeconds = TimeUnit.NANOSECONDS.toSeconds(resendIntervalNanos - (now - previous.issuedAtNanos)) + 1;
+            throw new IllegalStateException("인증 코드는 " + waitSeconds + "초 후에 다시 요청할 수 있습니다.");
+        }
+        
+        String code = String.valueOf(100000 + random.nextInt(900000)); // 6자리 숫자
+        long expiresAtNanos = now + ttlNanos;
+        PendingVerification verification = new PendingVerification(userId, email, code,
+                LocalDateTime.now().plusNanos(ttlNanos), now, expiresAtNanos,
+                divideCeil(expiresAtNanos - startNanos, tickNanos));
+        
+        synchronized (wheel) {
+            wheel[slotOf(verification.deadlineTick)].add(verification);
+        }
+        PendingVerification replaced = pending.put(email, verification);
+        if (replaced != null) {
+            removeFromWheel(replaced);
+        }
+        return code;
+    }
+    
+    /**
+     * 인증 코드를 확인하는 메서드
+     * 일치하면 코드를 저장소에서 제거하여 한 번만 사용할 수 있도록 합니다.
+     * 일치하지 않으면 시도 횟수를 늘리고, 최대 시도 횟수에 도달하면 코드를 폐기합니다.
+     * 
+     * @param userId 확인을 요청한 사용자 ID
+     * @param email 대학교 이메일
+     * @param code 사용자가 입력한 인증 코드
+     * @return 확인된 인증 정보
+     * @throws IllegalArgumentException 확인 대기 중인 코드가 없거나 코드가 일치하지 않는 경우
+     * @throws IllegalStateException 코드가 만료되었거나 시도 횟수를 초과한 경우
+     */
+    public PendingVerification verify(Long userId, String email, String code) {
+        PendingVerification verification = email != null ? pending.get(email) : null;
+        // 다른 사용자가 요청한 코드는 없는 것으로 처리
+        if (verification == null || !verification.getUserId().equals(userId)) {
+            throw new IllegalArgumentException("인증 정보를 찾을 수 없습니다.");
+        }
+        
+        if (System.nanoTime() - verification.expiresAtNanos >= 0) {
+            discard(verification);
+            throw new IllegalStateException("인증 코드가 만료되었습니다.");
+        }
+        
+        if (code == null || !MessageDigest.isEqual(
+                verification.getVerificationCode().getBytes(StandardCharsets.UTF_8),
+                code.getBytes(StandardCharsets.UTF_8))) {
+            int failed = verification.failedAttempts.incrementAndGet();
+            if (failed >= maxAttempts) {
+                discard(verification);
+                throw new IllegalStateException("인증 시도 횟수를 초과했습니다. 인증 코드를 다시 요청해주세요.");
+            }
+            throw new IllegalArgumentException("인증 코드가 일치하지 않습니다. (남은 시도 " + (maxAttempts - failed) + "회)");
+        }
+        
+        // 동시에 같은 코드로 확인한 요청 중 하나만 성공
+        if (!pending.remove(email, verification)) {
+            throw new IllegalArgumentException("인증 정보를 찾을 수 없습니다.");
+        }
+        removeFromWheel(verification);
+        return verification;
+    }
+    
+    /**
+     * 확인 대기 중인 코드 수 (모니터링 및 테스트용)
+     */
+    public int size() {
+        return pending.size();
+    }
+    
+    /**
+     * 지난 틱들의 칸을 차례로 확인하여 만료 틱이 지난 코드를 제거하는 메서드
+     * 같은 칸에 있더라도 만료 틱이 남은 코드(다음 바퀴)는 그대로 둡니다.
+     * 스케줄러가 틱 간격마다 호출하며, 호출이 늦어지면 밀린 틱을 한 번에 처리합니다.
+     */
+    @Scheduled(fixedDelay = DEFAULT_TICK_MILLIS, initialDelay = DEFAULT_TICK_MILLIS)
+    void expire() {
+        long targetTick = (System.nanoTime() - startNanos) / tickNanos;
+        synchronized (wheel) {
+            while (currentTick < targetTick) {
+                currentTick++;
+                long tick = currentTick;
+                wheel[slotOf(tick)].removeIf(verification -> {
+                    if (verification.deadlineTick > tick) {
+                        return false;
+                    }
+                    pending.remove(verification.getEmail(), verification);
+                    return true;
+                });
+            }
+        }
+    }
+    
+    private void discard(PendingVerification verification) {
+        pending.remove(verification.getEmail(), verification);
+        removeFromWheel(verification);
+    }
+    
+    private void removeFromWheel(PendingVerification verification) {
+        synchronized (wheel) {
+            wheel[slotOf(verification.deadlineTick)].remove(verification);
+        }
+    }
+    
+    private static int slotOf(long tick) {
+        return (int) (tick & (WHEEL_SIZE - 1));
+    }
+    
+    private static long divideCeil(long dividend, long divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+}
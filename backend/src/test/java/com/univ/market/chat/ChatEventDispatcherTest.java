@@ -0,0 +1,72 @@
+package com.univ.market.chat;
+
+import com.univ.market.dto.response.ChatEventResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 채팅방 이벤트가 사용자별 전달 간격 안에서 마지막 이벤트 하나로 합쳐지는지 검증하는 테스트
+ */
+class ChatEventDispatcherTest {
+    
+    private static final long MIN_INTERVAL_MILLIS = 200;
+    
+    private final SimpMessageSendingOperations messagingTemplate = mock(SimpMessageSendingOperations.class);
+    
+    private final ChatEventDispatcher dispatcher = new ChatEventDispatcher(messagingTemplate, MIN_INTERVAL_MILLIS);
+    
+    @BeforeEach
+    void setUp() {
+        dispatcher.start();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+    
+    @Test
+    void burstIsCoalescedIntoFirstAndLatestEvent() {
+        ChatRoomMembership buyer = new ChatRoomMembership(1L, 10L, "buyer", true, 20L);
+        
+        dispatcher.publish(buyer, ChatEventType.TYPING);
+        for (int i = 0; i < 20; i++) {
+            dispatcher.publish(buyer, ChatEventType.TYPING);
+        }
+        dispatcher.publish(buyer, ChatEventType.TYPING_STOPPED);
+        
+        // 첫 이벤트는 바로, 나머지는 구간이 끝날 때 마지막 것 하나만 전달
+        ArgumentCaptor<ChatEventResponse> events = ArgumentCaptor.forClass(ChatEventResponse.class);
+        verify(messagingTemplate, after(MIN_INTERVAL_MILLIS * 3).times(2))
+                .convertAndSend(eq("/topic/chat/1/events"), events.capture());
+        
+        List<ChatEventResponse> sent = events.getAllValues();
+        assertThat(sent).extracting(ChatEventResponse::getType)
+                .containsExactly(ChatEventType.TYPING, ChatEventType.TYPING_STOPPED);
+        assertThat(sent).allMatch(event -> event.getUserId().equals(10L));
+    }
+    
+    @Test
+    void participantsAreLimitedIndependently() {
+        ChatRoomMembership buyer = new ChatRoomMembership(1L, 10L, "buyer", true, 20L);
+        ChatRoomMembership seller = new ChatRoomMembership(1L, 20L, "seller", false, 10L);
+        
+        dispatcher.publish(buyer, ChatEventType.TYPING);
+        dispatcher.publish(seller, ChatEventType.TYPING);
+        
+        verify(messagingTemplate, times(2)).convertAndSend(eq("/topic/chat/1/events"), (Object) any());
+    }
+}
@@ -0,0 +1,72 @@
+package com.univ.market.chat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 채팅방의 작업은 넣은 순서대로 실행되고, 다른 구간의 채팅방은 서로 막지 않는지 검증하는 테스트
+ */
+class ChatRoomDispatcherTest {
+    
+    private final ChatRoomDispatcher dispatcher = new ChatRoomDispatcher(2, 1000);
+    
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.stop();
+    }
+    
+    @Test
+    void tasksForSameRoomRunInSubmissionOrder() throws InterruptedException {
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(500);
+        
+        for (int i = 0; i < 500; i++) {
+            int sequence = i;
+            dispatcher.execute(7L, () -> {
+                executed.add(sequence);
+                done.countDown();
+            });
+        }
+        
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).isSorted().hasSize(500);
+    }
+    
+    @Test
+    void blockedRoomDoesNotDelayRoomOnOtherStripe() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherRoomDone = new CountDownLatch(1);
+        
+        // 채팅방 1의 구간 스레드를 붙잡아 둔 상태에서 다른 구간(채팅방 2)의 작업이 실행되는지 확인
+        dispatcher.execute(1L, () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        dispatcher.execute(2L, otherRoomDone::countDown);
+        
+        assertThat(otherRoomDone.await(2, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+    
+    @Test
+    void failedTaskDoesNotStopLaterTasks() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        
+        dispatcher.execute(3L, () -> {
+            throw new IllegalStateException("저장 실패");
+        });
+        dispatcher.execute(3L, done::countDown);
+        
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,87 @@
+package com.univ.market.chat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅 메시지 로컬 로그의 기록, 체크포인트, 재시작 후 복구를 검증하는 테스트
+ */
+class ChatWriteAheadLogTest {
+    
+    private static final int CAPACITY = 4096;
+    
+    @TempDir
+    Path dir;
+    
+    @Test
+    void pendingRecordsSurviveReopenUntilCheckpointed() throws Exception {
+        Path path = dir.resolve("chat-wal.log");
+        
+        ChatLogRecord second;
+        try (ChatWriteAheadLog log = ChatWriteAheadLog.open(path, CAPACITY)) {
+            ChatLogRecord first = log.append(record(1, "안녕하세요"));
+            second = log.append(record(2, "아직 판매 중인가요?"));
+            log.append(record(3, "네 판매 중입니다"));
+            
+            log.checkpoint(first.getEndOffset());
+        }
+        
+        try (ChatWriteAheadLog log = ChatWriteAheadLog.open(path, CAPACITY)) {
+            List<ChatLogRecord> pending = log.readPending();
+            
+            assertThat(pending).extracting(ChatLogRecord::getId).containsExactly(2L, 3L);
+            assertThat(pending.get(0).getContent()).isEqualTo(second.getContent());
+            assertThat(pending.get(0).getCreatedAt()).isEqualTo(second.getCreatedAt());
+            assertThat(pending.get(0).isRecipientBuyer()).isTrue();
+            assertThat(pending.get(0).getRoomSequence()).isEqualTo(2L);
+            
+            // 복구 후 이어서 기록하면 기존 레코드 뒤에 붙음
+            ChatLogRecord fourth = log.append(record(4, "직거래 가능할까요?"));
+            assertThat(log.readPending()).extracting(ChatLogRecord::getId).containsExactly(2L, 3L, 4L);
+            
+            log.checkpoint(fourth.getEndOffset());
+            assertThat(log.readPending()).isEmpty();
+        }
+    }
+    
+    @Test
+    void drainedLogIsReusedFromTheStart() throws Exception {
+        try (ChatWriteAheadLog log = ChatWriteAheadLog.open(dir.resolve("chat-wal.log"), CAPACITY)) {
+            int start = log.writePosition();
+            
+            ChatLogRecord appended = null;
+            ChatLogRecord last = null;
+            for (long id = 1; (appended = log.append(record(id, "메시지 " + id))) != null; id++) {
+                last = appended;
+            }
+            
+            // 저장되지 않은 레코드가 남아 있으면 비우지 않음
+            assertThat(log.resetIfDrained()).isFalse();
+            
+            log.checkpoint(last.getEndOffset());
+            assertThat(log.resetIfDrained()).isTrue();
+            assertThat(log.writePosition()).isEqualTo(start);
+            assertThat(log.append(record(1000, "다시 기록"))).isNotNull();
+            assertThat(log.readPending()).extracting(ChatLogRecord::getId).containsExactly(1000L);
+        }
+    }
+    
+    private static ChatLogRecord record(long id, String content) {
+        return ChatLogRecord.builder()
+                .id(id)
+                .chatRoomId(10L)
+                .roomSequence(id)
+                .senderId(20L)
+                .recipientId(30L)
+                .recipientBuyer(true)
+                .content(content)
+                .createdAt(LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000))
+                .build();
+    }
+}
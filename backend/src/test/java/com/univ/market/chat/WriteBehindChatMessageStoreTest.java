@@ -0,0 +1,86 @@
+package com.univ.market.chat;
+
+import com.univ.market.repository.ChatMessageBatchRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 저장할 수 없는 메시지(그 사이 삭제된 채팅방 등)가 대기열 맨 앞에 남아 로그가 가득 차지 않도록,
+ * 배치가 반복해서 실패하면 해당 메시지만 건너뛰고 나머지는 저장하는지 검증하는 테스트
+ */
+class WriteBehindChatMessageStoreTest {
+    
+    private static final long DELETED_ROOM_ID = 2L;
+    
+    @TempDir
+    Path dir;
+    
+    private final ChatMessageBatchRepository repository = mock(ChatMessageBatchRepository.class);
+    
+    private final List<Long> storedIds = new ArrayList<>();
+    
+    private WriteBehindChatMessageStore store;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        when(repository.findMaxMessageId()).thenReturn(0L);
+        when(repository.findLastMessageSequence(anyLong())).thenReturn(0L);
+        doAnswer(invocation -> {
+            List<ChatLogRecord> records = invocation.getArgument(0);
+            if (records.stream().anyMatch(record -> record.getChatRoomId() == DELETED_ROOM_ID)) {
+                throw new DataIntegrityViolationException("chat_room_id 외래 키 위반");
+            }
+            records.forEach(record -> storedIds.add(record.getId()));
+            return null;
+        }).when(repository).writeBatch(anyList());
+        
+        // 주기적 저장은 테스트가 직접 호출하도록 길게 설정
+        store = new WriteBehindChatMessageStore(repository, mock(PlatformTransactionManager.class),
+                dir.resolve("chat-wal.log").toString(), 1, 60_000, 500, 100);
+        store.start();
+    }
+    
+    @AfterEach
+    void tearDown() throws Exception {
+        store.stop();
+    }
+    
+    @Test
+    void poisonRecordIsSkippedAfterRepeatedBatchFailures() {
+        store.accept(new ChatRoomMembership(1L, 10L, "buyer", true, 20L), "안녕하세요");
+        store.accept(new ChatRoomMembership(DELETED_ROOM_ID, 11L, "buyer", true, 20L), "삭제된 채팅방");
+        store.accept(new ChatRoomMembership(1L, 20L, "seller", false, 10L), "네 판매 중입니다");
+        
+        // 재시도 횟수 안에서는 배치가 그대로 남음
+        assertThatThrownBy(store::flush).isInstanceOf(DataIntegrityViolationException.class);
+        assertThatThrownBy(store::flush).isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(store.pendingCount()).isEqualTo(3);
+        
+        // 재시도 횟수를 넘으면 하나씩 저장하여 저장할 수 없는 메시지만 건너뜀
+        store.flush();
+        
+        assertThat(store.pendingCount()).isZero();
+        assertThat(storedIds).containsExactly(1L, 3L);
+        
+        // 이후 메시지는 다시 배치로 저장
+        store.accept(new ChatRoomMembership(1L, 10L, "buyer", true, 20L), "직거래 가능할까요?");
+        store.flush();
+        assertThat(storedIds).containsExactly(1L, 3L, 4L);
+    }
+}
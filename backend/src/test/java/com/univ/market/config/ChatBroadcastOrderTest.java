@@ -0,0 +1,154 @@
+package com.univ.market.config;
+
+import com.univ.market.UnivMarketApplication;
+import com.univ.market.domain.Category;
+import com.univ.market.domain.ChatRoom;
+import com.univ.market.domain.Product;
+import com.univ.market.domain.User;
+import com.univ.market.repository.CategoryRepository;
+import com.univ.market.repository.ChatRoomRepository;
+import com.univ.market.repository.ProductRepository;
+import com.univ.market.repository.UserRepository;
+import com.univ.market.security.JwtTokenProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 채팅방에 연달아 보낸 메시지가 수신, 저장, 브로커, 송신 채널을 모두 거친 뒤에도
+ * 보낸 순서이자 채팅방 순번 순서대로 구독자에게 도착하는지 검증하는 테스트
+ * 수신, 송신 채널은 운영 설정과 같이 여러 스레드로 실행합니다.
+ */
+class ChatBroadcastOrderTest {
+    
+    private static final long TIMEOUT_SECONDS = 30;
+    
+    private static final int MESSAGE_COUNT = 300;
+    
+    private static ConfigurableApplicationContext node;
+    
+    @BeforeAll
+    static void startNode() {
+        node = new SpringApplicationBuilder(UnivMarketApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:broadcast-order;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "chat.broker.mode=simple")
+                .run();
+    }
+    
+    @AfterAll
+    static void stopNode() {
+        if (node != null) {
+            node.close();
+        }
+    }
+    
+    @Test
+    void messagesInOneRoomArriveInSequenceOrder() throws Exception {
+        UserRepository userRepository = node.getBean(UserRepository.class);
+        User seller = userRepository.save(User.builder().email("seller@snu.ac.kr").nickname("seller").build());
+        User buyer = userRepository.save(User.builder().email("buyer@snu.ac.kr").nickname("buyer").build());
+        Category category = node.getBean(CategoryRepository.class).findAll().get(0);
+        Product product = node.getBean(ProductRepository.class).save(Product.builder()
+                .title("노트북")
+                .description("상태 좋은 노트북입니다")
+                .price(500000)
+                .status(Product.ProductStatus.WAITING)
+                .seller(seller)
+                .category(category)
+                .build());
+        ChatRoom chatRoom = node.getBean(ChatRoomRepository.class).save(ChatRoom.builder()
+                .product(product)
+                .buyer(buyer)
+                .seller(seller)
+                .build());
+        String topic = "/topic/chat/" + chatRoom.getId();
+        
+        StompSession buyerSession = connect(buyer.getId());
+        BlockingQueue<Map<?, ?>> received = new LinkedBlockingQueue<>();
+        CountDownLatch subscribed = new CountDownLatch(1);
+        buyerSession.setAutoReceipt(true);
+        buyerSession.subscribe(topic, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+            
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((Map<?, ?>) payload);
+            }
+        }).addReceiptTask(subscribed::countDown);
+        assertThat(subscribed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        
+        StompSession sellerSession = connect(seller.getId());
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            sellerSession.send("/app/chat/" + chatRoom.getId(), Map.of("content", "message " + i));
+        }
+        
+        List<Long> sequences = new ArrayList<>();
+        List<String> contents = new ArrayList<>();
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            Map<?, ?> message = received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertThat(message).as("%d번째 메시지 수신 대기 시간 초과", i).isNotNull();
+            sequences.add(((Number) message.get("roomSequence")).longValue());
+            contents.add((String) message.get("content"));
+        }
+        
+        assertThat(sequences).containsExactlyElementsOf(
+                LongStream.rangeClosed(1, MESSAGE_COUNT).boxed().collect(Collectors.toList()));
+        assertThat(contents).containsExactlyElementsOf(
+                LongStream.range(0, MESSAGE_COUNT).mapToObj(i -> "message " + i).collect(Collectors.toList()));
+        
+        buyerSession.disconnect();
+        sellerSession.disconnect();
+    }
+    
+    private static StompSession connect(Long userId) throws Exception {
+        int port = ((WebServerApplicationContext) node).getWebServer().getPort();
+        String token = "Bearer " + node.getBean(JwtTokenProvider.class).createToken(
+                node.getBean(UserRepository.class).findById(userId).orElseThrow());
+        
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setMessageConverter(new MappingJackson2MessageConverter());
+        
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        handshakeHeaders.add("Authorization", token);
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", token);
+        
+        return client.connectAsync("ws://localhost:" + port + "/ws/websocket", handshakeHeaders, connectHeaders,
+                new StompSessionHandlerAdapter() {
+                }).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,187 @@
+package com.univ.market.config;
+
+import com.univ.market.UnivMarketApplication;
+import com.univ.market.domain.Category;
+import com.univ.market.domain.ChatRoom;
+import com.univ.market.domain.Product;
+import com.univ.market.domain.User;
+import com.univ.market.repository.CategoryRepository;
+import com.univ.market.repository.ChatRoomRepository;
+import com.univ.market.repository.ProductRepository;
+import com.univ.market.repository.UserRepository;
+import com.univ.market.security.JwtTokenProvider;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 브로커 중계(relay) 모드에서 한 서버에 보낸 채팅 메시지가 다른 서버의 구독자에게 전달되는지 검증하는 테스트
+ * 외부 브로커 대신 내장 Artemis(STOMP)를 띄우고, 같은 JVM에서 같은 DB를 쓰는 애플리케이션 컨텍스트 두 개를 실행합니다.
+ */
+class StompBrokerRelayTest {
+    
+    private static final long TIMEOUT_SECONDS = 10;
+    
+    private static EmbeddedActiveMQ broker;
+    
+    private static ConfigurableApplicationContext nodeA;
+    
+    private static ConfigurableApplicationContext nodeB;
+    
+    @BeforeAll
+    static void startBrokerAndNodes() throws Exception {
+        int brokerPort = freePort();
+        broker = new EmbeddedActiveMQ();
+        broker.setConfiguration(new ConfigurationImpl()
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .addAcceptorConfiguration("stomp", "tcp://127.0.0.1:" + brokerPort
+                        + "?protocols=STOMP;anycastPrefix=/queue/;multicastPrefix=/topic/"));
+        broker.start();
+        
+        nodeA = startNode(brokerPort);
+        nodeB = startNode(brokerPort);
+        awaitBrokerAvailable(nodeA);
+        awaitBrokerAvailable(nodeB);
+    }
+    
+    @AfterAll
+    static void stopNodesAndBroker() throws Exception {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (broker != null) {
+            broker.stop();
+        }
+    }
+    
+    @Test
+    void messageSentOnOneNodeReachesSubscriberOnAnother() throws Exception {
+        UserRepository userRepository = nodeA.getBean(UserRepository.class);
+        User seller = userRepository.save(User.builder().email("seller@snu.ac.kr").nickname("seller").build());
+        User buyer = userRepository.save(User.builder().email("buyer@snu.ac.kr").nickname("buyer").build());
+        Category category = nodeA.getBean(CategoryRepository.class).findAll().get(0);
+        Product product = nodeA.getBean(ProductRepository.class).save(Product.builder()
+                .title("노트북")
+                .description("상태 좋은 노트북입니다")
+                .price(500000)
+                .status(Product.ProductStatus.WAITING)
+                .seller(seller)
+                .category(category)
+                .build());
+        ChatRoom chatRoom = nodeA.getBean(ChatRoomRepository.class).save(ChatRoom.builder()
+                .product(product)
+                .buyer(buyer)
+                .seller(seller)
+                .build());
+        String topic = "/topic/chat/" + chatRoom.getId();
+        
+        // 구매자는 A 서버에서 구독
+        StompSession buyerSession = connect(nodeA, buyer.getId());
+        BlockingQueue<Map<?, ?>> received = new LinkedBlockingQueue<>();
+        CountDownLatch subscribed = new CountDownLatch(1);
+        buyerSession.setAutoReceipt(true);
+        buyerSession.subscribe(topic, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+            
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((Map<?, ?>) payload);
+            }
+        }).addReceiptTask(subscribed::countDown);
+        assertThat(subscribed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        
+        // 판매자는 B 서버로 전송
+        StompSession sellerSession = connect(nodeB, seller.getId());
+        sellerSession.send("/app/chat/" + chatRoom.getId(), Map.of("content", "안녕하세요"));
+        
+        Map<?, ?> message = received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(message).isNotNull();
+        assertThat(message.get("content")).isEqualTo("안녕하세요");
+        assertThat(((Number) message.get("senderId")).longValue()).isEqualTo(seller.getId());
+        assertThat(((Number) message.get("chatRoomId")).longValue()).isEqualTo(chatRoom.getId());
+        
+        buyerSession.disconnect();
+        sellerSession.disconnect();
+    }
+    
+    private static ConfigurableApplicationContext startNode(int brokerPort) {
+        return new SpringApplicationBuilder(UnivMarketApplication.class)
+                .profiles("test", "relay")
+                .properties(
+                        "server.port=0",
+                        // 두 서버가 같은 DB를 사용 (먼저 뜬 서버가 스키마 생성)
+                        "spring.datasource.url=jdbc:h2:mem:relay;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=update",
+                        "chat.broker.relay.host=127.0.0.1",
+                        "chat.broker.relay.port=" + brokerPort)
+                .run();
+    }
+    
+    private static void awaitBrokerAvailable(ConfigurableApplicationContext node) throws InterruptedException {
+        StompBrokerRelayMessageHandler relay = node.getBean(StompBrokerRelayMessageHandler.class);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!relay.isBrokerAvailable()) {
+            assertThat(System.nanoTime()).as("브로커 연결 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+    
+    private static StompSession connect(ConfigurableApplicationContext node, Long userId) throws Exception {
+        int port = ((WebServerApplicationContext) node).getWebServer().getPort();
+        String token = "Bearer " + node.getBean(JwtTokenProvider.class).createToken(
+                node.getBean(UserRepository.class).findById(userId).orElseThrow());
+        
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        client.setMessageConverter(converter);
+        
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        handshakeHeaders.add("Authorization", token);
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", token);
+        
+        return client.connectAsync("ws://localhost:" + port + "/ws/websocket", handshakeHeaders, connectHeaders,
+                new StompSessionHandlerAdapter() {
+                }).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+    
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
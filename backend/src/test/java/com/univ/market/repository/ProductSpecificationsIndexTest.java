@@ -0,0 +1,167 @@
+package com.univ.market.repository;
+
+import com.univ.market.domain.Product;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 필터 Specification이 만드는 SQL의 조건 컬럼이 Product에 정의된 인덱스로 처리되는지 검증하는 테스트
+ * 조건 컬럼 집합이 어떤 인덱스의 앞부분 컬럼과 정확히 일치해야 하며, 범위 조건(가격)은 그중 마지막 컬럼이어야 합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.univ.market.repository.ProductSpecificationsIndexTest$RecordingStatementInspector")
+@ActiveProfiles("test")
+class ProductSpecificationsIndexTest {
+    
+    private static final Pattern PREDICATE_COLUMN = Pattern.compile("\\b\\w+\\.(\\w+)\\s*(>=|<=|=|<|>)");
+    
+    private static final Set<String> RANGE_COLUMNS = Set.of("price");
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @BeforeEach
+    void setUp() {
+        RecordingStatementInspector.clear();
+    }
+    
+    static Stream<Arguments> filterCombinations() {
+        return Stream.of(
+                Arguments.of(1L, null, null, null),
+                Arguments.of(null, Product.ProductStatus.WAITING, null, null),
+                Arguments.of(null, null, 10000, 50000),
+                Arguments.of(1L, Product.ProductStatus.WAITING, null, null),
+                Arguments.of(1L, null, 10000, null),
+                Arguments.of(null, Product.ProductStatus.WAITING, null, 50000),
+                Arguments.of(1L, Product.ProductStatus.RESERVED, 10000, 50000)
+        );
+    }
+    
+    @ParameterizedTest
+    @MethodSource("filterCombinations")
+    void filterPredicatesUseIndexedColumnsOnly(Long categoryId, Product.ProductStatus status,
+                                               Integer minPrice, Integer maxPrice) {
+        Specification<Product> specification = Specification.where(ProductSpecifications.fetchSellerAndBuyer())
+                .and(ProductSpecifications.inCategory(categoryId))
+                .and(ProductSpecifications.hasStatus(status))
+                .and(ProductSpecifications.priceAtLeast(minPrice))
+                .and(ProductSpecifications.priceAtMost(maxPrice));
+        
+        productRepository.findAll(specification, PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")));
+        
+        List<String> filterQueries = RecordingStatementInspector.statements().stream()
+                .map(sql -> sql.toLowerCase(Locale.ROOT))
+                .filter(sql -> sql.startsWith("select") && sql.contains(" from products "))
+                .toList();
+        assertThat(filterQueries).isNotEmpty();
+        
+        for (String sql : filterQueries) {
+            Set<String> columns = predicateColumns(sql);
+            assertThat(columns).isNotEmpty();
+            assertThat(isIndexPrefix(columns))
+                    .as("인덱스로 처리할 수 없는 조건 컬럼 %s: %s", columns, sql)
+                    .isTrue();
+        }
+    }
+    
+    /**
+     * WHERE 절에 등장하는 비교 조건의 컬럼명 추출
+     */
+    private Set<String> predicateColumns(String sql) {
+        int whereStart = sql.indexOf(" where ");
+        if (whereStart < 0) {
+            return Set.of();
+        }
+        String where = sql.substring(whereStart + " where ".length());
+        for (String terminator : List.of(" order by ", " offset ", " fetch ", " limit ")) {
+            int end = where.indexOf(terminator);
+            if (end >= 0) {
+                where = where.substring(0, end);
+            }
+        }
+        
+        Set<String> columns = new LinkedHashSet<>();
+        Matcher matcher = PREDICATE_COLUMN.matcher(where);
+        while (matcher.find()) {
+            columns.add(matcher.group(1));
+        }
+        return columns;
+    }
+    
+    /**
+     * 조건 컬럼 집합이 선언된 인덱스 중 하나의 앞부분과 일치하는지 확인
+     */
+    private boolean isIndexPrefix(Set<String> columns) {
+        for (List<String> indexColumns : declaredIndexes()) {
+            if (indexColumns.size() < columns.size()) {
+                continue;
+            }
+            List<String> prefix = indexColumns.subList(0, columns.size());
+            if (!Set.copyOf(prefix).equals(columns)) {
+                continue;
+            }
+            boolean rangeOnlyAtEnd = prefix.subList(0, prefix.size() - 1).stream()
+                    .noneMatch(RANGE_COLUMNS::contains);
+            if (rangeOnlyAtEnd) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private List<List<String>> declaredIndexes() {
+        List<List<String>> indexes = new ArrayList<>();
+        for (Index index : Product.class.getAnnotation(Table.class).indexes()) {
+            indexes.add(Arrays.stream(index.columnList().split(","))
+                    .map(String::trim)
+                    .toList());
+        }
+        return indexes;
+    }
+    
+    /**
+     * 실행되는 SQL을 기록하는 Hibernate StatementInspector
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+        
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+        
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+        
+        static List<String> statements() {
+            return List.copyOf(STATEMENTS);
+        }
+        
+        static void clear() {
+            STATEMENTS.clear();
+        }
+    }
+}
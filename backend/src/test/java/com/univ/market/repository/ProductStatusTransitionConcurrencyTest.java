@@ -0,0 +1,120 @@
+package com.univ.market.repository;
+
+import com.univ.market.domain.Category;
+import com.univ.market.domain.Product;
+import com.univ.market.domain.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 하나의 상품에 예약 요청이 동시에 몰릴 때 조건부 UPDATE로 한 명만 예약에 성공하는지 검증하는 테스트
+ * 각 스레드가 별도 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션은 사용하지 않습니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductStatusTransitionConcurrencyTest {
+    
+    private static final int BUYER_COUNT = 16;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private CategoryRepository categoryRepository;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+    
+    @Test
+    void onlyOneConcurrentReservationSucceeds() throws Exception {
+        Category category = categoryRepository.save(Category.builder().name("전자기기").build());
+        User seller = userRepository.save(User.builder().email("seller@snu.ac.kr").nickname("seller").build());
+        Product product = productRepository.save(Product.builder()
+                .title("노트북")
+                .description("상태 좋은 노트북입니다")
+                .price(500000)
+                .status(Product.ProductStatus.WAITING)
+                .seller(seller)
+                .category(category)
+                .build());
+        
+        List<Long> buyerIds = new ArrayList<>();
+        for (int i = 0; i < BUYER_COUNT; i++) {
+            buyerIds.add(userRepository.save(User.builder()
+                    .email("buyer" + i + "@snu.ac.kr")
+                    .nickname("buyer" + i)
+                    .build()).getId());
+        }
+        
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch startGate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(BUYER_COUNT);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (Long buyerId : buyerIds) {
+                results.add(executor.submit(() -> {
+                    startGate.await();
+                    try {
+                        return transactionTemplate.execute(status -> productRepository.reserveIfWaiting(
+                                product.getId(), userRepository.getReferenceById(buyerId), LocalDateTime.now()));
+                    } catch (RuntimeException e) {
+                        // DB가 잠금 경합을 예외로 처리하는 경우도 예약 실패로 간주
+                        return 0;
+                    }
+                }));
+            }
+            startGate.countDown();
+            
+            int reserved = 0;
+            for (Future<Integer> result : results) {
+                reserved += result.get(30, TimeUnit.SECONDS);
+            }
+            assertThat(reserved).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        Product reservedProduct = transactionTemplate.execute(status ->
+                productRepository.findDetailById(product.getId()).orElseThrow());
+        assertThat(reservedProduct.getStatus()).isEqualTo(Product.ProductStatus.RESERVED);
+        assertThat(buyerIds).contains(reservedProduct.getBuyer().getId());
+        
+        // 예약 이후의 재예약은 반영되지 않고, 거래 완료는 한 번만 성공
+        int reReserved = transactionTemplate.execute(status -> productRepository.reserveIfWaiting(
+                product.getId(), userRepository.getReferenceById(buyerIds.get(0)), LocalDateTime.now()));
+        assertThat(reReserved).isZero();
+        assertThat(transactionTemplate.execute(status ->
+                productRepository.completeIfReserved(product.getId(), LocalDateTime.now()))).isEqualTo(1);
+        assertThat(transactionTemplate.execute(status ->
+                productRepository.completeIfReserved(product.getId(), LocalDateTime.now()))).isZero();
+    }
+}
@@ -0,0 +1,111 @@
+package com.univ.market.repository;
+
+import com.univ.market.domain.Category;
+import com.univ.market.domain.Product;
+import com.univ.market.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대학교별 피드가 비정규화된 university 컬럼으로 해당 대학교의 상품만 최신순으로 조회하고,
+ * 컬럼이 추가되기 전에 등록된 상품도 보정 후 피드에 포함되는지 확인하는 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class ProductUniversityFeedTest {
+    
+    private static final String SNU = "서울대학교";
+    
+    private static final String YONSEI = "연세대학교";
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    private Category category;
+    
+    private User snuSeller;
+    
+    private User yonseiSeller;
+    
+    @BeforeEach
+    void setUp() {
+        category = entityManager.persist(Category.builder().name("전자기기").build());
+        snuSeller = entityManager.persist(User.builder()
+                .email("seller@snu.ac.kr").nickname("snu").universityName(SNU).build());
+        yonseiSeller = entityManager.persist(User.builder()
+                .email("seller@yonsei.ac.kr").nickname("yonsei").universityName(YONSEI).build());
+    }
+    
+    @Test
+    void feedReturnsOnlyProductsOfUniversityAndStatusNewestFirst() {
+        Product first = persist("노트북", snuSeller, SNU, Product.ProductStatus.WAITING);
+        Product second = persist("모니터", snuSeller, SNU, Product.ProductStatus.WAITING);
+        Product third = persist("키보드", snuSeller, SNU, Product.ProductStatus.WAITING);
+        persist("마우스", snuSeller, SNU, Product.ProductStatus.COMPLETED);
+        persist("태블릿", yonseiSeller, YONSEI, Product.ProductStatus.WAITING);
+        refresh();
+        
+        Slice<Product> page = productRepository.findUniversityFeed(SNU, Product.ProductStatus.WAITING, PageRequest.of(0, 2));
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.hasNext()).isTrue();
+        
+        Slice<Product> all = productRepository.findUniversityFeed(SNU, Product.ProductStatus.WAITING, PageRequest.of(0, 10));
+        assertThat(all.getContent()).extracting(Product::getId)
+                .containsExactlyInAnyOrder(first.getId(), second.getId(), third.getId());
+        assertThat(all.getContent()).extracting(Product::getCreatedAt)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(all.hasNext()).isFalse();
+    }
+    
+    @Test
+    void backfillFillsUniversityOfExistingProductsOnce() {
+        Product legacy = persist("노트북", snuSeller, null, Product.ProductStatus.WAITING);
+        User unverified = entityManager.persist(User.builder().email("seller@gmail.com").nickname("guest").build());
+        Product unverifiedProduct = persist("모니터", unverified, null, Product.ProductStatus.WAITING);
+        refresh();
+        
+        assertThat(productRepository.findUniversityFeed(SNU, Product.ProductStatus.WAITING, PageRequest.of(0, 10)))
+                .isEmpty();
+        
+        assertThat(productRepository.backfillUniversity()).isEqualTo(1);
+        refresh();
+        
+        assertThat(productRepository.findUniversityFeed(SNU, Product.ProductStatus.WAITING, PageRequest.of(0, 10)))
+                .extracting(Product::getId)
+                .containsExactly(legacy.getId());
+        assertThat(productRepository.findById(unverifiedProduct.getId()).orElseThrow().getUniversity()).isNull();
+        
+        // 이미 채워진 뒤에는 변경 없음
+        assertThat(productRepository.backfillUniversity()).isZero();
+    }
+    
+    private Product persist(String title, User seller, String university, Product.ProductStatus status) {
+        return entityManager.persist(Product.builder()
+                .title(title)
+                .description("상태 좋은 " + title + "입니다")
+                .price(10000)
+                .status(status)
+                .category(category)
+                .seller(seller)
+                .university(university)
+                .build());
+    }
+    
+    private void refresh() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
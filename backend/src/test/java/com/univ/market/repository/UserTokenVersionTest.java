@@ -0,0 +1,49 @@
+package com.univ.market.repository;
+
+import com.univ.market.domain.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔티티를 조회한 뒤 다른 요청(로그아웃 등)이 토큰 버전을 올려도,
+ * 조회해 둔 엔티티를 저장할 때 토큰 버전이 되돌아가지 않는지 확인하는 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class UserTokenVersionTest {
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Test
+    void savingStaleEntityKeepsConcurrentlyIncrementedTokenVersion() {
+        Long userId = entityManager.persistAndFlush(User.builder()
+                .email("student@snu.ac.kr").nickname("student").build()).getId();
+        entityManager.clear();
+        
+        User user = userRepository.findById(userId).orElseThrow();
+        
+        // 엔티티를 조회한 뒤 다른 요청이 토큰 버전을 올림
+        userRepository.incrementTokenVersion(userId, LocalDateTime.now());
+        
+        // 조회해 둔 엔티티를 변경해 저장 (엔티티의 토큰 버전 값은 저장되지 않음)
+        user.setUniversityName("서울대학교");
+        user.setTokenVersion(7);
+        userRepository.save(user);
+        entityManager.flush();
+        entityManager.clear();
+        
+        assertThat(userRepository.findTokenVersionById(userId)).contains(1);
+        assertThat(userRepository.findById(userId).orElseThrow().getUniversityName()).isEqualTo("서울대학교");
+    }
+}
@@ -0,0 +1,79 @@
+package com.univ.market.search;
+
+import com.univ.market.repository.projection.ProductSearchView;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 색인 재구축 중에 들어온 등록·삭제가 새 색인에 다시 적용되고,
+ * 최신순 검색이 (생성 일시, ID) 커서 이후 구간을 반환하는지 확인하는 테스트
+ */
+class ProductSearchIndexTest {
+    
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 3, 1, 12, 0);
+    
+    @Test
+    void changesDuringRebuildAreReplayedOntoNewIndex() {
+        ProductSearchIndex index = new ProductSearchIndex();
+        
+        // 스트림이 상품 1, 2를 읽는 도중 상품 1이 삭제되고 상품 3이 등록됨
+        int indexed = index.rebuild(() -> Stream.of(document(1L, "노트북"), document(2L, "노트북 가방"))
+                .peek(document -> {
+                    if (document.getId() == 1L) {
+                        index.remove(1L);
+                        index.index(3L, "게이밍 노트북", "", BASE_TIME);
+                    }
+                }));
+        
+        assertThat(indexed).isEqualTo(2);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("노트북", 0, 10).getProductIds()).containsExactlyInAnyOrder(2L, 3L);
+        
+        // 재구축이 끝난 뒤의 변경은 바로 반영
+        index.remove(2L);
+        assertThat(index.search("노트북", 0, 10).getProductIds()).containsExactly(3L);
+    }
+    
+    @Test
+    void latestSearchReturnsMatchesAfterCursorInCreationOrder() {
+        ProductSearchIndex index = new ProductSearchIndex();
+        // 상품 2, 3은 같은 시각에 일괄 등록됨
+        index.index(1L, "노트북", "", BASE_TIME);
+        index.index(2L, "노트북 가방", "", BASE_TIME.plusMinutes(1));
+        index.index(3L, "게이밍 노트북", "", BASE_TIME.plusMinutes(1));
+        index.index(4L, "태블릿", "", BASE_TIME.plusMinutes(2));
+        index.index(5L, "노트북 거치대", "", BASE_TIME.plusMinutes(3));
+        
+        assertThat(index.searchLatest("노트북", null, null, 2)).containsExactly(5L, 3L);
+        assertThat(index.searchLatest("노트북", BASE_TIME.plusMinutes(1), 3L, 2)).containsExactly(2L, 1L);
+        assertThat(index.searchLatest("노트북", BASE_TIME, 1L, 2)).isEmpty();
+    }
+    
+    private static ProductSearchView document(Long id, String title) {
+        return new ProductSearchView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+            
+            @Override
+            public String getTitle() {
+                return title;
+            }
+            
+            @Override
+            public String getDescription() {
+                return "";
+            }
+            
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return BASE_TIME.plusMinutes(id);
+            }
+        };
+    }
+}
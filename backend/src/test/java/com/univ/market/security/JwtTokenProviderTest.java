@@ -0,0 +1,98 @@
+package com.univ.market.security;
+
+import com.univ.market.domain.User;
+import com.univ.market.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 토큰 검증이 사용자 조회 없이 클레임만으로 이루어지고, 검증된 토큰은 캐시되며,
+ * 토큰 버전이 올라간(로그아웃한) 토큰은 캐시에 있어도 거부되는지 확인하는 테스트
+ */
+class JwtTokenProviderTest {
+    
+    private final UserRepository userRepository = mock(UserRepository.class);
+    
+    private TokenVersionRegistry tokenVersionRegistry;
+    
+    private JwtTokenProvider jwtTokenProvider;
+    
+    @BeforeEach
+    void setUp() {
+        tokenVersionRegistry = new TokenVersionRegistry(userRepository, 3600);
+        jwtTokenProvider = newProvider(3600);
+    }
+    
+    @Test
+    void claimsAreReadFromTokenWithoutUserLookup() {
+        String token = jwtTokenProvider.createToken(user(42L, 0, true));
+        
+        Authentication first = jwtTokenProvider.authenticate(token);
+        Authentication second = jwtTokenProvider.authenticate(token);
+        
+        assertThat(first.getPrincipal()).isEqualTo(42L);
+        assertThat(first.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly(TokenClaims.VERIFIED_AUTHORITY);
+        TokenClaims claims = (TokenClaims) first.getDetails();
+        assertThat(claims.getUniversityName()).isEqualTo("서울대학교");
+        assertThat(claims.getTokenVersion()).isZero();
+        assertThat(second).isSameAs(first);
+        verifyNoInteractions(userRepository);
+    }
+    
+    @Test
+    void revokedTokenIsRejectedEvenWhenCached() {
+        String oldToken = jwtTokenProvider.createToken(user(42L, 0, false));
+        assertThat(jwtTokenProvider.authenticate(oldToken)).isNotNull();
+        
+        // 로그아웃 (토큰 버전 0 → 1)
+        tokenVersionRegistry.advance(42L, 1);
+        
+        assertThat(jwtTokenProvider.authenticate(oldToken)).isNull();
+        assertThat(jwtTokenProvider.authenticate(jwtTokenProvider.createToken(user(42L, 1, false)))).isNotNull();
+        // 다른 사용자의 토큰에는 영향 없음
+        assertThat(jwtTokenProvider.authenticate(jwtTokenProvider.createToken(user(7L, 0, false)))).isNotNull();
+    }
+    
+    @Test
+    void tamperedTokenIsRejected() {
+        String token = jwtTokenProvider.createToken(user(42L, 0, false));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        
+        assertThat(jwtTokenProvider.authenticate(tampered)).isNull();
+        assertThat(jwtTokenProvider.authenticate("not-a-token")).isNull();
+    }
+    
+    @Test
+    void expiredTokenIsRejected() {
+        JwtTokenProvider expiring = newProvider(-1);
+        
+        assertThat(expiring.authenticate(expiring.createToken(user(42L, 0, false)))).isNull();
+    }
+    
+    private JwtTokenProvider newProvider(long tokenValidityInSeconds) {
+        JwtTokenProvider provider = new JwtTokenProvider(tokenVersionRegistry);
+        ReflectionTestUtils.setField(provider, "secretKey", "test-secret-key-for-jwt-token-provider-0123456789");
+        ReflectionTestUtils.setField(provider, "tokenValidityInSeconds", tokenValidityInSeconds);
+        ReflectionTestUtils.setField(provider, "authenticationCacheMaximumSize", 100L);
+        ReflectionTestUtils.setField(provider, "authenticationCacheMaxTtlSeconds", 600L);
+        provider.init();
+        return provider;
+    }
+    
+    private static User user(Long id, int tokenVersion, boolean verified) {
+        return User.builder()
+                .id(id)
+                .isVerified(verified)
+                .universityName(verified ? "서울대학교" : null)
+                .tokenVersion(tokenVersion)
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.univ.market.security;
+
+import com.univ.market.repository.UserRepository;
+import com.univ.market.repository.projection.UserTokenVersionView;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 시작 시 적재한 토큰 버전과 주기적으로 조회한 변경분이 토큰 유효성 판단에 반영되고,
+ * 토큰 유효 시간이 지난 변경은 제거되는지 확인하는 테스트
+ */
+class TokenVersionRegistryTest {
+    
+    private static final long TOKEN_VALIDITY_SECONDS = 3600;
+    
+    private final UserRepository userRepository = mock(UserRepository.class);
+    
+    private final TokenVersionRegistry registry = new TokenVersionRegistry(userRepository, TOKEN_VALIDITY_SECONDS);
+    
+    @Test
+    void loadedAndRefreshedVersionsRevokeOlderTokens() {
+        when(userRepository.findTokenVersionsUpdatedSince(any(LocalDateTime.class)))
+                .thenReturn(List.of(version(1L, 2, LocalDateTime.now())));
+        registry.start();
+        
+        assertThat(registry.isCurrent(1L, 1)).isFalse();
+        assertThat(registry.isCurrent(1L, 2)).isTrue();
+        // 버전이 바뀐 적 없는 사용자는 0
+        assertThat(registry.isCurrent(2L, 0)).isTrue();
+        
+        // 다른 서버에서 사용자 2가 로그아웃
+        when(userRepository.findTokenVersionsUpdatedSince(any(LocalDateTime.class)))
+                .thenReturn(List.of(version(2L, 1, LocalDateTime.now())));
+        registry.refresh();
+        
+        assertThat(registry.isCurrent(2L, 0)).isFalse();
+        assertThat(registry.isCurrent(2L, 1)).isTrue();
+        
+        // 이미 반영된 변경분을 다시 읽거나 더 낮은 버전을 읽어도 되돌아가지 않음
+        when(userRepository.findTokenVersionsUpdatedSince(any(LocalDateTime.class)))
+                .thenReturn(List.of(version(1L, 1, LocalDateTime.now())));
+        registry.refresh();
+        
+        assertThat(registry.isCurrent(1L, 1)).isFalse();
+    }
+    
+    @Test
+    void versionsOlderThanTokenValidityArePruned() {
+        LocalDateTime now = LocalDateTime.now();
+        when(userRepository.findTokenVersionsUpdatedSince(any(LocalDateTime.class))).thenReturn(List.of(
+                version(1L, 1, now.minusSeconds(TOKEN_VALIDITY_SECONDS * 2)),
+                version(2L, 1, now.minusSeconds(60))));
+        registry.start();
+        assertThat(registry.size()).isEqualTo(2);
+        
+        when(userRepository.findTokenVersionsUpdatedSince(any(LocalDateTime.class))).thenReturn(List.of());
+        registry.refresh();
+        
+        // 사용자 1의 이전 토큰은 모두 만료되었으므로 더 보관하지 않음
+        assertThat(registry.size()).isEqualTo(1);
+        assertThat(registry.isCurrent(1L, 0)).isTrue();
+        assertThat(registry.isCurrent(2L, 0)).isFalse();
+    }
+    
+    private static UserTokenVersionView version(Long id, int tokenVersion, LocalDateTime updatedAt) {
+        return new UserTokenVersionView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+            
+            @Override
+            public int getTokenVersion() {
+                return tokenVersion;
+            }
+            
+            @Override
+            public LocalDateTime getTokenVersionUpdatedAt() {
+                return updatedAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.univ.market.service;
+
+import com.univ.market.domain.Category;
+import com.univ.market.repository.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 다른 서버에서 등록한 카테고리(DB에 직접 저장한 카테고리)가 스냅샷 만료 후 다시 읽혀 반영되는지 확인하는 테스트
+ */
+@DataJpaTest(properties = "category.snapshot.refresh-interval-seconds=0")
+@ActiveProfiles("test")
+@Import(CategoryService.class)
+class CategorySnapshotRefreshTest {
+    
+    @Autowired
+    private CategoryService categoryService;
+    
+    @Autowired
+    private CategoryRepository categoryRepository;
+    
+    @Test
+    void expiredSnapshotIsReloadedFromDatabase() {
+        categoryRepository.save(Category.builder().name("전자기기").build());
+        CategorySnapshot first = categoryService.getSnapshot();
+        
+        Category added = categoryRepository.save(Category.builder().name("도서").build());
+        CategorySnapshot second = categoryService.getSnapshot();
+        
+        assertThat(first.contains(added.getId())).isFalse();
+        assertThat(second.contains(added.getId())).isTrue();
+        assertThat(second.getVersion()).isGreaterThan(first.getVersion());
+        assertThat(second.getEtag()).isNotEqualTo(first.getEtag());
+    }
+}
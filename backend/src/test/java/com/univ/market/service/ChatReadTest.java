@@ -0,0 +1,100 @@
+package com.univ.market.service;
+
+import com.univ.market.chat.ChatRoomMembership;
+import com.univ.market.domain.Category;
+import com.univ.market.domain.ChatRoom;
+import com.univ.market.domain.Product;
+import com.univ.market.domain.User;
+import com.univ.market.repository.CategoryRepository;
+import com.univ.market.repository.ChatRoomRepository;
+import com.univ.market.repository.ProductRepository;
+import com.univ.market.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽음 처리가 읽음 위치를 마지막 메시지로 제한하고, 일부만 읽은 경우 안 읽은 메시지 수를 다시 계산하는지 확인하는 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ChatService.class)
+class ChatReadTest {
+    
+    @Autowired
+    private ChatService chatService;
+    
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private CategoryRepository categoryRepository;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Test
+    void partialReadKeepsRemainingUnreadAndCursorNeverPassesLastMessage() {
+        Category category = categoryRepository.save(Category.builder().name("전자기기").build());
+        User seller = userRepository.save(User.builder().email("seller@snu.ac.kr").nickname("seller").build());
+        User buyer = userRepository.save(User.builder().email("buyer@snu.ac.kr").nickname("buyer").build());
+        Product product = productRepository.save(Product.builder()
+                .title("노트북")
+                .description("상태 좋은 노트북입니다")
+                .price(500000)
+                .status(Product.ProductStatus.WAITING)
+                .seller(seller)
+                .category(category)
+                .build());
+        Long roomId = chatService.createChatRoom(product.getId(), buyer.getId()).getId();
+        ChatRoomMembership sellerInRoom = new ChatRoomMembership(roomId, seller.getId(), "seller", false, buyer.getId());
+        
+        Long first = chatService.sendMessage(sellerInRoom, "1").getId();
+        chatService.sendMessage(sellerInRoom, "2");
+        Long last = chatService.sendMessage(sellerInRoom, "3").getId();
+        refresh();
+        
+        // 첫 메시지만 읽으면 나머지 2개는 안 읽은 상태로 남음
+        assertThat(chatService.markAsRead(roomId, buyer.getId(), first).getLastReadMessageId()).isEqualTo(first);
+        refresh();
+        assertThat(room(roomId).getUnreadCountFor(buyer.getId())).isEqualTo(2);
+        assertThat(userRepository.findById(buyer.getId()).orElseThrow().getUnreadMessageCount()).isEqualTo(2);
+        
+        // 존재하지 않는 메시지 ID는 마지막 메시지로 제한
+        assertThat(chatService.markAsRead(roomId, buyer.getId(), last + 1000).getLastReadMessageId()).isEqualTo(last);
+        refresh();
+        assertThat(room(roomId).getLastReadMessageIdFor(buyer.getId())).isEqualTo(last);
+        assertThat(room(roomId).getUnreadCountFor(buyer.getId())).isZero();
+        assertThat(userRepository.findById(buyer.getId()).orElseThrow().getUnreadMessageCount()).isZero();
+        
+        // 이전 위치로는 되돌아가지 않음
+        assertThat(chatService.markAsRead(roomId, buyer.getId(), first).getLastReadMessageId()).isEqualTo(last);
+        refresh();
+        assertThat(room(roomId).getUnreadCountFor(buyer.getId())).isZero();
+        
+        // 새 메시지는 제한된 읽음 위치 이후로 계산됨
+        chatService.sendMessage(sellerInRoom, "4");
+        refresh();
+        assertThat(room(roomId).getUnreadCountFor(buyer.getId())).isEqualTo(1);
+    }
+    
+    private void refresh() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+    
+    private ChatRoom room(Long roomId) {
+        return chatRoomRepository.findById(roomId).orElseThrow();
+    }
+}
@@ -0,0 +1,118 @@
+package com.univ.market.service;
+
+import com.univ.market.domain.Category;
+import com.univ.market.domain.Product;
+import com.univ.market.domain.User;
+import com.univ.market.dto.response.ChatRoomResponse;
+import com.univ.market.repository.CategoryRepository;
+import com.univ.market.repository.ChatRoomRepository;
+import com.univ.market.repository.ProductRepository;
+import com.univ.market.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 상품, 구매자로 채팅방 생성 요청이 동시에 들어올 때 채팅방이 하나만 만들어지는지 검증하는 테스트
+ * 각 요청이 별도 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션은 사용하지 않습니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ChatService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChatRoomCreateConcurrencyTest {
+    
+    private static final int REQUEST_COUNT = 16;
+    
+    @Autowired
+    private ChatService chatService;
+    
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private CategoryRepository categoryRepository;
+    
+    @AfterEach
+    void tearDown() {
+        chatRoomRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+    
+    @Test
+    void concurrentCreateRequestsResultInOneRoom() throws Exception {
+        Category category = categoryRepository.save(Category.builder().name("전자기기").build());
+        User seller = userRepository.save(User.builder().email("seller@snu.ac.kr").nickname("seller").build());
+        User buyer = userRepository.save(User.builder().email("buyer@snu.ac.kr").nickname("buyer").build());
+        Product product = productRepository.save(Product.builder()
+                .title("노트북")
+                .description("상태 좋은 노트북입니다")
+                .price(500000)
+                .status(Product.ProductStatus.WAITING)
+                .seller(seller)
+                .category(category)
+                .build());
+        
+        CountDownLatch startGate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(REQUEST_COUNT);
+        List<Future<ChatRoomResponse>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                results.add(executor.submit(() -> {
+                    startGate.await();
+                    return chatService.createChatRoom(product.getId(), buyer.getId());
+                }));
+            }
+            startGate.countDown();
+            
+            List<Long> roomIds = new ArrayList<>();
+            for (Future<ChatRoomResponse> result : results) {
+                roomIds.add(result.get(30, TimeUnit.SECONDS).getId());
+            }
+            assertThat(roomIds).containsOnly(roomIds.get(0));
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        assertThat(chatRoomRepository.count()).isEqualTo(1);
+        
+        // 생성된 채팅방에는 판매자가 비정규화되어 있고 메시지 순번은 0부터 시작하며, 다시 요청하면 같은 채팅방을 반환
+        ChatRoomResponse again = chatService.createChatRoom(product.getId(), buyer.getId());
+        assertThat(again.getSellerId()).isEqualTo(seller.getId());
+        assertThat(chatRoomRepository.findLastMessageSequenceById(again.getId())).contains(0L);
+        assertThat(chatRoomRepository.count()).isEqualTo(1);
+    }
+    
+    @Test
+    void unknownProductIsRejected() {
+        User buyer = userRepository.save(User.builder().email("buyer@snu.ac.kr").nickname("buyer").build());
+        
+        assertThatThrownBy(() -> chatService.createChatRoom(Long.MAX_VALUE, buyer.getId()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("상품을 찾을 수 없습니다.");
+    }
+}
@@ -0,0 +1,109 @@
+package com.univ.market.service;
+
+import com.univ.market.chat.ChatRoomMembership;
+import com.univ.market.domain.Category;
+import com.univ.market.domain.Product;
+import com.univ.market.domain.User;
+import com.univ.market.dto.response.ChatMessageResponse;
+import com.univ.market.dto.response.ChatSyncResponse;
+import com.univ.market.repository.CategoryRepository;
+import com.univ.market.repository.ProductRepository;
+import com.univ.market.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재연결 동기화가 채팅방별 메시지 순번을 기준으로 요청한 채팅방의 메시지만 반환하는지 확인하는 테스트
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ChatService.class)
+class ChatSyncTest {
+    
+    @Autowired
+    private ChatService chatService;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private CategoryRepository categoryRepository;
+    
+    private User seller;
+    
+    private User buyer;
+    
+    private User otherBuyer;
+    
+    private Product product;
+    
+    @BeforeEach
+    void setUp() {
+        Category category = categoryRepository.save(Category.builder().name("전자기기").build());
+        seller = userRepository.save(User.builder().email("seller@snu.ac.kr").nickname("seller").build());
+        buyer = userRepository.save(User.builder().email("buyer@snu.ac.kr").nickname("buyer").build());
+        otherBuyer = userRepository.save(User.builder().email("other@snu.ac.kr").nickname("other").build());
+        product = productRepository.save(Product.builder()
+                .title("노트북")
+                .description("상태 좋은 노트북입니다")
+                .price(500000)
+                .status(Product.ProductStatus.WAITING)
+                .seller(seller)
+                .category(category)
+                .build());
+    }
+    
+    @Test
+    void syncReturnsMessagesAfterEachRoomsSequence() {
+        Long roomA = chatService.createChatRoom(product.getId(), buyer.getId()).getId();
+        Long roomB = chatService.createChatRoom(product.getId(), otherBuyer.getId()).getId();
+        ChatRoomMembership sellerInA = new ChatRoomMembership(roomA, seller.getId(), "seller", false, buyer.getId());
+        ChatRoomMembership sellerInB = new ChatRoomMembership(roomB, seller.getId(), "seller", false, otherBuyer.getId());
+        
+        chatService.sendMessage(sellerInA, "A1");
+        chatService.sendMessage(sellerInB, "B1");
+        chatService.sendMessage(sellerInA, "A2");
+        chatService.sendMessage(sellerInB, "B2");
+        chatService.sendMessage(sellerInA, "A3");
+        
+        // 방 A는 1번까지, 방 B는 아무것도 받지 못한 상태
+        ChatSyncResponse response = chatService.syncMessages(seller.getId(), Map.of(roomA, 1L, roomB, 0L), 200);
+        
+        assertThat(response.getMessages())
+                .extracting(ChatMessageResponse::getContent)
+                .containsExactly("A2", "A3", "B1", "B2");
+        assertThat(response.getLastSequences()).containsEntry(roomA, 3L).containsEntry(roomB, 2L);
+        assertThat(response.getResyncRoomIds()).isEmpty();
+        
+        // 요청하지 않은 채팅방과 참여하지 않은 채팅방은 제외
+        ChatSyncResponse onlyA = chatService.syncMessages(buyer.getId(), Map.of(roomA, 3L, roomB, 0L), 200);
+        assertThat(onlyA.getMessages()).isEmpty();
+        assertThat(onlyA.getLastSequences()).containsOnlyKeys(roomA).containsEntry(roomA, 3L);
+    }
+    
+    @Test
+    void roomWithTooManyMissedMessagesRequiresResync() {
+        Long roomA = chatService.createChatRoom(product.getId(), buyer.getId()).getId();
+        ChatRoomMembership sellerInA = new ChatRoomMembership(roomA, seller.getId(), "seller", false, buyer.getId());
+        for (int i = 0; i < 3; i++) {
+            chatService.sendMessage(sellerInA, "message " + i);
+        }
+        
+        ChatSyncResponse response = chatService.syncMessages(buyer.getId(), Map.of(roomA, 0L), 2);
+        
+        assertThat(response.getMessages()).isEmpty();
+        assertThat(response.getResyncRoomIds()).containsExactly(roomA);
+        assertThat(response.getLastSequences()).containsEntry(roomA, 0L);
+    }
+}
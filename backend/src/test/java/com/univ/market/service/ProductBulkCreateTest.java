@@ -0,0 +1,111 @@
+package com.univ.market.service;
+
+import com.univ.market.domain.Category;
+import com.univ.market.domain.User;
+import com.univ.market.dto.request.ProductRequest;
+import com.univ.market.repository.ProductBulkInsertRepository;
+import com.univ.market.search.ProductSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상품 일괄 등록(JDBC 배치)이 상품과 이미지를 요청 순서대로 모두 저장하는지 확인하는 테스트
+ * 건별 등록과의 소요 시간 비교는 ProductBulkCreateBenchmark(src/jmh)에서 합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ProductService.class, ProductResponseAssembler.class, ProductSearchIndex.class, CategoryService.class,
+        ProductBulkInsertRepository.class})
+class ProductBulkCreateTest {
+    
+    private static final int PRODUCT_COUNT = 100;
+    
+    private static final int IMAGES_PER_PRODUCT = 3;
+    
+    @Autowired
+    private ProductService productService;
+    
+    @Autowired
+    private CategoryService categoryService;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @MockitoBean
+    private EmailService emailService;
+    
+    private Long sellerId;
+    
+    private List<ProductRequest> requests;
+    
+    @BeforeEach
+    void setUp() {
+        Category category = entityManager.persist(Category.builder().name("도서").build());
+        sellerId = entityManager.persist(User.builder()
+                .email("club@snu.ac.kr")
+                .nickname("club")
+                .universityName("서울대학교")
+                .build()).getId();
+        entityManager.flush();
+        categoryService.reloadSnapshot();
+        
+        requests = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            ProductRequest request = new ProductRequest();
+            request.setTitle("전공 서적 " + i);
+            request.setDescription("졸업 정리 도서입니다");
+            request.setPrice(5000 + i);
+            request.setCategoryId(category.getId());
+            List<String> imageUrls = new ArrayList<>();
+            for (int j = 0; j < IMAGES_PER_PRODUCT; j++) {
+                imageUrls.add("https://img/" + i + "/" + j + ".jpg");
+            }
+            request.setImageUrls(imageUrls);
+            requests.add(request);
+        }
+    }
+    
+    @Test
+    void bulkCreateStoresProductsAndImagesInRequestOrder() {
+        List<Long> ids = productService.createProducts(requests, sellerId);
+        
+        assertThat(ids).hasSize(PRODUCT_COUNT).doesNotHaveDuplicates().isSorted();
+        
+        List<String> titles = jdbcTemplate.queryForList(
+                "SELECT title FROM products WHERE university = '서울대학교' ORDER BY id", String.class);
+        assertThat(titles).containsExactlyElementsOf(requests.stream().map(ProductRequest::getTitle).toList());
+        
+        Integer imageCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM images WHERE product_id = ?", Integer.class, ids.get(1));
+        assertThat(imageCount).isEqualTo(IMAGES_PER_PRODUCT);
+        Integer totalImageCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM images", Integer.class);
+        assertThat(totalImageCount).isEqualTo(PRODUCT_COUNT * IMAGES_PER_PRODUCT);
+    }
+    
+    @Test
+    void emptyOrOversizedRequestIsRejected() {
+        assertThatThrownBy(() -> productService.createProducts(List.of(), sellerId))
+                .isInstanceOf(IllegalArgumentException.class);
+        
+        List<ProductRequest> oversized = new ArrayList<>(requests);
+        oversized.add(requests.get(0));
+        assertThatThrownBy(() -> productService.createProducts(oversized, sellerId))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
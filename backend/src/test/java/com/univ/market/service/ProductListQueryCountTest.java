@@ -0,0 +1,129 @@
+package com.univ.market.service;
+
+import com.univ.market.domain.Category;
+import com.univ.market.domain.Image;
+import com.univ.market.domain.Product;
+import com.univ.market.domain.User;
+import com.univ.market.dto.response.ProductResponse;
+import com.univ.market.repository.ProductBulkInsertRepository;
+import com.univ.market.search.ProductSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 목록 조회의 SQL 실행 횟수를 검증하는 테스트
+ * 목록 페이지 하나는 페이지 조회, 카운트, 이미지 일괄 조회를 합쳐 고정된 횟수 안에서 끝나야 합니다.
+ * 검색은 색인에서 ID를 찾으므로 상품 조회와 이미지 일괄 조회만 실행됩니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ProductService.class, ProductResponseAssembler.class, ProductSearchIndex.class, CategoryService.class,
+        ProductBulkInsertRepository.class})
+class ProductListQueryCountTest {
+    
+    /**
+     * 목록 페이지 하나에 허용되는 SQL 실행 횟수 (페이지 조회 + 카운트 + 이미지 일괄 조회)
+     */
+    private static final long LIST_PAGE_STATEMENT_BUDGET = 3;
+    
+    private static final int PRODUCT_COUNT = 25;
+    
+    @Autowired
+    private ProductService productService;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+    
+    @Autowired
+    private CategoryService categoryService;
+    
+    @MockitoBean
+    private EmailService emailService;
+    
+    private Category category;
+    
+    @BeforeEach
+    void setUp() {
+        category = entityManager.persist(Category.builder().name("전자기기").build());
+        
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            User seller = entityManager.persist(User.builder()
+                    .email("seller" + i + "@snu.ac.kr")
+                    .nickname("seller" + i)
+                    .build());
+            
+            Product product = Product.builder()
+                    .title("노트북 " + i)
+                    .description("상태 좋은 노트북입니다")
+                    .price(10000 * (i + 1))
+                    .status(Product.ProductStatus.WAITING)
+                    .category(category)
+                    .seller(seller)
+                    .images(new ArrayList<>())
+                    .build();
+            product.getImages().add(Image.builder().imageUrl("https://img/" + i + "/1.jpg").product(product).build());
+            product.getImages().add(Image.builder().imageUrl("https://img/" + i + "/2.jpg").product(product).build());
+            entityManager.persist(product);
+            productSearchIndex.index(product.getId(), product.getTitle(), product.getDescription(),
+                    product.getCreatedAt());
+        }
+        
+        entityManager.flush();
+        entityManager.clear();
+        categoryService.reloadSnapshot();
+    }
+    
+    @Test
+    void allProductsPageStaysWithinStatementBudget() {
+        assertWithinBudget(() -> productService.getAllProducts(PageRequest.of(0, 20)));
+    }
+    
+    @Test
+    void categoryPageStaysWithinStatementBudget() {
+        assertWithinBudget(() -> productService.getProductsByCategory(category.getId(), PageRequest.of(0, 20)));
+    }
+    
+    @Test
+    void searchPageStaysWithinStatementBudget() {
+        assertWithinBudget(() -> productService.searchProducts("노트북", PageRequest.of(0, 20)));
+    }
+    
+    private void assertWithinBudget(Supplier<Page<ProductResponse>> listCall) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        Page<ProductResponse> page = listCall.get();
+        List<ProductResponse> content = page.getContent();
+        
+        assertThat(content).hasSize(20);
+        assertThat(content).allSatisfy(response -> {
+            assertThat(response.getImageUrls()).hasSize(2);
+            assertThat(response.getSellerNickname()).isNotNull();
+            assertThat(response.getCategoryName()).isEqualTo("전자기기");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(LIST_PAGE_STATEMENT_BUDGET);
+    }
+}
@@ -0,0 +1,137 @@
+package com.univ.market.service;
+
+import com.univ.market.domain.Category;
+import com.univ.market.domain.Product;
+import com.univ.market.domain.User;
+import com.univ.market.dto.response.ProductResponse;
+import com.univ.market.exception.ConflictException;
+import com.univ.market.repository.CategoryRepository;
+import com.univ.market.repository.ProductBulkInsertRepository;
+import com.univ.market.repository.ProductRepository;
+import com.univ.market.repository.UserRepository;
+import com.univ.market.search.ProductSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 하나의 상품에 예약 요청이 동시에 몰릴 때 서비스 계층에서 한 명만 예약에 성공하고
+ * 나머지는 충돌(409)로 응답하는지, 없는 구매자는 잘못된 요청(400)으로 거절되는지 검증하는 테스트
+ * 각 요청이 별도 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션은 사용하지 않습니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ProductService.class, ProductResponseAssembler.class, ProductSearchIndex.class, CategoryService.class,
+        ProductBulkInsertRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductReserveConcurrencyTest {
+    
+    private static final int BUYER_COUNT = 16;
+    
+    @Autowired
+    private ProductService productService;
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private CategoryRepository categoryRepository;
+    
+    @MockitoBean
+    private EmailService emailService;
+    
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+    
+    @Test
+    void onlyOneConcurrentReservationSucceedsAndOthersConflict() throws Exception {
+        Product product = saveWaitingProduct();
+        
+        List<Long> buyerIds = new ArrayList<>();
+        for (int i = 0; i < BUYER_COUNT; i++) {
+            buyerIds.add(userRepository.save(User.builder()
+                    .email("buyer" + i + "@snu.ac.kr")
+                    .nickname("buyer" + i)
+                    .build()).getId());
+        }
+        
+        CountDownLatch startGate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(BUYER_COUNT);
+        List<Future<ProductResponse>> results = new ArrayList<>();
+        try {
+            for (Long buyerId : buyerIds) {
+                results.add(executor.submit(() -> {
+                    startGate.await();
+                    return productService.reserveProduct(product.getId(), buyerId);
+                }));
+            }
+            startGate.countDown();
+            
+            List<ProductResponse> reserved = new ArrayList<>();
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<ProductResponse> result : results) {
+                try {
+                    reserved.add(result.get(30, TimeUnit.SECONDS));
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            
+            assertThat(reserved).hasSize(1);
+            assertThat(failures).hasSize(BUYER_COUNT - 1)
+                    .allSatisfy(failure -> assertThat(failure).isInstanceOf(ConflictException.class));
+            assertThat(reserved.get(0).getStatus()).isEqualTo(Product.ProductStatus.RESERVED.name());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    void unknownBuyerIsRejected() {
+        Product product = saveWaitingProduct();
+        
+        assertThatThrownBy(() -> productService.reserveProduct(product.getId(), Long.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("구매자를 찾을 수 없습니다.");
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStatus())
+                .isEqualTo(Product.ProductStatus.WAITING);
+    }
+    
+    private Product saveWaitingProduct() {
+        Category category = categoryRepository.save(Category.builder().name("전자기기").build());
+        User seller = userRepository.save(User.builder().email("seller@snu.ac.kr").nickname("seller").build());
+        return productRepository.save(Product.builder()
+                .title("노트북")
+                .description("상태 좋은 노트북입니다")
+                .price(500000)
+                .status(Product.ProductStatus.WAITING)
+                .seller(seller)
+                .category(category)
+                .build());
+    }
+}
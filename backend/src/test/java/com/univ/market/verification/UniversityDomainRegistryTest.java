@@ -0,0 +1,83 @@
+package com.univ.market.verification;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 도메인 레이블 트라이로 대학교 이메일을 판단하고 이메일 도메인의 대학교 이름을 찾는지 확인하는 테스트
+ */
+class UniversityDomainRegistryTest {
+    
+    @Test
+    void resolvesRegisteredDomainsAndSubdomains() throws IOException {
+        UniversityDomainRegistry registry = new UniversityDomainRegistry(new StringReader("""
+                # 주석
+                domain,name
+                snu.ac.kr,서울대학교
+                skku.edu,성균관대학교
+                """));
+        
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.findUniversityName("snu.ac.kr")).isEqualTo("서울대학교");
+        assertThat(registry.findUniversityName("mail.snu.ac.kr")).isEqualTo("서울대학교");
+        assertThat(registry.findUniversityName("SNU.AC.KR")).isEqualTo("서울대학교");
+        assertThat(registry.findUniversityName("g.skku.edu")).isEqualTo("성균관대학교");
+        assertThat(registry.findUniversityNameByEmail("student@mail.snu.ac.kr")).isEqualTo("서울대학교");
+        
+        // 레이블 단위로 비교하므로 문자열만 겹치는 도메인은 서울대학교로 인식되지 않음
+        assertThat(registry.findUniversityName("xsnu.ac.kr")).isEqualTo("xsnu대학교");
+        assertThat(registry.findUniversityNameByEmail("snu.ac.kr")).isNull();
+        assertThat(registry.findUniversityNameByEmail(null)).isNull();
+    }
+    
+    @Test
+    void suffixDecidesUniversityEmailAndUnlistedSchoolsGetFallbackName() throws IOException {
+        UniversityDomainRegistry registry = new UniversityDomainRegistry(new StringReader("""
+                snu.ac.kr,서울대학교
+                """));
+        
+        // 목록에 없는 학교도 대학교 도메인이면 인정하고, 접미사 바로 앞 레이블로 이름을 만듦
+        assertThat(registry.isUniversityEmail("student@unknown.ac.kr")).isTrue();
+        assertThat(registry.findUniversityName("mail.unknown.ac.kr")).isEqualTo("unknown대학교");
+        assertThat(registry.findUniversityName("mit.edu")).isEqualTo("mit대학교");
+        
+        // 접미사 자체, 다른 도메인 아래에 있는 목록 도메인, 대학교가 아닌 도메인은 인정하지 않음
+        assertThat(registry.isUniversityEmail("student@ac.kr")).isFalse();
+        assertThat(registry.isUniversityEmail("student@.ac.kr")).isFalse();
+        assertThat(registry.isUniversityEmail("student@snu.ac.kr.example.com")).isFalse();
+        assertThat(registry.isUniversityEmail("student@gmail.com")).isFalse();
+        assertThat(registry.isUniversityEmail("student@naver.kr")).isFalse();
+    }
+    
+    @Test
+    void longestRegisteredDomainWins() throws IOException {
+        UniversityDomainRegistry registry = new UniversityDomainRegistry(new StringReader("""
+                korea.ac.kr,고려대학교
+                sejong.korea.ac.kr,고려대학교 세종캠퍼스
+                """));
+        
+        assertThat(registry.findUniversityName("korea.ac.kr")).isEqualTo("고려대학교");
+        assertThat(registry.findUniversityName("mail.sejong.korea.ac.kr")).isEqualTo("고려대학교 세종캠퍼스");
+    }
+    
+    @Test
+    void malformedLineIsRejected() {
+        assertThatThrownBy(() -> new UniversityDomainRegistry(new StringReader("snu.ac.kr\n")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+    
+    @Test
+    void bundledDomainListLoads() {
+        UniversityDomainRegistry registry = new UniversityDomainRegistry(
+                new ClassPathResource("university-domains.csv"));
+        
+        assertThat(registry.size()).isGreaterThan(0);
+        assertThat(registry.findUniversityName("yonsei.ac.kr")).isEqualTo("연세대학교");
+    }
+}
@@ -0,0 +1,96 @@
+package com.univ.market.verification;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 메모리에 보관한 인증 코드의 확인, 시도 횟수 제한, 타이밍 휠 만료를 확인하는 테스트
+ */
+class VerificationCodeStoreTest {
+    
+    private static final String EMAIL = "student@snu.ac.kr";
+    
+    private VerificationCodeStore store;
+    
+    @Test
+    void codeCanBeVerifiedOnlyOnceByRequestingUser() {
+        store = new VerificationCodeStore(60_000, 5, 0, 10);
+        String code = store.issue(1L, EMAIL);
+        
+        // 다른 사용자는 확인할 수 없음
+        assertThatThrownBy(() -> store.verify(2L, EMAIL, code)).isInstanceOf(IllegalArgumentException.class);
+        
+        PendingVerification verification = store.verify(1L, EMAIL, code);
+        assertThat(verification.getUserId()).isEqualTo(1L);
+        assertThat(verification.getEmail()).isEqualTo(EMAIL);
+        assertThat(store.size()).isZero();
+        
+        assertThatThrownBy(() -> store.verify(1L, EMAIL, code)).isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    void reissuedCodeReplacesPreviousOne() {
+        store = new VerificationCodeStore(60_000, 5, 0, 10);
+        String first = store.issue(1L, EMAIL);
+        String second = store.issue(1L, EMAIL);
+        assertThat(store.size()).isEqualTo(1);
+        
+        if (!first.equals(second)) {
+            assertThatThrownBy(() -> store.verify(1L, EMAIL, first)).isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(store.verify(1L, EMAIL, second).getVerificationCode()).isEqualTo(second);
+    }
+    
+    @Test
+    void resendWithinIntervalIsRejected() {
+        store = new VerificationCodeStore(60_000, 5, 60_000, 10);
+        store.issue(1L, EMAIL);
+        
+        assertThatThrownBy(() -> store.issue(1L, EMAIL)).isInstanceOf(IllegalStateException.class);
+    }
+    
+    @Test
+    void codeIsDiscardedAfterMaxAttempts() {
+        store = new VerificationCodeStore(60_000, 3, 0, 10);
+        String code = store.issue(1L, EMAIL);
+        String wrong = code.equals("000000") ? "111111" : "000000";
+        
+        assertThatThrownBy(() -> store.verify(1L, EMAIL, wrong)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.verify(1L, EMAIL, wrong)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.verify(1L, EMAIL, wrong)).isInstanceOf(IllegalStateException.class);
+        
+        // 올바른 코드도 폐기된 뒤에는 사용할 수 없음
+        assertThat(store.size()).isZero();
+        assertThatThrownBy(() -> store.verify(1L, EMAIL, code)).isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    void expiredCodesAreRemovedByTimingWheel() throws InterruptedException {
+        store = new VerificationCodeStore(50, 5, 0, 10);
+        for (int i = 0; i < 100; i++) {
+            store.issue((long) i, "student" + i + "@snu.ac.kr");
+        }
+        assertThat(store.size()).isEqualTo(100);
+        
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (store.size() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            store.expire();
+        }
+        assertThat(store.size()).isZero();
+    }
+    
+    @Test
+    void ttlLongerThanOneWheelRevolutionSurvivesUntilDeadline() throws InterruptedException {
+        // 틱 1ms, 휠 512칸 -> 한 바퀴 약 0.5초보다 긴 만료 시간
+        store = new VerificationCodeStore(2_000, 5, 0, 1);
+        String code = store.issue(1L, EMAIL);
+        
+        Thread.sleep(800);
+        store.expire();
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.verify(1L, EMAIL, code).getUserId()).isEqualTo(1L);
+    }
+}
@@ -73,10 +73,17 @@ const ChatList = ({ chatRooms, isLoading }) => {
                 </span>
               </div>
 
-              {/* 최근 메시지 내용 */}
-              <p className="text-sm text-gray-500 truncate">
-                {room.lastMessage ? room.lastMessage.content : '채팅을 시작해보세요'}
-              </p>
+              {/* 최근 메시지 내용과 안 읽은 메시지 수 */}
+              <div className="flex justify-between items-center">
+                <p className="text-sm text-gray-500 truncate">
+                  {room.lastMessage ? room.lastMessage.content : '채팅을 시작해보세요'}
+                </p>
+                {room.unreadCount > 0 && (
+                  <span className="ml-2 flex-shrink-0 px-2 py-0.5 text-xs text-white bg-red-500 rounded-full">
+                    {room.unreadCount > 99 ? '99+' : room.unreadCount}
+                  </span>
+                )}
+              </div>
 
               {/* 상대방 정보 */}
               <div className="mt-1 flex items-center text-xs text-gray-500">
@@ -2,10 +2,36 @@ import React, { useState, useEffect, useRef } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { useAuth } from '../../hooks/useAuth';
 import { formatDate } from '../../utils/format';
-import { getChatMessages, sendChatMessage } from '../../services/chatApi';
+import { getChatMessages, sendChatMessage, syncChatMessages } from '../../services/chatApi';
 import { reserveProduct, completeTransaction } from '../../services/productApi';
 import ChatMessage from './ChatMessage';
 
+/**
+ * 메시지 목록에서 마지막 메시지의 채팅방 내 순번을 반환 (순번 도입 전 메시지만 있으면 0)
+ *
+ * @param {Array} list - 메시지 목록 (순번 오름차순)
+ * @returns {number} 마지막 메시지 순번
+ */
+const lastSequenceOf = (list) => {
+  const last = list[list.length - 1];
+  return (last && last.roomSequence) || 0;
+};
+
+/**
+ * 기존 메시지 목록에 새 메시지를 합침
+ * 이미 있는 메시지는 제외하고, 채팅방 내 순번 순서로 정렬합니다. (순번이 없는 이전 메시지는 앞에 그대로 둠)
+ *
+ * @param {Array} prev - 기존 메시지 목록
+ * @param {Array} incoming - 새 메시지 목록
+ * @returns {Array} 합친 메시지 목록
+ */
+const mergeMessages = (prev, incoming) => {
+  const knownIds = new Set(prev.map((msg) => msg.id));
+  const added = incoming.filter((msg) => !knownIds.has(msg.id));
+  if (added.length === 0) return prev;
+  return [...prev, ...added].sort((a, b) => (a.roomSequence || 0) - (b.roomSequence || 0));
+};
+
 /**
  * 채팅방 컴포넌트
  * 실시간 메시지 송수신 및 거래 관련 기능을 제공합니다.
@@ -20,6 +46,9 @@ const ChatRoom = ({ roomId, chatRoom, onRefreshRooms }) => {
   const navigate = useNavigate();
   // 메시지 관련 상태
   const [messages, setMessages] = useState([]);
+  // 이전 메시지 조회용 커서 (없으면 더 이상 이전 메시지 없음)
+  const [olderCursor, setOlderCursor] = useState(null);
+  const [isLoadingOlder, setIsLoadingOlder] = useState(false);
   const [message, setMessage] = useState('');
   // 로딩 및 에러 상태
   const [isLoading, setIsLoading] = useState(true);
@@ -27,12 +56,25 @@ const ChatRoom = ({ roomId, chatRoom, onRefreshRooms }) => {
   // 거래 상태 관련
   const [isReserving, setIsReserving] = useState(false);
   const [isCompleting, setIsCompleting] = useState(false);
+  // 상대방 입력 중 표시
+  const [isPeerTyping, setIsPeerTyping] = useState(false);
 
   // DOM 참조
   const messagesEndRef = useRef(null);
   const messageAreaRef = useRef(null);
   // WebSocket 클라이언트 참조
   const stompClientRef = useRef(null);
+  // 이전 메시지를 앞에 붙일 때는 맨 아래로 스크롤하지 않음
+  const skipScrollRef = useRef(false);
+  // 입력 중 이벤트 전송 시각 (너무 자주 보내지 않도록 함)
+  const lastTypingSentRef = useRef(0);
+  // 상대방 입력 중 표시 자동 해제 타이머
+  const peerTypingTimerRef = useRef(null);
+  // 빠짐없이 받은 마지막 메시지 순번 (재연결, 순번 누락 시 동기화 기준)
+  const lastSequenceRef = useRef(0);
+  // 동기화 진행 중 여부와, 진행 중에 다시 동기화가 필요해졌는지 여부
+  const syncingRef = useRef(false);
+  const syncAgainRef = useRef(false);
 
   /**
    * 채팅 메시지 로드 함수
@@ -48,7 +90,9 @@ const ChatRoom = ({ roomId, chatRoom, onRefreshRooms }) => {
       try {
         // 메시지 목록 가져오기 API 호출
         const data = await getChatMessages(roomId);
-        setMessages(data);
+        lastSequenceRef.current = lastSequenceOf(data.content);
+        setMessages(data.content);
+        setOlderCursor(data.nextCursor);
       } catch (err) {
         console.error('메시지 로딩 오류:', err);
         setError('메시지를 불러오는 중 오류가 발생했습니다.');
@@ -67,6 +111,43 @@ const ChatRoom = ({ roomId, chatRoom, onRefreshRooms }) => {
   useEffect(() => {
     if (!roomId || !user) return;
 
+    // 마지막으로 받은 순번 이후의 메시지를 가져옴 (연결이 끊긴 동안 놓쳤거나 순번이 건너뛴 경우)
+    // 밀린 메시지가 많으면 최신 메시지부터 다시 조회
+    const syncMissedMessages = async () => {
+      if (syncingRef.current) {
+        syncAgainRef.current = true;
+        return;
+      }
+      syncingRef.current = true;
+
+      try {
+        do {
+          syncAgainRef.current = false;
+          const data = await syncChatMessages({ [roomId]: lastSequenceRef.current });
+          if (data.resyncRoomIds.some((id) => String(id) === String(roomId))) {
+            const latest = await getChatMessages(roomId);
+            lastSequenceRef.current = lastSequenceOf(latest.content);
+            setMessages(latest.content);
+            setOlderCursor(latest.nextCursor);
+          } else {
+            const synced = data.lastSequences[roomId];
+            if (synced !== undefined && synced > lastSequenceRef.current) {
+              lastSequenceRef.current = synced;
+            }
+            if (data.messages.length > 0) {
+              setMessages((prev) => mergeMessages(prev, data.messages));
+            }
+          }
+        } while (syncAgainRef.current);
+      } catch (err) {
+        console.error('메시지 동기화 오류:', err);
+      } finally {
+        syncingRef.current = false;
+      }
+    };
+
+    let connectedBefore = false;
+
     const connectWebSocket = () => {
       const SockJS = require('sockjs-client');
       const Stomp = require('stompjs');
@@ -81,10 +162,41 @@ const ChatRoom = ({ roomId, chatRoom, onRefreshRooms }) => {
           Authorization: `Bearer ${localStorage.getItem('token')}`,
         },
         () => {
+          // 재연결이면 끊긴 동안의 메시지 동기화
+          if (connectedBefore) {
+            syncMissedMessages();
+          }
+          connectedBefore = true;
+
           // 채팅방 구독 (메시지 수신 시 처리)
           client.subscribe(`/topic/chat/${roomId}`, (message) => {
             const receivedMessage = JSON.parse(message.body);
-            setMessages((prev) => [...prev, receivedMessage]);
+            const sequence = receivedMessage.roomSequence;
+            if (sequence && sequence > lastSequenceRef.current + 1) {
+              // 중간 순번을 받지 못함: 받은 메시지는 표시하고 빠진 메시지는 동기화로 채움
+              syncMissedMessages();
+            } else if (sequence && sequence === lastSequenceRef.current + 1) {
+              lastSequenceRef.current = sequence;
+            }
+            setMessages((prev) => mergeMessages(prev, [receivedMessage]));
+            if (receivedMessage.senderId !== user.id) {
+              setIsPeerTyping(false);
+            }
+          });
+
+          // 채팅방 이벤트 구독 (입력 중 표시, 저장되지 않음)
+          client.subscribe(`/topic/chat/${roomId}/events`, (frame) => {
+            const event = JSON.parse(frame.body);
+            if (event.userId === user.id) return;
+
+            clearTimeout(peerTypingTimerRef.current);
+            if (event.type === 'TYPING') {
+              setIsPeerTyping(true);
+              // 입력 중단 이벤트를 받지 못해도 일정 시간 후 표시 해제
+              peerTypingTimerRef.current = setTimeout(() => setIsPeerTyping(false), 5000);
+            } else if (event.type === 'TYPING_STOPPED') {
+              setIsPeerTyping(false);
+            }
           });
         },
         (error) => {
@@ -100,21 +212,98 @@ const ChatRoom = ({ roomId, chatRoom, onRefreshRooms }) => {
 
     // 컴포넌트 언마운트 시 WebSocket 연결 해제
     return () => {
+      clearTimeout(peerTypingTimerRef.current);
       if (stompClientRef.current && stompClientRef.current.connected) {
         stompClientRef.current.disconnect();
       }
     };
   }, [roomId, user]);
 
+  /**
+   * 채팅방 이벤트 전송 (입력 중 표시 등)
+   *
+   * @param {string} type - 이벤트 종류 (TYPING, TYPING_STOPPED)
+   */
+  const sendChatEvent = (type) => {
+    const client = stompClientRef.current;
+    if (!client || !client.connected) return;
+
+    client.send(
+      `/app/chat/${roomId}/events`,
+      { Authorization: `Bearer ${localStorage.getItem('token')}` },
+      JSON.stringify({ type }),
+    );
+  };
+
+  /**
+   * 메시지 입력 처리
+   * 입력 중 이벤트는 2초에 한 번만 보내고, 입력이 비워지면 입력 중단 이벤트를 보냅니다.
+   */
+  const handleMessageChange = (e) => {
+    const value = e.target.value;
+    setMessage(value);
+
+    const now = Date.now();
+    if (!value) {
+      lastTypingSentRef.current = 0;
+      sendChatEvent('TYPING_STOPPED');
+    } else if (now - lastTypingSentRef.current > 2000) {
+      lastTypingSentRef.current = now;
+      sendChatEvent('TYPING');
+    }
+  };
+
+  /**
+   * 읽음 처리 전송
+   * 메시지 목록의 마지막 메시지까지 읽었음을 서버에 알립니다.
+   */
+  useEffect(() => {
+    const lastMessage = messages[messages.length - 1];
+    if (!lastMessage || !lastMessage.id) return;
+
+    const client = stompClientRef.current;
+    if (!client || !client.connected) return;
+
+    client.send(
+      `/app/chat/${roomId}/read`,
+      { Authorization: `Bearer ${localStorage.getItem('token')}` },
+      JSON.stringify({ lastReadMessageId: lastMessage.id }),
+    );
+  }, [messages, roomId]);
+
   /**
    * 새 메시지가 추가될 때마다 스크롤을 맨 아래로 이동
    */
   useEffect(() => {
+    if (skipScrollRef.current) {
+      skipScrollRef.current = false;
+      return;
+    }
     if (messagesEndRef.current) {
       messagesEndRef.current.scrollIntoView({ behavior: 'smooth' });
     }
   }, [messages]);
 
+  /**
+   * 이전 메시지 로드 함수
+   * 현재 가장 오래된 메시지 이전의 메시지를 가져와 목록 앞에 붙입니다.
+   */
+  const handleLoadOlderMessages = async () => {
+    if (!olderCursor || isLoadingOlder) return;
+
+    setIsLoadingOlder(true);
+    try {
+      const data = await getChatMessages(roomId, olderCursor);
+      skipScrollRef.current = true;
+      setMessages((prev) => [...data.content, ...prev]);
+      setOlderCursor(data.nextCursor);
+    } catch (err) {
+      console.error('이전 메시지 로딩 오류:', err);
+    } finally {
+      setIsLoadingOlder(false);
+    }
+  };
+
   /**
    * 메시지 전송 처리 함수
    */
@@ -131,7 +320,6 @@ const ChatRoom = ({ roomId, chatRoom, onRefreshRooms }) => {
           { Authorization: `Bearer ${localStorage.getItem('token')}` },
           JSON.stringify({
             chatRoomId: roomId,
-            senderId: user.id,
             content: message.trim(),
           }),
         );
@@ -140,11 +328,14 @@ const ChatRoom = ({ roomId, chatRoom, onRefreshRooms }) => {
         await sendChatMessage(roomId, message.trim());
         // 메시지 목록 갱신
         const updatedMessages = await getChatMessages(roomId);
-        setMessages(updatedMessages);
+        lastSequenceRef.current = lastSequenceOf(updatedMessages.content);
+        setMessages(updatedMessages.content);
+        setOlderCursor(updatedMessages.nextCursor);
       }
 
       // 입력창 초기화
       setMessage('');
+      lastTypingSentRef.current = 0;
 
       // 채팅방 목록 갱신 (최근 메시지 정보 업데이트)
       if (onRefreshRooms) {
@@ -179,7 +370,6 @@ const ChatRoom = ({ roomId, chatRoom, onRefreshRooms }) => {
           { Authorization: `Bearer ${localStorage.getItem('token')}` },
           JSON.stringify({
             chatRoomId: roomId,
-            senderId: user.id,
             content: '🔔 상품이 예약되었습니다.',
           }),
         );
@@ -222,7 +412,6 @@ const ChatRoom = ({ roomId, chatRoom, onRefreshRooms }) => {
           { Authorization: `Bearer ${localStorage.getItem('token')}` },
           JSON.stringify({
             chatRoomId: roomId,
-            senderId: user.id,
             content: '✅ 거래가 완료되었습니다.',
           }),
         );
@@ -410,6 +599,18 @@ const ChatRoom = ({ roomId, chatRoom, onRefreshRooms }) => {
         ) : (
           // 메시지 목록 표시
           <div className="space-y-4">
+            {/* 이전 메시지 더보기 */}
+            {olderCursor && (
+              <div className="text-center">
+                <button
+                  onClick={handleLoadOlderMessages}
+                  disabled={isLoadingOlder}
+                  className="text-sm text-indigo-600 hover:underline disabled:text-gray-400"
+                >
+                  {isLoadingOlder ? '불러오는 중...' : '이전 메시지 보기'}
+                </button>
+              </div>
+            )}
             {messages.map((msg, index) => (
               <ChatMessage
                 key={msg.id || index}
@@ -418,6 +619,10 @@ const ChatRoom = ({ roomId, chatRoom, onRefreshRooms }) => {
                 prevMessage={index > 0 ? messages[index - 1] : null}
               />
             ))}
+            {/* 상대방 입력 중 표시 */}
+            {isPeerTyping && (
+              <div className="text-sm text-gray-500">상대방이 입력 중입니다...</div>
+            )}
             {/* 스크롤 참조 지점 */}
             <div ref={messagesEndRef} />
           </div>
@@ -430,7 +635,7 @@ const ChatRoom = ({ roomId, chatRoom, onRefreshRooms }) => {
           <input
             type="text"
             value={message}
-            onChange={(e) => setMessage(e.target.value)}
+            onChange={handleMessageChange}
             placeholder="메시지를 입력하세요..."
             className="flex-1 px-4 py-2 border border-gray-300 rounded-l-md focus:outline-none focus:ring-2 focus:ring-indigo-500"
           />
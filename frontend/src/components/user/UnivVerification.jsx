@@ -1,6 +1,7 @@
 import React, { useState } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { sendVerificationEmail, verifyUnivEmail } from '../../services/userApi';
+import { useAuth } from '../../hooks/useAuth';
 
 /**
  * 대학교 이메일 인증 컴포넌트
@@ -10,6 +11,7 @@ import { sendVerificationEmail, verifyUnivEmail } from '../../services/userApi';
  */
 const UnivVerification = () => {
   const navigate = useNavigate();
+  const { login } = useAuth();
   // 입력값 상태
   const [email, setEmail] = useState('');
   const [verificationCode, setVerificationCode] = useState('');
@@ -70,8 +72,10 @@ const UnivVerification = () => {
     setIsLoading(true);
     try {
       // 인증 코드 확인 API 호출
-      const isVerified = await verifyUnivEmail({ email, verificationCode });
-      if (isVerified) {
+      const result = await verifyUnivEmail({ email, verificationCode });
+      if (result.verified) {
+        // 인증 정보가 반영된 새 토큰으로 교체 (이전 토큰은 무효화됨)
+        await login(result.token);
         alert('대학교 인증이 완료되었습니다!');
         navigate('/');
       } else {
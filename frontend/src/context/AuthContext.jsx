@@ -1,5 +1,5 @@
 import React, { createContext, useState, useEffect } from 'react';
-import { getCurrentUser } from '../services/authApi';
+import { getCurrentUser, logout as logoutApi } from '../services/authApi';
 
 /**
  * 인증 상태 관리를 위한 Context
@@ -75,11 +75,17 @@ export const AuthProvider = ({ children }) => {
 
   /**
    * 로그아웃 처리 함수
+   * 서버에서 토큰을 무효화한 뒤 로그인 상태를 해제합니다.
    */
-  const logout = () => {
-    localStorage.removeItem('token');
-    setUser(null);
-    setIsAuthenticated(false);
+  const logout = async () => {
+    try {
+      await logoutApi();
+    } catch (error) {
+      console.error('로그아웃 요청 실패:', error);
+    } finally {
+      setUser(null);
+      setIsAuthenticated(false);
+    }
   };
 
   /**
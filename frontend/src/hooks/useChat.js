@@ -72,10 +72,9 @@ export const useChat = (roomId, token) => {
    * 메시지 전송 함수
    *
    * @param {string} content - 메시지 내용
-   * @param {number} senderId - 발신자 ID
    * @returns {boolean} 전송 성공 여부
    */
-  const sendMessage = (content, senderId) => {
+  const sendMessage = (content) => {
     if (status !== 'connected') return false;
 
     stompClientRef.current.send(
@@ -83,7 +82,6 @@ export const useChat = (roomId, token) => {
       { Authorization: `Bearer ${token}` },
       JSON.stringify({
         chatRoomId: roomId,
-        senderId,
         content,
       }),
     );
@@ -25,7 +25,7 @@ const ChatPage = () => {
       try {
         // 채팅방 목록 API 호출
         const rooms = await getChatRooms();
-        setChatRooms(rooms);
+        setChatRooms(rooms.content);
 
         // URL에 roomId가 있으면 선택된 채팅방 정보 가져오기
         if (roomId) {
@@ -50,7 +50,7 @@ const ChatPage = () => {
     try {
       // 채팅방 목록 새로 가져오기
       const rooms = await getChatRooms();
-      setChatRooms(rooms);
+      setChatRooms(rooms.content);
 
       // 선택된 채팅방이 있으면 해당 정보도 갱신
       if (roomId) {
@@ -1,19 +1,32 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef, useCallback } from 'react';
 import { useLocation, useParams } from 'react-router-dom';
 import ProductList from '../components/product/ProductList';
-import { getAllProducts, searchProducts, getProductsByCategory } from '../services/productApi';
+import {
+  getProductsByCursor,
+  searchProductsByCursor,
+  getProductsByCategoryCursor,
+} from '../services/productApi';
+
+// 한 번에 가져올 상품 수
+const PAGE_SIZE = 20;
 
 /**
  * 상품 목록 페이지 컴포넌트
  * 전체 상품, 카테고리별 상품, 검색 결과 등을 표시합니다.
+ * 커서 기반 API로 다음 구간을 이어서 불러오며(무한 스크롤), 목록 끝에 닿거나 '더 보기'를 누르면 다음 구간을 가져옵니다.
  */
 const ProductListPage = () => {
-  // 상품 목록 및 페이지네이션 상태
+  // 상품 목록 및 다음 구간 상태
   const [products, setProducts] = useState([]);
   const [isLoading, setIsLoading] = useState(true);
-  const [currentPage, setCurrentPage] = useState(0);
-  const [totalPages, setTotalPages] = useState(0);
-  const [totalElements, setTotalElements] = useState(0);
+  const [isLoadingMore, setIsLoadingMore] = useState(false);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [hasNext, setHasNext] = useState(false);
+
+  // 조건이 바뀐 뒤 늦게 도착한 이전 조건의 응답을 무시하기 위한 요청 번호
+  const requestIdRef = useRef(0);
+  // 목록 끝 감지용 요소
+  const sentinelRef = useRef(null);
 
   // URL 파라미터 추출
   const { categoryId } = useParams();
@@ -21,48 +34,98 @@ const ProductListPage = () => {
   const searchParams = new URLSearchParams(location.search);
   const keyword = searchParams.get('keyword');
 
-  // 페이지 로딩 시 상품 목록 가져오기
+  /**
+   * 현재 조건에 맞는 커서 기반 API를 호출하는 함수
+   * @param {string|null} cursor - 이전 응답의 nextCursor (첫 구간이면 null)
+   * @returns {Promise<Object>} 상품 목록(content), 다음 커서(nextCursor), 다음 구간 존재 여부(hasNext)
+   */
+  const fetchSlice = useCallback(
+    (cursor) => {
+      if (keyword) {
+        // 검색 키워드가 있는 경우
+        return searchProductsByCursor(keyword, cursor, PAGE_SIZE);
+      }
+      if (categoryId) {
+        // 카테고리별 조회
+        return getProductsByCategoryCursor(categoryId, cursor, PAGE_SIZE);
+      }
+      // 전체 상품 조회
+      return getProductsByCursor(cursor, PAGE_SIZE);
+    },
+    [categoryId, keyword]
+  );
+
+  // 조건이 바뀌면 첫 구간부터 다시 가져오기
   useEffect(() => {
-    const fetchProducts = async () => {
+    const requestId = ++requestIdRef.current;
+
+    const fetchFirstSlice = async () => {
       setIsLoading(true);
+      setProducts([]);
+      setNextCursor(null);
+      setHasNext(false);
       try {
-        let response;
-
-        // 검색 조건에 따라 다른 API 호출
-        if (keyword) {
-          // 검색 키워드가 있는 경우
-          response = await searchProducts(keyword, { page: currentPage, size: 20 });
-        } else if (categoryId) {
-          // 카테고리별 조회
-          response = await getProductsByCategory(categoryId, { page: currentPage, size: 20 });
-        } else {
-          // 전체 상품 조회
-          response = await getAllProducts({ page: currentPage, size: 20 });
+        const response = await fetchSlice(null);
+        if (requestId !== requestIdRef.current) {
+          return;
         }
-
-        // 응답 데이터 설정
         setProducts(response.content);
-        setTotalPages(response.totalPages);
-        setTotalElements(response.totalElements);
+        setNextCursor(response.nextCursor);
+        setHasNext(response.hasNext);
       } catch (error) {
         console.error('상품 목록 불러오기 오류:', error);
       } finally {
-        setIsLoading(false);
+        if (requestId === requestIdRef.current) {
+          setIsLoading(false);
+        }
       }
     };
 
-    fetchProducts();
+    fetchFirstSlice();
     // 페이지 상단으로 스크롤
     window.scrollTo(0, 0);
-  }, [categoryId, keyword, currentPage]);
+  }, [fetchSlice]);
 
   /**
-   * 페이지 변경 처리 함수
-   * @param {number} page - 이동할 페이지 번호
+   * 다음 구간을 가져와 목록 뒤에 붙이는 함수
    */
-  const handlePageChange = (page) => {
-    setCurrentPage(page);
-  };
+  const loadMore = useCallback(async () => {
+    if (!hasNext || isLoading || isLoadingMore) {
+      return;
+    }
+
+    const requestId = requestIdRef.current;
+    setIsLoadingMore(true);
+    try {
+      const response = await fetchSlice(nextCursor);
+      if (requestId !== requestIdRef.current) {
+        return;
+      }
+      setProducts((prev) => [...prev, ...response.content]);
+      setNextCursor(response.nextCursor);
+      setHasNext(response.hasNext);
+    } catch (error) {
+      console.error('상품 목록 추가 불러오기 오류:', error);
+    } finally {
+      setIsLoadingMore(false);
+    }
+  }, [fetchSlice, hasNext, isLoading, isLoadingMore, nextCursor]);
+
+  // 목록 끝이 화면에 보이면 다음 구간 가져오기
+  useEffect(() => {
+    const sentinel = sentinelRef.current;
+    if (!sentinel || !hasNext || typeof IntersectionObserver === 'undefined') {
+      return undefined;
+    }
+
+    const observer = new IntersectionObserver((entries) => {
+      if (entries[0].isIntersecting) {
+        loadMore();
+      }
+    });
+    observer.observe(sentinel);
+    return () => observer.disconnect();
+  }, [hasNext, loadMore]);
 
   /**
    * 페이지 제목 생성 함수
@@ -90,67 +153,21 @@ const ProductListPage = () => {
       {/* 페이지 헤더 */}
       <div className="mb-6">
         <h1 className="text-2xl font-bold">{getPageTitle()}</h1>
-        {totalElements > 0 && (
-          <p className="text-gray-500 mt-1">총 {totalElements}개의 상품이 있습니다.</p>
-        )}
       </div>
 
       {/* 상품 목록 */}
       <ProductList products={products} loading={isLoading} />
 
-      {/* 페이지네이션 */}
-      {totalPages > 1 && (
-        <div className="mt-8 flex justify-center">
-          <nav className="flex items-center">
-            {/* 이전 페이지 버튼 */}
-            <button
-              onClick={() => handlePageChange(Math.max(0, currentPage - 1))}
-              disabled={currentPage === 0}
-              className="px-3 py-1 rounded-md border border-gray-300 mr-2 hover:bg-gray-50 disabled:opacity-50"
-            >
-              이전
-            </button>
-
-            {/* 페이지 번호 버튼 */}
-            <div className="flex">
-              {[...Array(Math.min(5, totalPages)).keys()].map((i) => {
-                // 현재 페이지 주변 페이지 표시 로직
-                let pageToShow;
-                if (totalPages <= 5) {
-                  pageToShow = i;
-                } else if (currentPage < 3) {
-                  pageToShow = i;
-                } else if (currentPage > totalPages - 3) {
-                  pageToShow = totalPages - 5 + i;
-                } else {
-                  pageToShow = currentPage - 2 + i;
-                }
-
-                return (
-                  <button
-                    key={pageToShow}
-                    onClick={() => handlePageChange(pageToShow)}
-                    className={`w-8 h-8 mx-1 rounded-md ${
-                      currentPage === pageToShow
-                        ? 'bg-indigo-600 text-white'
-                        : 'border border-gray-300 hover:bg-gray-50'
-                    }`}
-                  >
-                    {pageToShow + 1}
-                  </button>
-                );
-              })}
-            </div>
-
-            {/* 다음 페이지 버튼 */}
-            <button
-              onClick={() => handlePageChange(Math.min(totalPages - 1, currentPage + 1))}
-              disabled={currentPage === totalPages - 1}
-              className="px-3 py-1 rounded-md border border-gray-300 ml-2 hover:bg-gray-50 disabled:opacity-50"
-            >
-              다음
-            </button>
-          </nav>
+      {/* 다음 구간 불러오기 */}
+      {!isLoading && hasNext && (
+        <div ref={sentinelRef} className="mt-8 flex justify-center">
+          <button
+            onClick={loadMore}
+            disabled={isLoadingMore}
+            className="px-4 py-2 rounded-md border border-gray-300 hover:bg-gray-50 disabled:opacity-50"
+          >
+            {isLoadingMore ? '불러오는 중...' : '더 보기'}
+          </button>
         </div>
       )}
     </div>
@@ -10,8 +10,13 @@ export const getCurrentUser = async () => {
 
 /**
  * 로그아웃 처리
- * 로컬 스토리지에서 토큰을 제거합니다.
+ * 서버에 발급된 토큰을 무효화하도록 요청한 뒤 로컬 스토리지에서 토큰을 제거합니다.
+ * 서버 요청이 실패해도 로컬 토큰은 제거합니다.
  */
-export const logout = () => {
-  localStorage.removeItem('token');
+export const logout = async () => {
+  try {
+    await api.post('/users/logout');
+  } finally {
+    localStorage.removeItem('token');
+  }
 };
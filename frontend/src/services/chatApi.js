@@ -1,11 +1,23 @@
 import api from './api';
 
 /**
- * 사용자의 채팅방 목록을 가져오는 API
- * @returns {Promise<Array>} 채팅방 목록
+ * 사용자의 채팅방 목록을 가져오는 API (최근 메시지순)
+ * @param {number} [page=0] - 페이지 번호
+ * @param {number} [size=20] - 페이지 크기
+ * @returns {Promise<Object>} 채팅방 목록(content)과 다음 페이지 존재 여부(last)
  */
-export const getChatRooms = async () => {
-  return api.get('/chat/rooms');
+export const getChatRooms = async (page = 0, size = 20) => {
+  return api.get('/chat/rooms', {
+    params: { page, size },
+  });
+};
+
+/**
+ * 전체 안 읽은 메시지 수를 가져오는 API (배지 표시용)
+ * @returns {Promise<Object>} 전체 안 읽은 메시지 수(totalUnreadCount)
+ */
+export const getUnreadCount = async () => {
+  return api.get('/chat/unread');
 };
 
 /**
@@ -29,12 +41,16 @@ export const createChatRoom = async (productId) => {
 };
 
 /**
- * 채팅방의 메시지 목록을 가져오는 API
+ * 채팅방의 메시지 목록을 가져오는 API (커서 기반)
  * @param {number} roomId - 채팅방 ID
- * @returns {Promise<Array>} 메시지 목록
+ * @param {number} [before] - 기준 메시지 ID (없으면 최신 메시지부터)
+ * @param {number} [size=30] - 가져올 메시지 수
+ * @returns {Promise<Object>} 메시지 목록(content, 오래된 순)과 이전 메시지 커서(nextCursor, hasNext)
  */
-export const getChatMessages = async (roomId) => {
-  return api.get(`/chat/rooms/${roomId}/messages`);
+export const getChatMessages = async (roomId, before, size = 30) => {
+  return api.get(`/chat/rooms/${roomId}/messages`, {
+    params: { before, size },
+  });
 };
 
 /**
@@ -49,3 +65,15 @@ export const sendChatMessage = async (roomId, content) => {
     content,
   });
 };
+
+/**
+ * 재연결 시 채팅방별로 마지막으로 받은 메시지 순번 이후의 메시지를 가져오는 API
+ * @param {Object<string, number>} rooms - 채팅방 ID별 마지막으로 받은 메시지 순번
+ * @param {number} [size=200] - 채팅방별 최대 메시지 수
+ * @returns {Promise<Object>} 새 메시지 목록(messages), 채팅방별 다음 기준 순번(lastSequences), 다시 조회해야 하는 채팅방 ID 목록(resyncRoomIds)
+ */
+export const syncChatMessages = async (rooms, size = 200) => {
+  return api.post('/chat/sync', { rooms }, {
+    params: { size },
+  });
+};
@@ -34,6 +34,38 @@ export const getProductsByCategory = async (categoryId, params = {}) => {
   return api.get(`/products/category/${categoryId}`, { params });
 };
 
+/**
+ * 전체 상품을 커서 기반으로 가져오는 API (무한 스크롤용)
+ * @param {string|null} cursor - 이전 응답의 nextCursor (첫 요청이면 null)
+ * @param {number} size - 가져올 상품 수
+ * @returns {Promise<Object>} 상품 목록(content), 다음 커서(nextCursor), 다음 구간 존재 여부(hasNext)
+ */
+export const getProductsByCursor = async (cursor = null, size = 20) => {
+  return api.get('/products/cursor', { params: { cursor, size } });
+};
+
+/**
+ * 키워드 검색 결과를 커서 기반으로 가져오는 API
+ * @param {string} keyword - 검색 키워드
+ * @param {string|null} cursor - 이전 응답의 nextCursor (첫 요청이면 null)
+ * @param {number} size - 가져올 상품 수
+ * @returns {Promise<Object>} 검색 결과 목록 및 다음 커서
+ */
+export const searchProductsByCursor = async (keyword, cursor = null, size = 20) => {
+  return api.get('/products/search/cursor', { params: { keyword, cursor, size } });
+};
+
+/**
+ * 카테고리별 상품을 커서 기반으로 가져오는 API
+ * @param {number} categoryId - 카테고리 ID
+ * @param {string|null} cursor - 이전 응답의 nextCursor (첫 요청이면 null)
+ * @param {number} size - 가져올 상품 수
+ * @returns {Promise<Object>} 상품 목록 및 다음 커서
+ */
+export const getProductsByCategoryCursor = async (categoryId, cursor = null, size = 20) => {
+  return api.get(`/products/category/${categoryId}/cursor`, { params: { cursor, size } });
+};
+
 /**
  * 상품 상세 정보를 가져오는 API
  * @param {number} id - 상품 ID
@@ -14,7 +14,8 @@ export const sendVerificationEmail = async (email) => {
 /**
  * 대학교 인증 코드를 확인하는 API
  * @param {Object} data - 이메일 및 인증 코드 데이터
- * @returns {Promise<boolean>} 인증 성공 여부
+ * 인증이 끝나면 이전 토큰은 무효화되므로 응답의 새 토큰으로 교체해야 합니다.
+ * @returns {Promise<{verified: boolean, token: string}>} 인증 성공 여부 및 새 토큰
  */
 export const verifyUnivEmail = async (data) => {
   return api.post('/users/verify/confirm', data);